@@ -0,0 +1,73 @@
+package net.xeona.maybe.benchmark;
+
+import java.util.NoSuchElementException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import net.xeona.maybe.Maybe;
+import net.xeona.maybe.MaybeInt;
+
+/**
+ * Compares catching the {@link NoSuchElementException} thrown by {@code get()} on an absent value with and without
+ * {@link Maybe#setSharedAbsentValueException(boolean) shared exceptions}.
+ * <p />
+ * The absent values are read from fields, so that the JIT cannot see that they are absent.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class AbsentValueExceptionBenchmark {
+
+	@Param({ "false", "true" })
+	private boolean shared;
+
+	private Maybe<Object> nothing;
+
+	private MaybeInt noInt;
+
+	@Setup
+	public void setUp() {
+		Maybe.setSharedAbsentValueException(shared);
+		nothing = Maybe.nothing();
+		noInt = MaybeInt.noInt();
+	}
+
+	@TearDown
+	public void tearDown() {
+		Maybe.setSharedAbsentValueException(false);
+	}
+
+	@Benchmark
+	public Object nothingGet() {
+		try {
+			return nothing.get();
+		} catch (NoSuchElementException e) {
+			return e;
+		}
+	}
+
+	@Benchmark
+	public int noIntGet() {
+		try {
+			return noInt.get();
+		} catch (NoSuchElementException e) {
+			return -1;
+		}
+	}
+
+}
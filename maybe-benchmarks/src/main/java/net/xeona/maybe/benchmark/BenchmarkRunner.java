@@ -0,0 +1,27 @@
+package net.xeona.maybe.benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Entry point for the benchmarks jar.
+ * <p />
+ * Accepts the standard JMH command line options and always attaches the {@link GCProfiler}, so that allocation rates
+ * ({@code gc.alloc.rate.norm}, in bytes per operation) are reported alongside the time per operation.
+ */
+public class BenchmarkRunner {
+
+	private BenchmarkRunner() {}
+
+	public static void main(String[] args) throws CommandLineOptionException, RunnerException {
+		Options options = new OptionsBuilder().parent(new CommandLineOptions(args))
+				.include(BenchmarkRunner.class.getPackage().getName() + ".*").addProfiler(GCProfiler.class).build();
+		new Runner(options).run();
+	}
+
+}
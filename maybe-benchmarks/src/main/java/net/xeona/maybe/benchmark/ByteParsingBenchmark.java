@@ -0,0 +1,92 @@
+package net.xeona.maybe.benchmark;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import net.xeona.maybe.MaybeDouble;
+import net.xeona.maybe.MaybeInt;
+import net.xeona.maybe.MaybeLong;
+
+/**
+ * Compares parsing ASCII fields in place from a direct buffer against first decoding them into a {@link String}, as a
+ * reader of a fixed width record would otherwise have to.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ByteParsingBenchmark {
+
+	@Param({ "12345", "12x45" })
+	private String integral;
+
+	@Param({ "1234.5", "12.3.4" })
+	private String decimal;
+
+	private ByteBuffer integralBuffer;
+
+	private ByteBuffer decimalBuffer;
+
+	@Setup
+	public void setUp() {
+		integralBuffer = directBuffer(integral);
+		decimalBuffer = directBuffer(decimal);
+	}
+
+	@Benchmark
+	public MaybeInt maybeIntParseIntOfBuffer() {
+		return MaybeInt.parseInt(integralBuffer, 0, integralBuffer.limit());
+	}
+
+	@Benchmark
+	public MaybeInt maybeIntParseIntOfDecodedString() {
+		return MaybeInt.parseInt(decode(integralBuffer));
+	}
+
+	@Benchmark
+	public MaybeLong maybeLongParseLongOfBuffer() {
+		return MaybeLong.parseLong(integralBuffer, 0, integralBuffer.limit());
+	}
+
+	@Benchmark
+	public MaybeLong maybeLongParseLongOfDecodedString() {
+		return MaybeLong.parseLong(decode(integralBuffer));
+	}
+
+	@Benchmark
+	public MaybeDouble maybeDoubleParseDoubleOfBuffer() {
+		return MaybeDouble.parseDouble(decimalBuffer, 0, decimalBuffer.limit());
+	}
+
+	@Benchmark
+	public MaybeDouble maybeDoubleParseDoubleOfDecodedString() {
+		return MaybeDouble.parseDouble(decode(decimalBuffer));
+	}
+
+	private static ByteBuffer directBuffer(String field) {
+		byte[] bytes = field.getBytes(StandardCharsets.US_ASCII);
+		ByteBuffer buffer = ByteBuffer.allocateDirect(bytes.length);
+		buffer.put(bytes).flip();
+		return buffer;
+	}
+
+	private static String decode(ByteBuffer buffer) {
+		return StandardCharsets.US_ASCII.decode(buffer.duplicate()).toString();
+	}
+
+}
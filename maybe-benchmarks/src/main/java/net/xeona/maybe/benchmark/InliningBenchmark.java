@@ -0,0 +1,317 @@
+package net.xeona.maybe.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import net.xeona.maybe.Maybe;
+import net.xeona.maybe.MaybeBoolean;
+import net.xeona.maybe.MaybeByte;
+import net.xeona.maybe.MaybeChar;
+import net.xeona.maybe.MaybeDouble;
+import net.xeona.maybe.MaybeFloat;
+import net.xeona.maybe.MaybeInt;
+import net.xeona.maybe.MaybeLong;
+import net.xeona.maybe.MaybeShort;
+
+/**
+ * Calls {@code isPresent}, {@code get} and {@code orElse} over a mix of present and absent values of every Maybe type,
+ * to check that each call site sees only the two leaf classes of its type.
+ * <p />
+ * The same loop is also run over a hierarchy local to this benchmark, once with two receiver classes and once with a
+ * deliberately added third. The Maybe benchmarks should score close to {@code bimorphicProbePresenceChecks}; one that
+ * drifts towards {@code megamorphicProbePresenceChecks} means its hierarchy has gained a receiver class and its call
+ * sites no longer inline. To see the inlining decisions themselves, run with
+ * {@code -jvmArgsAppend "-XX:+UnlockDiagnosticVMOptions -XX:+PrintInlining"}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class InliningBenchmark {
+
+	private static final int SIZE = 1024;
+
+	private List<Maybe<Integer>> maybes;
+	private MaybeInt[] maybeInts;
+	private MaybeLong[] maybeLongs;
+	private MaybeDouble[] maybeDoubles;
+	private MaybeFloat[] maybeFloats;
+	private MaybeBoolean[] maybeBooleans;
+	private MaybeChar[] maybeChars;
+	private MaybeByte[] maybeBytes;
+	private MaybeShort[] maybeShorts;
+	private Probe[] bimorphicProbes;
+	private Probe[] megamorphicProbes;
+
+	@Setup
+	public void setUp() {
+		Random random = new Random(42);
+		boolean[] present = new boolean[SIZE];
+		for (int index = 0; index < SIZE; index++) {
+			present[index] = random.nextBoolean();
+		}
+
+		maybes = new ArrayList<>(SIZE);
+		maybeInts = new MaybeInt[SIZE];
+		maybeLongs = new MaybeLong[SIZE];
+		maybeDoubles = new MaybeDouble[SIZE];
+		maybeFloats = new MaybeFloat[SIZE];
+		maybeBooleans = new MaybeBoolean[SIZE];
+		maybeChars = new MaybeChar[SIZE];
+		maybeBytes = new MaybeByte[SIZE];
+		maybeShorts = new MaybeShort[SIZE];
+		bimorphicProbes = new Probe[SIZE];
+		megamorphicProbes = new Probe[SIZE];
+		for (int index = 0; index < SIZE; index++) {
+			maybes.add(present[index] ? Maybe.just(index) : Maybe.<Integer> nothing());
+			maybeInts[index] = present[index] ? MaybeInt.justInt(index) : MaybeInt.noInt();
+			maybeLongs[index] = present[index] ? MaybeLong.justLong(index) : MaybeLong.noLong();
+			maybeDoubles[index] = present[index] ? MaybeDouble.justDouble(index) : MaybeDouble.nothing();
+			maybeFloats[index] = present[index] ? MaybeFloat.justFloat(index) : MaybeFloat.nothing();
+			maybeBooleans[index] = present[index] ? MaybeBoolean.justBoolean(index % 3 == 0) : MaybeBoolean.noBoolean();
+			maybeChars[index] = present[index] ? MaybeChar.justChar((char) index) : MaybeChar.nothing();
+			maybeBytes[index] = present[index] ? MaybeByte.justByte((byte) index) : MaybeByte.noByte();
+			maybeShorts[index] = present[index] ? MaybeShort.justShort((short) index) : MaybeShort.noShort();
+			bimorphicProbes[index] = present[index] ? new PresentProbe(index) : AbsentProbe.INSTANCE;
+			if (!present[index]) {
+				megamorphicProbes[index] = AbsentProbe.INSTANCE;
+			} else if (index % 2 == 0) {
+				megamorphicProbes[index] = new PresentProbe(index);
+			} else {
+				megamorphicProbes[index] = new OtherPresentProbe(index);
+			}
+		}
+	}
+
+	@Benchmark
+	public long maybePresenceChecks() {
+		long sum = 0;
+		for (Maybe<Integer> element : maybes) {
+			if (element.isPresent()) {
+				sum += element.get();
+			}
+			sum += element.orElse(-1);
+		}
+		return sum;
+	}
+
+	@Benchmark
+	public long maybeIntPresenceChecks() {
+		long sum = 0;
+		for (MaybeInt element : maybeInts) {
+			if (element.isPresent()) {
+				sum += element.get();
+			}
+			sum += element.orElse(-1);
+		}
+		return sum;
+	}
+
+	@Benchmark
+	public long maybeLongPresenceChecks() {
+		long sum = 0;
+		for (MaybeLong element : maybeLongs) {
+			if (element.isPresent()) {
+				sum += element.get();
+			}
+			sum += element.orElse(-1L);
+		}
+		return sum;
+	}
+
+	@Benchmark
+	public double maybeDoublePresenceChecks() {
+		double sum = 0;
+		for (MaybeDouble element : maybeDoubles) {
+			if (element.isPresent()) {
+				sum += element.get();
+			}
+			sum += element.orElse(-1.0);
+		}
+		return sum;
+	}
+
+	@Benchmark
+	public double maybeFloatPresenceChecks() {
+		double sum = 0;
+		for (MaybeFloat element : maybeFloats) {
+			if (element.isPresent()) {
+				sum += element.get();
+			}
+			sum += element.orElse(-1.0f);
+		}
+		return sum;
+	}
+
+	@Benchmark
+	public int maybeBooleanPresenceChecks() {
+		int sum = 0;
+		for (MaybeBoolean element : maybeBooleans) {
+			if (element.isPresent() && element.get()) {
+				sum++;
+			}
+			if (element.orElse(false)) {
+				sum++;
+			}
+		}
+		return sum;
+	}
+
+	@Benchmark
+	public long maybeCharPresenceChecks() {
+		long sum = 0;
+		for (MaybeChar element : maybeChars) {
+			if (element.isPresent()) {
+				sum += element.get();
+			}
+			sum += element.orElse('-');
+		}
+		return sum;
+	}
+
+	@Benchmark
+	public long maybeBytePresenceChecks() {
+		long sum = 0;
+		for (MaybeByte element : maybeBytes) {
+			if (element.isPresent()) {
+				sum += element.get();
+			}
+			sum += element.orElse((byte) -1);
+		}
+		return sum;
+	}
+
+	@Benchmark
+	public long maybeShortPresenceChecks() {
+		long sum = 0;
+		for (MaybeShort element : maybeShorts) {
+			if (element.isPresent()) {
+				sum += element.get();
+			}
+			sum += element.orElse((short) -1);
+		}
+		return sum;
+	}
+
+	@Benchmark
+	public long bimorphicProbePresenceChecks() {
+		long sum = 0;
+		for (Probe element : bimorphicProbes) {
+			if (element.isPresent()) {
+				sum += element.get();
+			}
+			sum += element.orElse(-1);
+		}
+		return sum;
+	}
+
+	@Benchmark
+	public long megamorphicProbePresenceChecks() {
+		long sum = 0;
+		for (Probe element : megamorphicProbes) {
+			if (element.isPresent()) {
+				sum += element.get();
+			}
+			sum += element.orElse(-1);
+		}
+		return sum;
+	}
+
+	private abstract static class Probe {
+
+		abstract boolean isPresent();
+
+		abstract int get();
+
+		abstract int orElse(int other);
+
+	}
+
+	private static final class PresentProbe extends Probe {
+
+		private final int value;
+
+		PresentProbe(int value) {
+			this.value = value;
+		}
+
+		@Override
+		boolean isPresent() {
+			return true;
+		}
+
+		@Override
+		int get() {
+			return value;
+		}
+
+		@Override
+		int orElse(int other) {
+			return value;
+		}
+
+	}
+
+	private static final class OtherPresentProbe extends Probe {
+
+		private final int value;
+
+		OtherPresentProbe(int value) {
+			this.value = value;
+		}
+
+		@Override
+		boolean isPresent() {
+			return true;
+		}
+
+		@Override
+		int get() {
+			return value;
+		}
+
+		@Override
+		int orElse(int other) {
+			return value;
+		}
+
+	}
+
+	private static final class AbsentProbe extends Probe {
+
+		static final AbsentProbe INSTANCE = new AbsentProbe();
+
+		@Override
+		boolean isPresent() {
+			return false;
+		}
+
+		@Override
+		int get() {
+			throw new NoSuchElementException();
+		}
+
+		@Override
+		int orElse(int other) {
+			return other;
+		}
+
+	}
+
+}
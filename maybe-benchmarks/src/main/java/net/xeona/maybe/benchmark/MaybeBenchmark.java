@@ -0,0 +1,160 @@
+package net.xeona.maybe.benchmark;
+
+import java.util.Iterator;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import net.xeona.function.Provider;
+import net.xeona.maybe.Maybe;
+
+/**
+ * Compares {@link Maybe} against {@link Optional}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MaybeBenchmark {
+
+	private String value;
+	private String nullValue;
+
+	private Maybe<String> just;
+	private Maybe<String> otherJust;
+	private Maybe<String> nothing;
+
+	private Optional<String> present;
+	private Optional<String> otherPresent;
+	private Optional<String> empty;
+
+	private Provider<String, RuntimeException> provider;
+	private Supplier<String> supplier;
+
+	@Setup
+	public void setUp() {
+		value = "value";
+		nullValue = null;
+
+		just = Maybe.just(value);
+		otherJust = Maybe.just(new String(value));
+		nothing = Maybe.nothing();
+
+		present = Optional.of(value);
+		otherPresent = Optional.of(new String(value));
+		empty = Optional.empty();
+
+		provider = () -> value;
+		supplier = () -> value;
+	}
+
+	@Benchmark
+	public Maybe<String> maybeJust() {
+		return Maybe.just(value);
+	}
+
+	@Benchmark
+	public Optional<String> optionalOf() {
+		return Optional.of(value);
+	}
+
+	@Benchmark
+	public Maybe<String> maybeMaybeOfNull() {
+		return Maybe.maybe(nullValue);
+	}
+
+	@Benchmark
+	public Optional<String> optionalOfNullableOfNull() {
+		return Optional.ofNullable(nullValue);
+	}
+
+	@Benchmark
+	public int maybeMapChain() {
+		return just.map(String::trim).mapToInt(String::length).orElse(-1);
+	}
+
+	@Benchmark
+	public int optionalMapChain() {
+		return present.map(String::trim).map(String::length).orElse(-1);
+	}
+
+	@Benchmark
+	public Maybe<String> maybeFilter() {
+		return just.filter(s -> !s.isEmpty());
+	}
+
+	@Benchmark
+	public Optional<String> optionalFilter() {
+		return present.filter(s -> !s.isEmpty());
+	}
+
+	@Benchmark
+	public String maybeOrElseOnNothing() {
+		return nothing.orElse(value);
+	}
+
+	@Benchmark
+	public String optionalOrElseOnEmpty() {
+		return empty.orElse(value);
+	}
+
+	@Benchmark
+	public String maybeOrElseGetOnNothing() {
+		return nothing.orElseGet(provider);
+	}
+
+	@Benchmark
+	public String optionalOrElseGetOnEmpty() {
+		return empty.orElseGet(supplier);
+	}
+
+	@Benchmark
+	public void maybeIterator(Blackhole blackhole) {
+		Iterator<String> iterator = just.iterator();
+		while (iterator.hasNext()) {
+			blackhole.consume(iterator.next());
+		}
+	}
+
+	@Benchmark
+	public void optionalIsPresentGet(Blackhole blackhole) {
+		if (present.isPresent()) {
+			blackhole.consume(present.get());
+		}
+	}
+
+	@Benchmark
+	public boolean maybeEquals() {
+		return just.equals(otherJust);
+	}
+
+	@Benchmark
+	public boolean optionalEquals() {
+		return present.equals(otherPresent);
+	}
+
+	@Benchmark
+	public int maybeHashCode() {
+		return just.hashCode();
+	}
+
+	@Benchmark
+	public int optionalHashCode() {
+		return present.hashCode();
+	}
+
+}
@@ -0,0 +1,138 @@
+package net.xeona.maybe.benchmark;
+
+import java.util.OptionalDouble;
+import java.util.concurrent.TimeUnit;
+import java.util.function.DoubleSupplier;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import net.xeona.function.DoubleProvider;
+import net.xeona.maybe.MaybeDouble;
+
+/**
+ * Compares {@link MaybeDouble} against {@link OptionalDouble}.
+ * <p />
+ * {@link OptionalDouble} has no {@code map} or {@code filter}, so those benchmarks compare against the equivalent
+ * hand-written branch. {@link MaybeDouble} is not a collection and so has no iterator benchmark.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MaybeDoubleBenchmark {
+
+	private double value;
+
+	private MaybeDouble just;
+	private MaybeDouble otherJust;
+	private MaybeDouble nothing;
+
+	private OptionalDouble present;
+	private OptionalDouble otherPresent;
+	private OptionalDouble empty;
+
+	private DoubleProvider<RuntimeException> provider;
+	private DoubleSupplier supplier;
+
+	@Setup
+	public void setUp() {
+		value = Math.PI;
+
+		just = MaybeDouble.justDouble(value);
+		otherJust = MaybeDouble.justDouble(value);
+		nothing = MaybeDouble.nothing();
+
+		present = OptionalDouble.of(value);
+		otherPresent = OptionalDouble.of(value);
+		empty = OptionalDouble.empty();
+
+		provider = () -> value;
+		supplier = () -> value;
+	}
+
+	@Benchmark
+	public MaybeDouble maybeDoubleJustDouble() {
+		return MaybeDouble.justDouble(value);
+	}
+
+	@Benchmark
+	public OptionalDouble optionalDoubleOf() {
+		return OptionalDouble.of(value);
+	}
+
+	@Benchmark
+	public double maybeDoubleMapChain() {
+		return just.mapToDouble(d -> d * 2.0).mapToDouble(Math::sqrt).orElse(Double.NaN);
+	}
+
+	@Benchmark
+	public double optionalDoubleMapChain() {
+		OptionalDouble doubled = present.isPresent() ? OptionalDouble.of(present.getAsDouble() * 2.0)
+				: OptionalDouble.empty();
+		OptionalDouble rooted = doubled.isPresent() ? OptionalDouble.of(Math.sqrt(doubled.getAsDouble()))
+				: OptionalDouble.empty();
+		return rooted.orElse(Double.NaN);
+	}
+
+	@Benchmark
+	public MaybeDouble maybeDoubleFilter() {
+		return just.filter(d -> d > 0.0);
+	}
+
+	@Benchmark
+	public OptionalDouble optionalDoubleFilter() {
+		return present.isPresent() && present.getAsDouble() > 0.0 ? present : OptionalDouble.empty();
+	}
+
+	@Benchmark
+	public double maybeDoubleOrElseOnNothing() {
+		return nothing.orElse(value);
+	}
+
+	@Benchmark
+	public double optionalDoubleOrElseOnEmpty() {
+		return empty.orElse(value);
+	}
+
+	@Benchmark
+	public double maybeDoubleOrElseGetOnNothing() {
+		return nothing.orElseGet(provider);
+	}
+
+	@Benchmark
+	public double optionalDoubleOrElseGetOnEmpty() {
+		return empty.orElseGet(supplier);
+	}
+
+	@Benchmark
+	public boolean maybeDoubleEquals() {
+		return just.equals(otherJust);
+	}
+
+	@Benchmark
+	public boolean optionalDoubleEquals() {
+		return present.equals(otherPresent);
+	}
+
+	@Benchmark
+	public int maybeDoubleHashCode() {
+		return just.hashCode();
+	}
+
+	@Benchmark
+	public int optionalDoubleHashCode() {
+		return present.hashCode();
+	}
+
+}
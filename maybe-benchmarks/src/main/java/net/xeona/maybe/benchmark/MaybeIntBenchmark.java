@@ -0,0 +1,155 @@
+package net.xeona.maybe.benchmark;
+
+import java.util.Iterator;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntSupplier;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import net.xeona.function.IntProvider;
+import net.xeona.maybe.MaybeInt;
+
+/**
+ * Compares {@link MaybeInt} against {@link OptionalInt}.
+ * <p />
+ * {@link OptionalInt} has no {@code map} or {@code filter}, so those benchmarks compare against the equivalent
+ * hand-written branch.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MaybeIntBenchmark {
+
+	@Param({ "42", "100000" })
+	private int value;
+
+	private MaybeInt just;
+	private MaybeInt otherJust;
+	private MaybeInt nothing;
+
+	private OptionalInt present;
+	private OptionalInt otherPresent;
+	private OptionalInt empty;
+
+	private IntProvider<RuntimeException> provider;
+	private IntSupplier supplier;
+
+	@Setup
+	public void setUp() {
+		just = MaybeInt.justInt(value);
+		otherJust = MaybeInt.justInt(value);
+		nothing = MaybeInt.noInt();
+
+		present = OptionalInt.of(value);
+		otherPresent = OptionalInt.of(value);
+		empty = OptionalInt.empty();
+
+		provider = () -> value;
+		supplier = () -> value;
+	}
+
+	@Benchmark
+	public MaybeInt maybeIntJustInt() {
+		return MaybeInt.justInt(value);
+	}
+
+	@Benchmark
+	public OptionalInt optionalIntOf() {
+		return OptionalInt.of(value);
+	}
+
+	@Benchmark
+	public long maybeIntMapChain() {
+		return just.mapToInt(i -> i + 1).mapToLong(i -> i * 2L).orElse(-1L);
+	}
+
+	@Benchmark
+	public long optionalIntMapChain() {
+		OptionalInt incremented = present.isPresent() ? OptionalInt.of(present.getAsInt() + 1) : OptionalInt.empty();
+		OptionalLong doubled = incremented.isPresent() ? OptionalLong.of(incremented.getAsInt() * 2L)
+				: OptionalLong.empty();
+		return doubled.orElse(-1L);
+	}
+
+	@Benchmark
+	public MaybeInt maybeIntFilter() {
+		return just.filter(i -> i > 0);
+	}
+
+	@Benchmark
+	public OptionalInt optionalIntFilter() {
+		return present.isPresent() && present.getAsInt() > 0 ? present : OptionalInt.empty();
+	}
+
+	@Benchmark
+	public int maybeIntOrElseOnNoInt() {
+		return nothing.orElse(value);
+	}
+
+	@Benchmark
+	public int optionalIntOrElseOnEmpty() {
+		return empty.orElse(value);
+	}
+
+	@Benchmark
+	public int maybeIntOrElseGetOnNoInt() {
+		return nothing.orElseGet(provider);
+	}
+
+	@Benchmark
+	public int optionalIntOrElseGetOnEmpty() {
+		return empty.orElseGet(supplier);
+	}
+
+	@Benchmark
+	public void maybeIntIterator(Blackhole blackhole) {
+		Iterator<Integer> iterator = just.iterator();
+		while (iterator.hasNext()) {
+			blackhole.consume(iterator.next());
+		}
+	}
+
+	@Benchmark
+	public void optionalIntIsPresentGet(Blackhole blackhole) {
+		if (present.isPresent()) {
+			blackhole.consume(present.getAsInt());
+		}
+	}
+
+	@Benchmark
+	public boolean maybeIntEquals() {
+		return just.equals(otherJust);
+	}
+
+	@Benchmark
+	public boolean optionalIntEquals() {
+		return present.equals(otherPresent);
+	}
+
+	@Benchmark
+	public int maybeIntHashCode() {
+		return just.hashCode();
+	}
+
+	@Benchmark
+	public int optionalIntHashCode() {
+		return present.hashCode();
+	}
+
+}
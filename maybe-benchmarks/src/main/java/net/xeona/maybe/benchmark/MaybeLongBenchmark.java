@@ -0,0 +1,156 @@
+package net.xeona.maybe.benchmark;
+
+import java.util.Iterator;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import net.xeona.function.LongProvider;
+import net.xeona.maybe.MaybeLong;
+
+/**
+ * Compares {@link MaybeLong} against {@link OptionalLong}.
+ * <p />
+ * {@link OptionalLong} has no {@code map} or {@code filter}, so those benchmarks compare against the equivalent
+ * hand-written branch.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MaybeLongBenchmark {
+
+	@Param({ "42", "10000000000" })
+	private long value;
+
+	private MaybeLong just;
+	private MaybeLong otherJust;
+	private MaybeLong nothing;
+
+	private OptionalLong present;
+	private OptionalLong otherPresent;
+	private OptionalLong empty;
+
+	private LongProvider<RuntimeException> provider;
+	private LongSupplier supplier;
+
+	@Setup
+	public void setUp() {
+		just = MaybeLong.justLong(value);
+		otherJust = MaybeLong.justLong(value);
+		nothing = MaybeLong.noLong();
+
+		present = OptionalLong.of(value);
+		otherPresent = OptionalLong.of(value);
+		empty = OptionalLong.empty();
+
+		provider = () -> value;
+		supplier = () -> value;
+	}
+
+	@Benchmark
+	public MaybeLong maybeLongJustLong() {
+		return MaybeLong.justLong(value);
+	}
+
+	@Benchmark
+	public OptionalLong optionalLongOf() {
+		return OptionalLong.of(value);
+	}
+
+	@Benchmark
+	public int maybeLongMapChain() {
+		return just.mapToLong(l -> l + 1L).mapToInt(l -> (int) (l & 0xFFFF)).orElse(-1);
+	}
+
+	@Benchmark
+	public int optionalLongMapChain() {
+		OptionalLong incremented = present.isPresent() ? OptionalLong.of(present.getAsLong() + 1L)
+				: OptionalLong.empty();
+		OptionalInt masked = incremented.isPresent() ? OptionalInt.of((int) (incremented.getAsLong() & 0xFFFF))
+				: OptionalInt.empty();
+		return masked.orElse(-1);
+	}
+
+	@Benchmark
+	public MaybeLong maybeLongFilter() {
+		return just.filter(l -> l > 0L);
+	}
+
+	@Benchmark
+	public OptionalLong optionalLongFilter() {
+		return present.isPresent() && present.getAsLong() > 0L ? present : OptionalLong.empty();
+	}
+
+	@Benchmark
+	public long maybeLongOrElseOnNoLong() {
+		return nothing.orElse(value);
+	}
+
+	@Benchmark
+	public long optionalLongOrElseOnEmpty() {
+		return empty.orElse(value);
+	}
+
+	@Benchmark
+	public long maybeLongOrElseGetOnNoLong() {
+		return nothing.orElseGet(provider);
+	}
+
+	@Benchmark
+	public long optionalLongOrElseGetOnEmpty() {
+		return empty.orElseGet(supplier);
+	}
+
+	@Benchmark
+	public void maybeLongIterator(Blackhole blackhole) {
+		Iterator<Long> iterator = just.iterator();
+		while (iterator.hasNext()) {
+			blackhole.consume(iterator.next());
+		}
+	}
+
+	@Benchmark
+	public void optionalLongIsPresentGet(Blackhole blackhole) {
+		if (present.isPresent()) {
+			blackhole.consume(present.getAsLong());
+		}
+	}
+
+	@Benchmark
+	public boolean maybeLongEquals() {
+		return just.equals(otherJust);
+	}
+
+	@Benchmark
+	public boolean optionalLongEquals() {
+		return present.equals(otherPresent);
+	}
+
+	@Benchmark
+	public int maybeLongHashCode() {
+		return just.hashCode();
+	}
+
+	@Benchmark
+	public int optionalLongHashCode() {
+		return present.hashCode();
+	}
+
+}
@@ -0,0 +1,84 @@
+package net.xeona.maybe.benchmark;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import net.xeona.maybe.IntToIntMaybeMap;
+import net.xeona.maybe.MaybeInt;
+
+/**
+ * Compares looking up an int key in a {@code HashMap<Integer, Integer>} and wrapping the result in a {@link MaybeInt},
+ * against the same lookup in an {@link IntToIntMaybeMap}.
+ * <p />
+ * Keys and values are outside the cached ranges of {@link Integer#valueOf(int)} and {@link MaybeInt#justInt(int)}, so
+ * {@code gc.alloc.rate.norm} shows the boxing of the key and the wrapping of the value; {@code getOrElse} should show
+ * none.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MaybeMapBenchmark {
+
+	private static final int SIZE = 1 << 12;
+
+	private static final int KEY_OFFSET = 100_000;
+
+	@Param({ "true", "false" })
+	private boolean present;
+
+	private final Map<Integer, Integer> hashMap = new HashMap<>();
+
+	private final IntToIntMaybeMap maybeMap = new IntToIntMaybeMap(SIZE);
+
+	private int next;
+
+	@Setup
+	public void setUp() {
+		for (int i = 0; i < SIZE; i++) {
+			hashMap.put(KEY_OFFSET + i, KEY_OFFSET + i);
+			maybeMap.put(KEY_OFFSET + i, KEY_OFFSET + i);
+		}
+	}
+
+	private int nextKey() {
+		int index = next++ & SIZE - 1;
+		return present ? KEY_OFFSET + index : -KEY_OFFSET - index;
+	}
+
+	@Benchmark
+	public MaybeInt hashMapGet() {
+		return MaybeInt.maybeInt(hashMap.get(nextKey()));
+	}
+
+	@Benchmark
+	public MaybeInt maybeMapGet() {
+		return maybeMap.get(nextKey());
+	}
+
+	@Benchmark
+	public int hashMapGetOrDefault() {
+		return hashMap.getOrDefault(nextKey(), -1);
+	}
+
+	@Benchmark
+	public int maybeMapGetOrElse() {
+		return maybeMap.getOrElse(nextKey(), -1);
+	}
+
+}
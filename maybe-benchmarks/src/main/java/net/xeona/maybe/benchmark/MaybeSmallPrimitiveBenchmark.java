@@ -0,0 +1,174 @@
+package net.xeona.maybe.benchmark;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import net.xeona.maybe.MaybeBoolean;
+import net.xeona.maybe.MaybeByte;
+import net.xeona.maybe.MaybeChar;
+import net.xeona.maybe.MaybeFloat;
+import net.xeona.maybe.MaybeShort;
+
+/**
+ * Compares the primitive variants that have no JDK counterpart against {@link Optional} of the boxed type, which is
+ * what callers use in their absence.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MaybeSmallPrimitiveBenchmark {
+
+	private boolean booleanValue;
+	private byte byteValue;
+	private char charValue;
+	private short shortValue;
+	private float floatValue;
+
+	private MaybeBoolean justBoolean;
+	private MaybeByte justByte;
+	private MaybeChar justChar;
+	private MaybeShort justShort;
+	private MaybeFloat justFloat;
+
+	private Optional<Boolean> presentBoolean;
+	private Optional<Byte> presentByte;
+	private Optional<Character> presentChar;
+	private Optional<Short> presentShort;
+	private Optional<Float> presentFloat;
+
+	@Setup
+	public void setUp() {
+		booleanValue = true;
+		byteValue = 42;
+		charValue = 'x';
+		shortValue = 4242;
+		floatValue = 42.5f;
+
+		justBoolean = MaybeBoolean.justBoolean(booleanValue);
+		justByte = MaybeByte.justByte(byteValue);
+		justChar = MaybeChar.justChar(charValue);
+		justShort = MaybeShort.justShort(shortValue);
+		justFloat = MaybeFloat.justFloat(floatValue);
+
+		presentBoolean = Optional.of(booleanValue);
+		presentByte = Optional.of(byteValue);
+		presentChar = Optional.of(charValue);
+		presentShort = Optional.of(shortValue);
+		presentFloat = Optional.of(floatValue);
+	}
+
+	@Benchmark
+	public MaybeBoolean maybeBooleanJustBoolean() {
+		return MaybeBoolean.justBoolean(booleanValue);
+	}
+
+	@Benchmark
+	public Optional<Boolean> optionalOfBoolean() {
+		return Optional.of(booleanValue);
+	}
+
+	@Benchmark
+	public MaybeByte maybeByteJustByte() {
+		return MaybeByte.justByte(byteValue);
+	}
+
+	@Benchmark
+	public Optional<Byte> optionalOfByte() {
+		return Optional.of(byteValue);
+	}
+
+	@Benchmark
+	public MaybeChar maybeCharJustChar() {
+		return MaybeChar.justChar(charValue);
+	}
+
+	@Benchmark
+	public Optional<Character> optionalOfChar() {
+		return Optional.of(charValue);
+	}
+
+	@Benchmark
+	public MaybeShort maybeShortJustShort() {
+		return MaybeShort.justShort(shortValue);
+	}
+
+	@Benchmark
+	public Optional<Short> optionalOfShort() {
+		return Optional.of(shortValue);
+	}
+
+	@Benchmark
+	public MaybeFloat maybeFloatJustFloat() {
+		return MaybeFloat.justFloat(floatValue);
+	}
+
+	@Benchmark
+	public Optional<Float> optionalOfFloat() {
+		return Optional.of(floatValue);
+	}
+
+	@Benchmark
+	public boolean maybeBooleanOrElse() {
+		return justBoolean.orElse(false);
+	}
+
+	@Benchmark
+	public boolean optionalOfBooleanOrElse() {
+		return presentBoolean.orElse(false);
+	}
+
+	@Benchmark
+	public byte maybeByteOrElse() {
+		return justByte.orElse((byte) 0);
+	}
+
+	@Benchmark
+	public byte optionalOfByteOrElse() {
+		return presentByte.orElse((byte) 0);
+	}
+
+	@Benchmark
+	public char maybeCharOrElse() {
+		return justChar.orElse(' ');
+	}
+
+	@Benchmark
+	public char optionalOfCharOrElse() {
+		return presentChar.orElse(' ');
+	}
+
+	@Benchmark
+	public short maybeShortOrElse() {
+		return justShort.orElse((short) 0);
+	}
+
+	@Benchmark
+	public short optionalOfShortOrElse() {
+		return presentShort.orElse((short) 0);
+	}
+
+	@Benchmark
+	public float maybeFloatOrElse() {
+		return justFloat.orElse(0.0f);
+	}
+
+	@Benchmark
+	public float optionalOfFloatOrElse() {
+		return presentFloat.orElse(0.0f);
+	}
+
+}
@@ -0,0 +1,123 @@
+package net.xeona.maybe.benchmark;
+
+import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import net.xeona.maybe.Maybe;
+import net.xeona.maybe.MaybeDouble;
+import net.xeona.maybe.MaybeInt;
+import net.xeona.maybe.MaybeLong;
+
+/**
+ * Measures the conversions between Maybe and Optional in both directions.
+ * <p />
+ * Run through {@link BenchmarkRunner}, {@code gc.alloc.rate.norm} should be no more than the size of the one result
+ * object for a present value, and zero for an absent one, which converts to a shared empty instance. The
+ * {@code mapped} benchmarks are the previous {@code map(Optional::of).orElseGet(Optional::empty)} implementation,
+ * which also allocates an intermediate Maybe.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class OptionalInteropBenchmark {
+
+	@Param({ "true", "false" })
+	private boolean present;
+
+	private Maybe<String> maybe;
+
+	private Optional<String> optional;
+
+	private MaybeInt maybeInt;
+
+	private OptionalInt optionalInt;
+
+	private MaybeLong maybeLong;
+
+	private OptionalLong optionalLong;
+
+	private MaybeDouble maybeDouble;
+
+	private OptionalDouble optionalDouble;
+
+	@Setup
+	public void setUp() {
+		maybe = present ? Maybe.just("value") : Maybe.nothing();
+		optional = Maybe.toOptional(maybe);
+		maybeInt = present ? MaybeInt.justInt(100_000) : MaybeInt.noInt();
+		optionalInt = MaybeInt.toOptionalInt(maybeInt);
+		maybeLong = present ? MaybeLong.justLong(100_000) : MaybeLong.noLong();
+		optionalLong = MaybeLong.toOptionalLong(maybeLong);
+		maybeDouble = present ? MaybeDouble.justDouble(0.5) : MaybeDouble.nothing();
+		optionalDouble = MaybeDouble.toOptionalDouble(maybeDouble);
+	}
+
+	@Benchmark
+	public Optional<String> maybeToOptional() {
+		return Maybe.toOptional(maybe);
+	}
+
+	@Benchmark
+	public Optional<String> maybeToOptionalMapped() {
+		return maybe.map(Optional::of).orElseGet(Optional::empty);
+	}
+
+	@Benchmark
+	public Maybe<String> maybeFromOptional() {
+		return Maybe.fromOptional(optional);
+	}
+
+	@Benchmark
+	public OptionalInt maybeIntToOptionalInt() {
+		return MaybeInt.toOptionalInt(maybeInt);
+	}
+
+	@Benchmark
+	public MaybeInt maybeIntFromOptionalInt() {
+		return MaybeInt.fromOptionalInt(optionalInt);
+	}
+
+	@Benchmark
+	public OptionalLong maybeLongToOptionalLong() {
+		return MaybeLong.toOptionalLong(maybeLong);
+	}
+
+	@Benchmark
+	public MaybeLong maybeLongFromOptionalLong() {
+		return MaybeLong.fromOptionalLong(optionalLong);
+	}
+
+	@Benchmark
+	public OptionalDouble maybeDoubleToOptionalDouble() {
+		return MaybeDouble.toOptionalDouble(maybeDouble);
+	}
+
+	@Benchmark
+	public OptionalDouble maybeDoubleToOptionalDoubleMapped() {
+		return maybeDouble.map(OptionalDouble::of).orElseGet(OptionalDouble::empty);
+	}
+
+	@Benchmark
+	public MaybeDouble maybeDoubleFromOptionalDouble() {
+		return MaybeDouble.fromOptionalDouble(optionalDouble);
+	}
+
+}
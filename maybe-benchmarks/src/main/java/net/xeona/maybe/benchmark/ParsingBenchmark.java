@@ -0,0 +1,80 @@
+package net.xeona.maybe.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import net.xeona.maybe.MaybeDouble;
+import net.xeona.maybe.MaybeInt;
+import net.xeona.maybe.MaybeLong;
+
+/**
+ * Compares the exception-free {@code parse} factories against wrapping the JDK parsers in a try/catch block, for both
+ * well formed and malformed input.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ParsingBenchmark {
+
+	@Param({ "12345", "-98765", "12x45", "" })
+	private String integral;
+
+	@Param({ "1234.5", "-0.001", "12.3.4", "" })
+	private String decimal;
+
+	@Benchmark
+	public MaybeInt maybeIntParseInt() {
+		return MaybeInt.parseInt(integral);
+	}
+
+	@Benchmark
+	public MaybeInt tryCatchParseInt() {
+		try {
+			return MaybeInt.justInt(Integer.parseInt(integral));
+		} catch (NumberFormatException e) {
+			return MaybeInt.noInt();
+		}
+	}
+
+	@Benchmark
+	public MaybeLong maybeLongParseLong() {
+		return MaybeLong.parseLong(integral);
+	}
+
+	@Benchmark
+	public MaybeLong tryCatchParseLong() {
+		try {
+			return MaybeLong.justLong(Long.parseLong(integral));
+		} catch (NumberFormatException e) {
+			return MaybeLong.noLong();
+		}
+	}
+
+	@Benchmark
+	public MaybeDouble maybeDoubleParseDouble() {
+		return MaybeDouble.parseDouble(decimal);
+	}
+
+	@Benchmark
+	public MaybeDouble tryCatchParseDouble() {
+		try {
+			return MaybeDouble.justDouble(Double.parseDouble(decimal));
+		} catch (NumberFormatException e) {
+			return MaybeDouble.nothing();
+		}
+	}
+
+}
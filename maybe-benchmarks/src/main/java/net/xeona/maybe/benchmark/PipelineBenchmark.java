@@ -0,0 +1,95 @@
+package net.xeona.maybe.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import net.xeona.maybe.MaybeInt;
+import net.xeona.maybe.MaybeIntPipeline;
+
+/**
+ * Compares a chain of map and filter calls on a {@link MaybeInt}, which creates a MaybeInt per stage, against the same
+ * stages recorded once in a {@link MaybeIntPipeline}.
+ * <p />
+ * The {@code Mixed} benchmarks run three chains or pipelines with distinct functions per invocation, so that the call
+ * sites which apply those functions, in the Maybe types and in the pipeline loop alike, see more than two receiver
+ * classes and are measured megamorphic rather than inlined.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PipelineBenchmark {
+
+	@Param({ "1000", "-1000" })
+	private int value;
+
+	private MaybeInt input;
+
+	private MaybeIntPipeline<MaybeInt> pipeline;
+
+	private MaybeIntPipeline<MaybeInt> doublingPipeline;
+
+	private MaybeIntPipeline<MaybeInt> negatingPipeline;
+
+	@Setup
+	public void setUp() {
+		input = MaybeInt.justInt(value);
+		pipeline = MaybeInt.pipeline().mapToInt(each -> each * 3).filter(each -> each > 0).mapToInt(each -> each + 7)
+				.filter(each -> each % 2 != 0).mapToInt(each -> each >>> 1);
+		doublingPipeline = MaybeInt.pipeline().mapToInt(each -> each * 2).filter(each -> each != 0)
+				.mapToInt(each -> each - 5).filter(each -> each % 3 != 0).mapToInt(each -> each << 1);
+		negatingPipeline = MaybeInt.pipeline().mapToInt(each -> -each).filter(each -> each < 0)
+				.mapToInt(each -> each ^ 0x55).filter(each -> each % 5 != 0).mapToInt(each -> each >> 2);
+	}
+
+	@Benchmark
+	public int chainedOrElse() {
+		return input.mapToInt(each -> each * 3).filter(each -> each > 0).mapToInt(each -> each + 7)
+				.filter(each -> each % 2 != 0).mapToInt(each -> each >>> 1).orElse(-1);
+	}
+
+	@Benchmark
+	public int pipelineOrElse() {
+		return pipeline.orElse(input, -1);
+	}
+
+	@Benchmark
+	public MaybeInt chainedToMaybeInt() {
+		return input.mapToInt(each -> each * 3).filter(each -> each > 0).mapToInt(each -> each + 7)
+				.filter(each -> each % 2 != 0).mapToInt(each -> each >>> 1);
+	}
+
+	@Benchmark
+	public MaybeInt pipelineToMaybeInt() {
+		return pipeline.toMaybeInt(input);
+	}
+
+	@Benchmark
+	public int chainedOrElseMixed() {
+		return input.mapToInt(each -> each * 3).filter(each -> each > 0).mapToInt(each -> each + 7)
+				.filter(each -> each % 2 != 0).mapToInt(each -> each >>> 1).orElse(-1)
+				+ input.mapToInt(each -> each * 2).filter(each -> each != 0).mapToInt(each -> each - 5)
+						.filter(each -> each % 3 != 0).mapToInt(each -> each << 1).orElse(-1)
+				+ input.mapToInt(each -> -each).filter(each -> each < 0).mapToInt(each -> each ^ 0x55)
+						.filter(each -> each % 5 != 0).mapToInt(each -> each >> 2).orElse(-1);
+	}
+
+	@Benchmark
+	public int pipelineOrElseMixed() {
+		return pipeline.orElse(input, -1) + doublingPipeline.orElse(input, -1) + negatingPipeline.orElse(input, -1);
+	}
+
+}
@@ -0,0 +1,114 @@
+package net.xeona.maybe.benchmark;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import net.xeona.maybe.Maybe;
+import net.xeona.maybe.MaybeDouble;
+import net.xeona.maybe.MaybeInt;
+import net.xeona.maybe.MaybeLong;
+
+/**
+ * Measures a round trip through {@link ObjectOutputStream} and {@link ObjectInputStream} for Maybe values, against the
+ * boxed value or {@code null} that they stand in for.
+ * <p />
+ * Each round trip writes a single object to a fresh stream, so the stream header and class descriptor are included.
+ * The number of bytes written is reported as the {@code serializedBytes} secondary result.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SerializationBenchmark {
+
+	@Param({ "true", "false" })
+	private boolean present;
+
+	private Maybe<String> maybe;
+
+	private MaybeInt maybeInt;
+
+	private Integer boxedInt;
+
+	private MaybeLong maybeLong;
+
+	private MaybeDouble maybeDouble;
+
+	private final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+
+	@Setup
+	public void setUp() {
+		maybe = present ? Maybe.just("value") : Maybe.nothing();
+		maybeInt = present ? MaybeInt.justInt(100_000) : MaybeInt.noInt();
+		boxedInt = present ? Integer.valueOf(100_000) : null;
+		maybeLong = present ? MaybeLong.justLong(100_000) : MaybeLong.noLong();
+		maybeDouble = present ? MaybeDouble.justDouble(0.5) : MaybeDouble.nothing();
+	}
+
+	@Benchmark
+	public Object maybeRoundTrip(SerializedSize size) throws IOException, ClassNotFoundException {
+		return roundTrip(maybe, size);
+	}
+
+	@Benchmark
+	public Object maybeIntRoundTrip(SerializedSize size) throws IOException, ClassNotFoundException {
+		return roundTrip(maybeInt, size);
+	}
+
+	@Benchmark
+	public Object boxedIntRoundTrip(SerializedSize size) throws IOException, ClassNotFoundException {
+		return roundTrip(boxedInt, size);
+	}
+
+	@Benchmark
+	public Object maybeLongRoundTrip(SerializedSize size) throws IOException, ClassNotFoundException {
+		return roundTrip(maybeLong, size);
+	}
+
+	@Benchmark
+	public Object maybeDoubleRoundTrip(SerializedSize size) throws IOException, ClassNotFoundException {
+		return roundTrip(maybeDouble, size);
+	}
+
+	private Object roundTrip(Object object, SerializedSize size) throws IOException, ClassNotFoundException {
+		buffer.reset();
+		try (ObjectOutputStream out = new ObjectOutputStream(buffer)) {
+			out.writeObject(object);
+		}
+		size.serializedBytes = buffer.size();
+		try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(buffer.toByteArray()))) {
+			return in.readObject();
+		}
+	}
+
+	/**
+	 * Holds the size of the last serialized form, which is the same on every invocation of a benchmark.
+	 */
+	@State(Scope.Thread)
+	@AuxCounters(AuxCounters.Type.EVENTS)
+	public static class SerializedSize {
+
+		public long serializedBytes;
+
+	}
+
+}
@@ -0,0 +1,279 @@
+package net.xeona.maybe.cache;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import net.xeona.function.Function;
+import net.xeona.function.LongProvider;
+import net.xeona.maybe.Maybe;
+
+/**
+ * A bounded, concurrent cache of the results of a loader that returns a {@link Maybe}, in which absent results are
+ * cached as well as present ones.
+ * <p />
+ * Absent results are held as the shared {@link Maybe#nothing()} instance, and may be given a shorter time to live than
+ * present results through {@link Builder#expireAbsentAfterWrite(long, TimeUnit)}, so that keys known to be absent are
+ * not looked up again on every request but are still looked up again soon after they may have been created.
+ * <p />
+ * Keys are spread over a fixed number of segments, each a map in access order guarded by its own lock, so that the
+ * least recently used entry of a segment is evicted once the segment is full. The loader is called outside of any
+ * lock; if several threads miss on the same key at the same time, each may call the loader, and the last result is
+ * kept.
+ *
+ * @param <K>
+ *            The type of the keys
+ * @param <V>
+ *            The type of the values that may be loaded
+ */
+public final class MaybeCache<K, V> {
+
+	private static final long NEVER = Long.MAX_VALUE;
+
+	private static final int MAXIMUM_SEGMENTS = 16;
+
+	private final Function<? super K, ? extends Maybe<? extends V>, ? extends RuntimeException> loader;
+
+	private final LongProvider<? extends RuntimeException> ticker;
+
+	private final long presentNanos;
+
+	private final long absentNanos;
+
+	private final Segment<K, V>[] segments;
+
+	private final LongAdder hits = new LongAdder();
+
+	private final LongAdder negativeHits = new LongAdder();
+
+	private final LongAdder misses = new LongAdder();
+
+	private final LongAdder evictions = new LongAdder();
+
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private MaybeCache(Builder builder,
+			Function<? super K, ? extends Maybe<? extends V>, ? extends RuntimeException> loader) {
+		this.loader = loader;
+		this.ticker = builder.ticker;
+		this.presentNanos = builder.presentNanos;
+		this.absentNanos = builder.absentNanos;
+		int segmentCount = Integer.highestOneBit((int) Math.min(MAXIMUM_SEGMENTS, builder.maximumSize));
+		long quotient = builder.maximumSize / segmentCount;
+		long remainder = builder.maximumSize % segmentCount;
+		this.segments = new Segment[segmentCount];
+		for (int i = 0; i < segmentCount; i++) {
+			long segmentCapacity = i < remainder ? quotient + 1 : quotient;
+			segments[i] = new Segment<>((int) Math.min(Integer.MAX_VALUE, segmentCapacity), evictions);
+		}
+	}
+
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	/**
+	 * Returns the cached result for the given key, calling the loader if there is none or if it has expired.
+	 */
+	@SuppressWarnings("unchecked")
+	public Maybe<V> get(K key) {
+		requireNonNull(key, "Key must not be null");
+		Segment<K, V> segment = segmentFor(key);
+		synchronized (segment) {
+			CachedMaybe<V> entry = segment.get(key);
+			if (entry != null) {
+				if (!isExpired(entry, ticker.get())) {
+					(entry.maybe.isPresent() ? hits : negativeHits).increment();
+					return entry.maybe;
+				}
+				segment.remove(key);
+			}
+		}
+		misses.increment();
+		Maybe<V> maybe = (Maybe<V>) requireNonNull(loader.apply(key), "Result of loader must not be null");
+		CachedMaybe<V> entry = new CachedMaybe<>(maybe, ticker.get());
+		synchronized (segment) {
+			segment.put(key, entry);
+		}
+		return maybe;
+	}
+
+	public void invalidate(K key) {
+		requireNonNull(key, "Key must not be null");
+		Segment<K, V> segment = segmentFor(key);
+		synchronized (segment) {
+			segment.remove(key);
+		}
+	}
+
+	public void invalidateAll() {
+		for (Segment<K, V> segment : segments) {
+			synchronized (segment) {
+				segment.clear();
+			}
+		}
+	}
+
+	/**
+	 * Returns the number of cached entries, including any that have expired but not yet been removed.
+	 */
+	public long size() {
+		long size = 0;
+		for (Segment<K, V> segment : segments) {
+			synchronized (segment) {
+				size += segment.size();
+			}
+		}
+		return size;
+	}
+
+	/**
+	 * Returns the number of calls to {@link #get(Object)} answered by a cached present result.
+	 */
+	public long hitCount() {
+		return hits.sum();
+	}
+
+	/**
+	 * Returns the number of calls to {@link #get(Object)} answered by a cached absent result.
+	 */
+	public long negativeHitCount() {
+		return negativeHits.sum();
+	}
+
+	/**
+	 * Returns the number of calls to {@link #get(Object)} that called the loader.
+	 */
+	public long missCount() {
+		return misses.sum();
+	}
+
+	/**
+	 * Returns the number of entries removed to keep the cache within its maximum size.
+	 */
+	public long evictionCount() {
+		return evictions.sum();
+	}
+
+	@Override
+	public String toString() {
+		return "MaybeCache [size=" + size() + ", hits=" + hitCount() + ", negativeHits=" + negativeHitCount()
+				+ ", misses=" + missCount() + ", evictions=" + evictionCount() + "]";
+	}
+
+	private Segment<K, V> segmentFor(K key) {
+		int hash = key.hashCode();
+		return segments[(hash ^ hash >>> 16) & segments.length - 1];
+	}
+
+	private boolean isExpired(CachedMaybe<V> entry, long now) {
+		long nanos = entry.maybe.isPresent() ? presentNanos : absentNanos;
+		return nanos != NEVER && now - entry.writtenAt >= nanos;
+	}
+
+	/**
+	 * Configures and creates a {@link MaybeCache}.
+	 * <p />
+	 * By default the cache holds up to 10,000 entries, which do not expire, and reads time from
+	 * {@link System#nanoTime()}.
+	 */
+	public static final class Builder {
+
+		private long maximumSize = 10_000;
+
+		private long presentNanos = NEVER;
+
+		private long absentNanos = NEVER;
+
+		private LongProvider<? extends RuntimeException> ticker = System::nanoTime;
+
+		private Builder() {}
+
+		public Builder maximumSize(long maximumSize) {
+			if (maximumSize <= 0) {
+				throw new IllegalArgumentException("Maximum size must be positive: " + maximumSize);
+			}
+			this.maximumSize = maximumSize;
+			return this;
+		}
+
+		/**
+		 * Expires present results the given duration after they were loaded.
+		 */
+		public Builder expireAfterWrite(long duration, TimeUnit unit) {
+			this.presentNanos = toNanos(duration, unit);
+			return this;
+		}
+
+		/**
+		 * Expires absent results the given duration after they were loaded.
+		 */
+		public Builder expireAbsentAfterWrite(long duration, TimeUnit unit) {
+			this.absentNanos = toNanos(duration, unit);
+			return this;
+		}
+
+		/**
+		 * Sets the source of the current time in nanoseconds, which is {@link System#nanoTime()} by default.
+		 */
+		public Builder ticker(LongProvider<? extends RuntimeException> ticker) {
+			this.ticker = requireNonNull(ticker, "Ticker must not be null");
+			return this;
+		}
+
+		public <K, V> MaybeCache<K, V> build(
+				Function<? super K, ? extends Maybe<? extends V>, ? extends RuntimeException> loader) {
+			return new MaybeCache<>(this, requireNonNull(loader, "Loader must not be null"));
+		}
+
+		private static long toNanos(long duration, TimeUnit unit) {
+			requireNonNull(unit, "Unit must not be null");
+			if (duration < 0) {
+				throw new IllegalArgumentException("Duration must not be negative: " + duration);
+			}
+			return Math.min(unit.toNanos(duration), NEVER - 1);
+		}
+
+	}
+
+	private static final class CachedMaybe<V> {
+
+		private final Maybe<V> maybe;
+
+		private final long writtenAt;
+
+		private CachedMaybe(Maybe<V> maybe, long writtenAt) {
+			this.maybe = maybe;
+			this.writtenAt = writtenAt;
+		}
+
+	}
+
+	private static final class Segment<K, V> extends LinkedHashMap<K, CachedMaybe<V>> {
+
+		private static final long serialVersionUID = 1L;
+
+		private final int capacity;
+
+		private final transient LongAdder evictions;
+
+		private Segment(int capacity, LongAdder evictions) {
+			super(16, 0.75f, true);
+			this.capacity = capacity;
+			this.evictions = evictions;
+		}
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<K, CachedMaybe<V>> eldest) {
+			if (size() > capacity) {
+				evictions.increment();
+				return true;
+			}
+			return false;
+		}
+
+	}
+
+}
@@ -0,0 +1,175 @@
+package net.xeona.maybe;
+
+import static net.xeona.maybe.matcher.MaybeIntMatcher.isJustInt;
+import static net.xeona.maybe.matcher.MaybeIntMatcher.isNoInt;
+import static net.xeona.maybe.matcher.MaybeLongMatcher.isJustLong;
+import static net.xeona.maybe.matcher.MaybeLongMatcher.isNoLong;
+import static net.xeona.maybe.matcher.MaybeMatcher.isJust;
+import static net.xeona.maybe.matcher.MaybeMatcher.isNothing;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.Test;
+
+public class AtomicMaybeTest {
+
+	private static final int THREADS = 8;
+
+	private static final int UPDATES_PER_THREAD = 20_000;
+
+	@Test
+	public void atomicMaybeIntStartsAbsent() {
+		AtomicMaybeInt atomic = new AtomicMaybeInt();
+		assertThat(atomic.get(), isNoInt());
+		assertEquals(MaybeInts.noInt(), atomic.getPacked());
+		assertEquals(-1, atomic.orElse(-1));
+	}
+
+	@Test
+	public void atomicMaybeIntSetIfAbsentOnlySetsAbsentValue() {
+		AtomicMaybeInt atomic = new AtomicMaybeInt();
+		assertTrue(atomic.setIfAbsent(0));
+		assertFalse(atomic.setIfAbsent(1));
+		assertThat(atomic.get(), isJustInt(0));
+		atomic.clear();
+		assertFalse(atomic.isPresent());
+	}
+
+	@Test
+	public void atomicMaybeIntCompareAndSetComparesByValue() {
+		AtomicMaybeInt atomic = new AtomicMaybeInt(MaybeInt.justInt(100_000));
+		assertFalse(atomic.compareAndSet(MaybeInt.noInt(), MaybeInt.justInt(1)));
+		assertTrue(atomic.compareAndSet(MaybeInt.justInt(100_000), MaybeInt.noInt()));
+		assertTrue(atomic.compareAndSet(MaybeInt.noInt(), MaybeInt.justInt(Integer.MIN_VALUE)));
+		assertThat(atomic.get(), isJustInt(Integer.MIN_VALUE));
+	}
+
+	@Test
+	public void atomicMaybeIntUpdateAndGetLeavesAbsentValueAbsent() {
+		AtomicMaybeInt atomic = new AtomicMaybeInt();
+		assertThat(atomic.updateAndGet(value -> {
+			throw new AssertionError();
+		}), isNoInt());
+		atomic.set(-1);
+		assertThat(atomic.updateAndGet(value -> value * 2), isJustInt(-2));
+	}
+
+	@Test
+	public void atomicMaybeLongCompareAndSetComparesByValue() {
+		AtomicMaybeLong atomic = new AtomicMaybeLong();
+		assertTrue(atomic.compareAndSet(MaybeLong.noLong(), MaybeLong.justLong(Long.MAX_VALUE)));
+		assertFalse(atomic.compareAndSet(MaybeLong.noLong(), MaybeLong.justLong(1)));
+		assertTrue(atomic.compareAndSet(MaybeLong.justLong(Long.MAX_VALUE), MaybeLong.justLong(1)));
+		assertThat(atomic.get(), isJustLong(1));
+	}
+
+	@Test
+	public void atomicMaybeLongSetIfAbsentOnlySetsAbsentValue() {
+		AtomicMaybeLong atomic = new AtomicMaybeLong();
+		assertTrue(atomic.setIfAbsent(Long.MIN_VALUE));
+		assertFalse(atomic.setIfAbsent(0));
+		assertThat(atomic.get(), isJustLong(Long.MIN_VALUE));
+		atomic.clear();
+		assertThat(atomic.get(), isNoLong());
+	}
+
+	@Test
+	public void atomicMaybeCompareAndSetComparesByIdentity() {
+		String value = new String("value");
+		AtomicMaybe<String> atomic = new AtomicMaybe<>(Maybe.just(value));
+		assertFalse(atomic.compareAndSet(Maybe.just(new String("value")), Maybe.nothing()));
+		assertTrue(atomic.compareAndSet(Maybe.just(value), Maybe.nothing()));
+		assertThat(atomic.get(), isNothing());
+	}
+
+	@Test
+	public void atomicMaybeUpdateAndGetToNullClearsValue() {
+		AtomicMaybe<String> atomic = new AtomicMaybe<>();
+		assertTrue(atomic.setIfAbsent("value"));
+		assertThat(atomic.updateAndGet(String::toUpperCase), isJust("VALUE"));
+		assertThat(atomic.updateAndGet(value -> null), isNothing());
+		assertFalse(atomic.isPresent());
+	}
+
+	@Test(expected = NullPointerException.class)
+	public void atomicMaybeSetIfAbsentOfNullThrowsNullPointerException() {
+		new AtomicMaybe<String>().setIfAbsent(null);
+	}
+
+	@Test
+	public void concurrentUpdatesOfAtomicMaybeIntAreNotLost() throws Exception {
+		AtomicMaybeInt atomic = new AtomicMaybeInt(MaybeInt.justInt(0));
+		runConcurrently(() -> {
+			for (int i = 0; i < UPDATES_PER_THREAD; i++) {
+				atomic.updateAndGet(value -> value + 1);
+			}
+			return null;
+		});
+		assertThat(atomic.get(), isJustInt(THREADS * UPDATES_PER_THREAD));
+	}
+
+	@Test
+	public void concurrentCompareAndSetOfAtomicMaybeLongIsNotLost() throws Exception {
+		AtomicMaybeLong atomic = new AtomicMaybeLong(MaybeLong.justLong(0));
+		runConcurrently(() -> {
+			for (int i = 0; i < UPDATES_PER_THREAD; i++) {
+				MaybeLong current;
+				do {
+					current = atomic.get();
+				} while (!atomic.compareAndSet(current, MaybeLong.justLong(current.get() + 1)));
+			}
+			return null;
+		});
+		assertThat(atomic.get(), isJustLong((long) THREADS * UPDATES_PER_THREAD));
+	}
+
+	@Test
+	public void concurrentSetIfAbsentSucceedsOnce() throws Exception {
+		AtomicMaybeInt ints = new AtomicMaybeInt();
+		AtomicMaybeLong longs = new AtomicMaybeLong();
+		AtomicMaybe<Integer> references = new AtomicMaybe<>();
+		List<Integer> successes = runConcurrently(() -> {
+			int succeeded = 0;
+			for (int i = 0; i < UPDATES_PER_THREAD; i++) {
+				succeeded += ints.setIfAbsent(i) ? 1 : 0;
+				succeeded += longs.setIfAbsent(i) ? 1 : 0;
+				succeeded += references.setIfAbsent(i) ? 1 : 0;
+			}
+			return succeeded;
+		});
+		assertEquals(3, successes.stream().mapToInt(Integer::intValue).sum());
+	}
+
+	private static <T> List<T> runConcurrently(Callable<T> task) throws Exception {
+		ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+		try {
+			CountDownLatch start = new CountDownLatch(1);
+			List<Future<T>> futures = new ArrayList<>();
+			for (int i = 0; i < THREADS; i++) {
+				futures.add(executor.submit(() -> {
+					start.await();
+					return task.call();
+				}));
+			}
+			start.countDown();
+			List<T> results = new ArrayList<>();
+			for (Future<T> future : futures) {
+				results.add(future.get());
+			}
+			return results;
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+}
@@ -0,0 +1,91 @@
+package net.xeona.maybe;
+
+import static net.xeona.maybe.matcher.MaybeIntMatcher.isJustInt;
+import static net.xeona.maybe.matcher.MaybeIntMatcher.isNoInt;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.Test;
+
+public class IntToIntMaybeMapTest {
+
+	@Test
+	public void getOfMissingKeyIsNoInt() {
+		IntToIntMaybeMap map = new IntToIntMaybeMap();
+		assertThat(map.get(1), isNoInt());
+		assertEquals(-1, map.getOrElse(1, -1));
+		assertFalse(map.containsKey(1));
+		assertTrue(map.isEmpty());
+	}
+
+	@Test
+	public void putReplacesValueOfExistingKey() {
+		IntToIntMaybeMap map = new IntToIntMaybeMap();
+		map.put(7, 1);
+		map.put(7, Integer.MIN_VALUE);
+		assertThat(map.get(7), isJustInt(Integer.MIN_VALUE));
+		assertEquals(1, map.size());
+	}
+
+	@Test
+	public void zeroKeyIsHeldLikeAnyOther() {
+		IntToIntMaybeMap map = new IntToIntMaybeMap();
+		map.put(0, 42);
+		assertThat(map.get(0), isJustInt(42));
+		assertEquals(1, map.size());
+		assertTrue(map.remove(0));
+		assertFalse(map.remove(0));
+		assertThat(map.get(0), isNoInt());
+		assertTrue(map.isEmpty());
+	}
+
+	@Test
+	public void putOfNoIntRemovesKey() {
+		IntToIntMaybeMap map = new IntToIntMaybeMap();
+		map.put(3, MaybeInt.justInt(9));
+		map.put(3, MaybeInt.noInt());
+		assertFalse(map.containsKey(3));
+	}
+
+	@Test
+	public void clearRemovesEveryKey() {
+		IntToIntMaybeMap map = new IntToIntMaybeMap();
+		for (int key = -10; key <= 10; key++) {
+			map.put(key, key);
+		}
+		map.clear();
+		assertTrue(map.isEmpty());
+		for (int key = -10; key <= 10; key++) {
+			assertFalse(map.containsKey(key));
+		}
+	}
+
+	@Test
+	public void randomOperationsMatchHashMap() {
+		Random random = new Random(24);
+		IntToIntMaybeMap map = new IntToIntMaybeMap(0);
+		Map<Integer, Integer> expected = new HashMap<>();
+		for (int i = 0; i < 100_000; i++) {
+			int key = random.nextInt(2_000) - 1_000;
+			if (random.nextInt(3) == 0) {
+				assertEquals(expected.remove(key) != null, map.remove(key));
+			} else {
+				int value = random.nextInt();
+				expected.put(key, value);
+				map.put(key, value);
+			}
+		}
+		assertEquals(expected.size(), map.size());
+		for (int key = -1_000; key < 1_000; key++) {
+			Integer value = expected.get(key);
+			assertThat(map.get(key), value != null ? isJustInt(value) : isNoInt());
+		}
+	}
+
+}
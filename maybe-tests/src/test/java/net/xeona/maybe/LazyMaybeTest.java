@@ -0,0 +1,137 @@
+package net.xeona.maybe;
+
+import static net.xeona.maybe.matcher.MaybeIntMatcher.isJustInt;
+import static net.xeona.maybe.matcher.MaybeLongMatcher.isNoLong;
+import static net.xeona.maybe.matcher.MaybeMatcher.isJust;
+import static net.xeona.maybe.matcher.MaybeMatcher.isNothing;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+public class LazyMaybeTest {
+
+	@Test
+	public void providerIsNotCalledUntilRead() {
+		AtomicInteger calls = new AtomicInteger();
+		LazyMaybe<String> lazy = LazyMaybe.lazy(() -> {
+			calls.incrementAndGet();
+			return Maybe.just("value");
+		});
+		assertEquals(0, calls.get());
+		assertEquals("value", lazy.get());
+		assertEquals(1, calls.get());
+	}
+
+	@Test
+	public void presentResultIsComputedOnce() {
+		AtomicInteger calls = new AtomicInteger();
+		LazyMaybeInt lazy = LazyMaybeInt.lazyInt(() -> MaybeInt.justInt(calls.incrementAndGet()));
+		for (int i = 0; i < 10; i++) {
+			assertThat(lazy.toMaybeInt(), isJustInt(1));
+		}
+		assertEquals(1, calls.get());
+	}
+
+	@Test
+	public void absentResultIsComputedOnce() {
+		AtomicInteger calls = new AtomicInteger();
+		LazyMaybeLong lazy = LazyMaybeLong.lazyLong(() -> {
+			calls.incrementAndGet();
+			return MaybeLong.noLong();
+		});
+		assertFalse(lazy.isPresent());
+		assertEquals(-1L, lazy.orElse(-1L));
+		assertThat(lazy.toMaybeLong(), isNoLong());
+		assertEquals(1, calls.get());
+	}
+
+	@Test
+	public void throwingProviderIsCalledAgainOnNextRead() {
+		AtomicInteger calls = new AtomicInteger();
+		LazyMaybe<String> lazy = LazyMaybe.lazy(() -> {
+			if (calls.incrementAndGet() == 1) {
+				throw new IllegalStateException();
+			}
+			return Maybe.nothing();
+		});
+		try {
+			lazy.toMaybe();
+			fail();
+		} catch (IllegalStateException e) {}
+		assertThat(lazy.toMaybe(), isNothing());
+		assertThat(lazy.toMaybe(), isNothing());
+		assertEquals(2, calls.get());
+	}
+
+	@Test
+	public void mapIsLazyAndComputedOnce() {
+		AtomicInteger calls = new AtomicInteger();
+		LazyMaybe<String> lazy = LazyMaybe.lazy(() -> Maybe.just("abc"));
+		LazyMaybeInt length = lazy.map(value -> {
+			calls.incrementAndGet();
+			return value.toUpperCase();
+		}).filter(value -> value.startsWith("A")).mapToInt(String::length);
+		assertEquals(0, calls.get());
+		assertThat(length.toMaybeInt(), isJustInt(3));
+		assertThat(length.toMaybeInt(), isJustInt(3));
+		assertEquals(1, calls.get());
+	}
+
+	@Test
+	public void ifPresentPassesRememberedValue() {
+		List<Long> consumed = new ArrayList<>();
+		LazyMaybeLong lazy = LazyMaybeLong.lazyLong(() -> MaybeLong.justLong(Long.MAX_VALUE));
+		lazy.ifPresent(consumed::add);
+		lazy.mapToLong(value -> value - 1).ifPresent(consumed::add);
+		assertEquals(2, consumed.size());
+		assertEquals(Long.MAX_VALUE, consumed.get(0).longValue());
+		assertEquals(Long.MAX_VALUE - 1, consumed.get(1).longValue());
+	}
+
+	@Test(expected = NullPointerException.class)
+	public void nullResultOfProviderThrowsNullPointerException() {
+		LazyMaybe.lazy(() -> null).toMaybe();
+	}
+
+	@Test
+	public void concurrentReadsComputeOnce() throws InterruptedException {
+		AtomicInteger calls = new AtomicInteger();
+		LazyMaybe<Object> lazy = LazyMaybe.lazy(() -> Maybe.just(calls.incrementAndGet()));
+		CountDownLatch start = new CountDownLatch(1);
+		List<Thread> threads = new ArrayList<>();
+		List<Maybe<Object>> results = new ArrayList<>();
+		for (int i = 0; i < 8; i++) {
+			Thread thread = new Thread(() -> {
+				try {
+					start.await();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+				Maybe<Object> result = lazy.toMaybe();
+				synchronized (results) {
+					results.add(result);
+				}
+			});
+			threads.add(thread);
+			thread.start();
+		}
+		start.countDown();
+		for (Thread thread : threads) {
+			thread.join();
+		}
+		assertEquals(1, calls.get());
+		assertEquals(8, results.size());
+		for (Maybe<Object> result : results) {
+			assertThat(result, isJust(1));
+		}
+	}
+
+}
@@ -0,0 +1,69 @@
+package net.xeona.maybe;
+
+import static net.xeona.maybe.matcher.MaybeLongMatcher.isJustLong;
+import static net.xeona.maybe.matcher.MaybeLongMatcher.isNoLong;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.Test;
+
+public class LongToLongMaybeMapTest {
+
+	@Test
+	public void getOfMissingKeyIsNoLong() {
+		LongToLongMaybeMap map = new LongToLongMaybeMap();
+		assertThat(map.get(Long.MAX_VALUE), isNoLong());
+		assertEquals(-1L, map.getOrElse(Long.MAX_VALUE, -1L));
+	}
+
+	@Test
+	public void keysDifferingOnlyInHighBitsAreDistinct() {
+		LongToLongMaybeMap map = new LongToLongMaybeMap();
+		map.put(1L, 1L);
+		map.put(1L << 32 | 1L, 2L);
+		map.put(0L, 3L);
+		map.put(1L << 32, 4L);
+		assertThat(map.get(1L), isJustLong(1L));
+		assertThat(map.get(1L << 32 | 1L), isJustLong(2L));
+		assertThat(map.get(0L), isJustLong(3L));
+		assertThat(map.get(1L << 32), isJustLong(4L));
+		assertEquals(4, map.size());
+	}
+
+	@Test
+	public void putOfNoLongRemovesKey() {
+		LongToLongMaybeMap map = new LongToLongMaybeMap();
+		map.put(3L, MaybeLong.justLong(9L));
+		assertTrue(map.containsKey(3L));
+		map.put(3L, MaybeLong.noLong());
+		assertFalse(map.containsKey(3L));
+	}
+
+	@Test
+	public void randomOperationsMatchHashMap() {
+		Random random = new Random(24);
+		LongToLongMaybeMap map = new LongToLongMaybeMap(0);
+		Map<Long, Long> expected = new HashMap<>();
+		for (int i = 0; i < 100_000; i++) {
+			long key = (random.nextInt(2_000) - 1_000) * 0x1_0000_0001L;
+			if (random.nextInt(3) == 0) {
+				assertEquals(expected.remove(key) != null, map.remove(key));
+			} else {
+				long value = random.nextLong();
+				expected.put(key, value);
+				map.put(key, value);
+			}
+		}
+		assertEquals(expected.size(), map.size());
+		for (Map.Entry<Long, Long> entry : expected.entrySet()) {
+			assertEquals(entry.getValue().longValue(), map.getOrElse(entry.getKey(), ~entry.getValue()));
+		}
+	}
+
+}
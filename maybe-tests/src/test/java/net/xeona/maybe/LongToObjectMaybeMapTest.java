@@ -0,0 +1,70 @@
+package net.xeona.maybe;
+
+import static net.xeona.maybe.matcher.MaybeMatcher.isJust;
+import static net.xeona.maybe.matcher.MaybeMatcher.isNothing;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.Test;
+
+public class LongToObjectMaybeMapTest {
+
+	@Test
+	public void getOfMissingKeyIsNothing() {
+		LongToObjectMaybeMap<String> map = new LongToObjectMaybeMap<>();
+		assertThat(map.get(5L), isNothing());
+		assertEquals("other", map.getOrElse(5L, "other"));
+		assertNull(map.getOrElse(5L, null));
+	}
+
+	@Test
+	public void getOfPresentKeyIsJustValue() {
+		LongToObjectMaybeMap<String> map = new LongToObjectMaybeMap<>();
+		map.put(0L, "zero");
+		map.put(-1L, "minus one");
+		assertThat(map.get(0L), isJust("zero"));
+		assertThat(map.get(-1L), isJust("minus one"));
+	}
+
+	@Test
+	public void putOfNothingRemovesKey() {
+		LongToObjectMaybeMap<String> map = new LongToObjectMaybeMap<>();
+		map.put(3L, Maybe.just("three"));
+		map.put(3L, Maybe.nothing());
+		assertFalse(map.containsKey(3L));
+		assertEquals(0, map.size());
+	}
+
+	@Test(expected = NullPointerException.class)
+	public void putOfNullValueThrowsNullPointerException() {
+		new LongToObjectMaybeMap<String>().put(1L, (String) null);
+	}
+
+	@Test
+	public void randomOperationsMatchHashMap() {
+		Random random = new Random(24);
+		LongToObjectMaybeMap<String> map = new LongToObjectMaybeMap<>();
+		Map<Long, String> expected = new HashMap<>();
+		for (int i = 0; i < 100_000; i++) {
+			long key = random.nextInt(2_000) - 1_000;
+			if (random.nextInt(3) == 0) {
+				assertEquals(expected.remove(key) != null, map.remove(key));
+			} else {
+				String value = Integer.toString(i);
+				expected.put(key, value);
+				map.put(key, value);
+			}
+		}
+		assertEquals(expected.size(), map.size());
+		for (long key = -1_000; key < 1_000; key++) {
+			assertEquals(expected.get(key), map.getOrElse(key, null));
+		}
+	}
+
+}
@@ -21,6 +21,7 @@ import static net.xeona.maybe.matcher.MaybeLongMatcher.isJustLong;
 import static net.xeona.maybe.matcher.MaybeMatcher.isJust;
 import static org.apache.commons.lang3.RandomUtils.nextBoolean;
 import static org.apache.commons.lang3.RandomUtils.nextInt;
+import static org.apache.commons.lang3.SerializationUtils.roundtrip;
 import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasSize;
@@ -34,6 +35,10 @@ import static org.junit.Assert.fail;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 
+import java.util.Optional;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+
 import org.apache.commons.lang3.RandomUtils;
 import org.hamcrest.Matcher;
 import org.junit.Test;
@@ -532,6 +537,33 @@ public class MaybeBooleanTest {
 		boolean value = nextBoolean();
 	}
 
+	@Test
+	public void spliteratorOfJustBooleanHasExactSize() {
+		Spliterator<Boolean> spliterator = justBoolean(true).spliterator();
+		assertThat(spliterator.getExactSizeIfKnown(), is(1L));
+		assertTrue(spliterator.hasCharacteristics(Spliterator.NONNULL | Spliterator.DISTINCT));
+	}
+
+	@Test
+	public void streamOfJustBooleanContainsOnlyValue() {
+		boolean value = nextBoolean();
+		assertThat(justBoolean(value).stream().collect(Collectors.toList()), is(asList(value)));
+	}
+
+	@Test
+	public void spliteratorOfNoBooleanIsSharedAndEmpty() {
+		assertThat(noBoolean().spliterator(), is(sameInstance(noBoolean().spliterator())));
+		assertThat(noBoolean().stream().count(), is(0L));
+	}
+
+	@Test
+	public void fromOptionalRoundTripsThroughToOptional() {
+		assertThat(MaybeBoolean.fromOptional(Optional.of(true)), is(justBoolean(true)));
+		assertThat(MaybeBoolean.fromOptional(Optional.empty()), is(noBoolean()));
+		assertThat(MaybeBoolean.toOptional(justBoolean(false)), is(Optional.of(false)));
+		assertThat(MaybeBoolean.toOptional(noBoolean()), is(Optional.empty()));
+	}
+
 	private static void extractValueFunctionOnJustBooleanReturnsValue(
 			ToBooleanFunction<? super MaybeBoolean, ? extends RuntimeException> extractFunction) {
 		MaybeTestUtility.extractValueFunctionOnJustReturnsValue(RandomUtils::nextBoolean, MaybeBoolean::justBoolean,
@@ -613,4 +645,11 @@ public class MaybeBooleanTest {
 		return (char) nextInt(Character.MIN_VALUE, Character.MAX_VALUE);
 	}
 
+	@Test
+	public void maybeBooleanDeserializesToCanonicalInstance() {
+		assertThat(roundtrip(justBoolean(true)), is(sameInstance(justBoolean(true))));
+		assertThat(roundtrip(justBoolean(false)), is(sameInstance(justBoolean(false))));
+		assertThat(roundtrip(noBoolean()), is(sameInstance(noBoolean())));
+	}
+
 }
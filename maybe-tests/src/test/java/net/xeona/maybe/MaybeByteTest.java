@@ -0,0 +1,97 @@
+package net.xeona.maybe;
+
+import static java.util.Arrays.asList;
+import static net.xeona.maybe.MaybeByte.justByte;
+import static net.xeona.maybe.matcher.MaybeByteMatcher.isJustByte;
+import static net.xeona.maybe.matcher.MaybeByteMatcher.isNoByte;
+import static net.xeona.maybe.matcher.MaybeShortMatcher.isJustShort;
+import static org.apache.commons.lang3.SerializationUtils.roundtrip;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+import java.util.NoSuchElementException;
+import java.util.OptionalInt;
+
+import org.junit.Test;
+
+public class MaybeByteTest {
+
+	@Test
+	public void justByteReturnsCanonicalInstanceForEveryValue() {
+		for (int value = Byte.MIN_VALUE; value <= Byte.MAX_VALUE; value++) {
+			assertThat(justByte((byte) value), is(sameInstance(justByte((byte) value))));
+		}
+	}
+
+	@Test
+	public void justByteContainsValueForEveryValue() {
+		for (int value = Byte.MIN_VALUE; value <= Byte.MAX_VALUE; value++) {
+			assertThat(justByte((byte) value), isJustByte((byte) value));
+		}
+	}
+
+	@Test
+	public void justByteDoesNotEqualJustByteOfDifferentValue() {
+		assertThat(justByte((byte) 42), not(justByte((byte) -42)));
+	}
+
+	@Test(expected = NoSuchElementException.class)
+	public void getOfNoByteThrowsNoSuchElementException() {
+		MaybeByte.noByte().get();
+	}
+
+	@Test
+	public void toOptionalIntWidensValue() {
+		assertThat(MaybeByte.toOptionalInt(justByte(Byte.MIN_VALUE)), is(OptionalInt.of(Byte.MIN_VALUE)));
+		assertThat(MaybeByte.toOptionalInt(MaybeByte.noByte()), is(OptionalInt.empty()));
+	}
+
+	@Test
+	public void justByteDeserializesToCanonicalInstanceForEveryValue() {
+		for (int value = Byte.MIN_VALUE; value <= Byte.MAX_VALUE; value++) {
+			assertThat(roundtrip(justByte((byte) value)), is(sameInstance(justByte((byte) value))));
+		}
+	}
+
+	@Test
+	public void noByteDeserializesToSameInstance() {
+		assertThat(roundtrip(MaybeByte.noByte()), is(sameInstance(MaybeByte.noByte())));
+	}
+
+	@Test
+	public void maybeShortIsSerializable() {
+		assertThat(roundtrip(MaybeShort.justShort(Short.MIN_VALUE)), isJustShort(Short.MIN_VALUE));
+		assertThat(roundtrip(MaybeShort.noShort()), is(sameInstance(MaybeShort.noShort())));
+	}
+
+	@Test
+	public void parseByteOfValidSequenceReturnsJustByteOfValue() {
+		assertThat(MaybeByte.parseByte("42"), isJustByte((byte) 42));
+		assertThat(MaybeByte.parseByte("127"), isJustByte(Byte.MAX_VALUE));
+		assertThat(MaybeByte.parseByte("-128"), isJustByte(Byte.MIN_VALUE));
+		assertThat(MaybeByte.parseByte("+007"), isJustByte((byte) 7));
+	}
+
+	@Test
+	public void parseByteOfOverflowingSequenceReturnsNoByte() {
+		assertThat(MaybeByte.parseByte("128"), isNoByte());
+		assertThat(MaybeByte.parseByte("-129"), isNoByte());
+		assertThat(MaybeByte.parseByte("999"), isNoByte());
+	}
+
+	@Test
+	public void parseByteOfMalformedSequenceReturnsNoByte() {
+		for (String sequence : asList("", "-", "+", "1a", " 1", "1 ", "1.0", "--1", "0x10")) {
+			assertThat(MaybeByte.parseByte(sequence), isNoByte());
+		}
+	}
+
+	@Test
+	public void orElseOfUnparseableSequenceReturnsOther() {
+		assertThat(MaybeByte.parseByte("999").orElse((byte) 7), is((byte) 7));
+		assertThat(MaybeByte.parseByte("bad").orElse((byte) 7), is((byte) 7));
+	}
+
+}
@@ -0,0 +1,53 @@
+package net.xeona.maybe;
+
+import static net.xeona.maybe.MaybeChar.justChar;
+import static org.apache.commons.lang3.SerializationUtils.roundtrip;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+import java.util.OptionalInt;
+
+import org.junit.Test;
+
+public class MaybeCharTest {
+
+	@Test
+	public void justCharOfLatin1ValueReturnsCanonicalInstance() {
+		for (char value = 0; value <= 0xFF; value++) {
+			assertThat(justChar(value), is(sameInstance(justChar(value))));
+		}
+	}
+
+	@Test
+	public void justCharOfLatin1ValueContainsValue() {
+		for (char value = 0; value <= 0xFF; value++) {
+			assertThat(justChar(value).get(), is(value));
+		}
+	}
+
+	@Test
+	public void justCharOfNonLatin1ValueEqualsJustCharOfSameValue() {
+		char value = (char) 0x20AC;
+		assertThat(justChar(value), is(justChar(value)));
+	}
+
+	@Test
+	public void justCharDoesNotEqualJustCharOfDifferentValue() {
+		assertThat(justChar('a'), not(justChar('b')));
+	}
+
+	@Test
+	public void toOptionalIntWidensValue() {
+		assertThat(MaybeChar.toOptionalInt(justChar('\uFFFF')), is(OptionalInt.of(0xFFFF)));
+		assertThat(MaybeChar.toOptionalInt(MaybeChar.nothing()), is(OptionalInt.empty()));
+	}
+
+	@Test
+	public void maybeCharIsSerializable() {
+		assertThat(roundtrip(justChar('\uffff')), is(justChar('\uffff')));
+		assertThat(roundtrip(MaybeChar.nothing()), is(sameInstance(MaybeChar.nothing())));
+	}
+
+}
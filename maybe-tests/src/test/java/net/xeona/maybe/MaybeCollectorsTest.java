@@ -0,0 +1,128 @@
+package net.xeona.maybe;
+
+import static java.util.Arrays.asList;
+import static net.xeona.maybe.Maybe.just;
+import static net.xeona.maybe.Maybe.nothing;
+import static net.xeona.maybe.matcher.MaybeDoubleMatcher.isJustDouble;
+import static net.xeona.maybe.matcher.MaybeDoubleMatcher.isNoDouble;
+import static net.xeona.maybe.matcher.MaybeIntMatcher.isJustInt;
+import static net.xeona.maybe.matcher.MaybeIntMatcher.isNoInt;
+import static net.xeona.maybe.matcher.MaybeLongMatcher.isJustLong;
+import static net.xeona.maybe.matcher.MaybeLongMatcher.isNoLong;
+import static net.xeona.maybe.matcher.MaybeMatcher.isJust;
+import static net.xeona.maybe.matcher.MaybeMatcher.isNothing;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.Test;
+
+public class MaybeCollectorsTest {
+
+	@Test
+	public void firstPresentReturnsFirstPresentValueInEncounterOrder() {
+		Maybe<String> first = Stream.of(Maybe.<String> nothing(), just("a"), just("b"))
+				.collect(MaybeCollectors.firstPresent());
+		assertThat(first, isJust("a"));
+	}
+
+	@Test
+	public void firstPresentReturnsThePresentElementItself() {
+		Maybe<String> element = just("a");
+		assertThat(Stream.of(Maybe.<String> nothing(), element).collect(MaybeCollectors.firstPresent()),
+				is(sameInstance(element)));
+	}
+
+	@Test
+	public void firstPresentOfParallelStreamReturnsFirstPresentValueInEncounterOrder() {
+		Maybe<Integer> first = IntStream.range(0, 10000).parallel()
+				.mapToObj(value -> value < 5000 ? Maybe.<Integer> nothing() : just(value))
+				.collect(MaybeCollectors.firstPresent());
+		assertThat(first, isJust(5000));
+	}
+
+	@Test
+	public void firstPresentOfAbsentElementsReturnsNothing() {
+		assertThat(Stream.of(nothing(), nothing()).collect(MaybeCollectors.firstPresent()), isNothing());
+	}
+
+	@Test
+	public void sequenceOfPresentElementsReturnsAllValuesInEncounterOrder() {
+		List<Integer> values = IntStream.range(0, 10000).boxed().collect(Collectors.toList());
+		Maybe<List<Integer>> sequence = values.parallelStream().map(Maybe::just)
+				.collect(MaybeCollectors.sequence());
+		assertThat(sequence, isJust(values));
+	}
+
+	@Test
+	public void sequenceWithAbsentElementReturnsNothing() {
+		assertThat(Stream.of(just("a"), nothing(), just("b")).collect(MaybeCollectors.sequence()), isNothing());
+	}
+
+	@Test
+	public void sequenceOfEmptyStreamReturnsEmptyList() {
+		assertThat(Stream.<Maybe<String>> empty().collect(MaybeCollectors.sequence()), isJust(asList()));
+	}
+
+	@Test
+	public void traverseAppliesFunctionToEveryElement() {
+		Maybe<List<String>> traversed = Stream.of(1, 2, 3)
+				.collect(MaybeCollectors.traverse(value -> just(Integer.toString(value))));
+		assertThat(traversed, isJust(asList("1", "2", "3")));
+	}
+
+	@Test
+	public void traverseStopsApplyingFunctionAfterFirstAbsentResult() {
+		AtomicInteger applications = new AtomicInteger();
+		Maybe<List<Integer>> traversed = Stream.of(1, 2, 3, 4).collect(MaybeCollectors.traverse(value -> {
+			applications.incrementAndGet();
+			return value == 2 ? Maybe.<Integer> nothing() : just(value);
+		}));
+		assertThat(traversed, isNothing());
+		assertThat(applications.get(), is(2));
+	}
+
+	@Test
+	public void summingMaybeIntSumsPresentValues() {
+		MaybeInt sum = IntStream.range(0, 1000).parallel()
+				.mapToObj(value -> value % 2 == 0 ? MaybeInt.justInt(value) : MaybeInt.noInt())
+				.collect(MaybeCollectors.summingMaybeInt());
+		assertThat(sum, isJustInt(249500));
+	}
+
+	@Test
+	public void summingMaybeIntOfAbsentElementsReturnsNoInt() {
+		assertThat(Stream.of(MaybeInt.noInt()).collect(MaybeCollectors.summingMaybeInt()), isNoInt());
+	}
+
+	@Test
+	public void maxMaybeLongReturnsGreatestPresentValue() {
+		MaybeLong max = Stream.of(MaybeLong.justLong(-9L), MaybeLong.noLong(), MaybeLong.justLong(-5L))
+				.collect(MaybeCollectors.maxMaybeLong());
+		assertThat(max, isJustLong(-5L));
+	}
+
+	@Test
+	public void maxMaybeLongOfEmptyStreamReturnsNoLong() {
+		assertThat(Stream.<MaybeLong> empty().collect(MaybeCollectors.maxMaybeLong()), isNoLong());
+	}
+
+	@Test
+	public void averagingMaybeDoubleAveragesPresentValues() {
+		MaybeDouble average = Stream.of(MaybeDouble.justDouble(1.0), MaybeDouble.nothing(), MaybeDouble.justDouble(2.0))
+				.collect(MaybeCollectors.averagingMaybeDouble());
+		assertThat(average, isJustDouble(1.5));
+	}
+
+	@Test
+	public void averagingMaybeDoubleOfAbsentElementsReturnsNothing() {
+		assertThat(Stream.of(MaybeDouble.nothing()).collect(MaybeCollectors.averagingMaybeDouble()), isNoDouble());
+	}
+
+}
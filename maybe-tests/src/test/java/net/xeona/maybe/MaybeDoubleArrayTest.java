@@ -0,0 +1,75 @@
+package net.xeona.maybe;
+
+import static net.xeona.maybe.NumberMatchers.doubleBinaryEqualTo;
+import static net.xeona.maybe.RandomNumberUtility.aRandomDouble;
+import static net.xeona.maybe.matcher.MaybeDoubleMatcher.isJustDouble;
+import static net.xeona.maybe.matcher.MaybeDoubleMatcher.isNoDouble;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThat;
+
+import org.junit.Test;
+
+public class MaybeDoubleArrayTest {
+
+	@Test
+	public void setElementIsPresentAndOthersAreAbsent() {
+		MaybeDoubleArray array = new MaybeDoubleArray(70);
+		double value = aRandomDouble();
+		array.set(64, value);
+		assertThat(array.get(64), isJustDouble(doubleBinaryEqualTo(value)));
+		assertThat(array.get(63), isNoDouble());
+		assertEquals(-1.0, array.getOrElse(0, -1.0), 0);
+	}
+
+	@Test
+	public void aggregatesOfEmptyArrayAreAbsent() {
+		MaybeDoubleArray array = new MaybeDoubleArray(100);
+		assertThat(array.sum(), isNoDouble());
+		assertThat(array.min(), isNoDouble());
+		assertThat(array.max(), isNoDouble());
+		assertThat(array.average(), isNoDouble());
+		assertEquals(0, array.count(value -> true));
+	}
+
+	@Test
+	public void aggregatesIgnoreAbsentElements() {
+		MaybeDoubleArray array = new MaybeDoubleArray(200);
+		array.set(3, -4.5);
+		array.set(70, 10.0);
+		array.set(199, 0.5);
+		assertThat(array.sum(), isJustDouble(6.0));
+		assertThat(array.min(), isJustDouble(-4.5));
+		assertThat(array.max(), isJustDouble(10.0));
+		assertThat(array.average(), isJustDouble(2.0));
+		assertEquals(2, array.count(value -> value > 0));
+		assertEquals(3, array.presentCount());
+	}
+
+	@Test
+	public void aggregatesOfFullWordsAndPartialWordsAgree() {
+		MaybeDoubleArray array = new MaybeDoubleArray(300);
+		array.fill(10, 290, 0.5);
+		array.clear(150);
+		assertThat(array.sum(), isJustDouble(139.5));
+		assertThat(array.average(), isJustDouble(0.5));
+	}
+
+	@Test
+	public void minAndMaxOfPresentNaNAreNaN() {
+		MaybeDoubleArray array = new MaybeDoubleArray(3);
+		array.set(0, 1.0);
+		array.set(2, Double.NaN);
+		assertThat(array.min(), isJustDouble(doubleBinaryEqualTo(Double.NaN)));
+		assertThat(array.max(), isJustDouble(doubleBinaryEqualTo(Double.NaN)));
+	}
+
+	@Test
+	public void minDistinguishesSignedZeros() {
+		MaybeDoubleArray array = new MaybeDoubleArray(2);
+		array.set(0, 0.0);
+		array.set(1, -0.0);
+		assertThat(array.min(), isJustDouble(doubleBinaryEqualTo(-0.0)));
+		assertThat(array.max(), isJustDouble(doubleBinaryEqualTo(0.0)));
+	}
+
+}
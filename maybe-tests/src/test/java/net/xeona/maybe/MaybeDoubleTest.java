@@ -0,0 +1,163 @@
+package net.xeona.maybe;
+
+import static java.util.Arrays.asList;
+import static net.xeona.maybe.NumberMatchers.doubleBinaryEqualTo;
+import static net.xeona.maybe.NumberMatchers.floatBinaryEqualTo;
+import static net.xeona.maybe.matcher.MaybeDoubleMatcher.isJustDouble;
+import static net.xeona.maybe.matcher.MaybeDoubleMatcher.isNoDouble;
+import static net.xeona.maybe.matcher.MaybeFloatMatcher.isJustFloat;
+import static net.xeona.maybe.matcher.MaybeFloatMatcher.isNoFloat;
+import static org.apache.commons.lang3.SerializationUtils.roundtrip;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.OptionalDouble;
+
+import org.junit.Test;
+
+public class MaybeDoubleTest {
+
+	@Test
+	public void parseDoubleOfCanonicalRepresentationReturnsJustDoubleOfValue() {
+		for (int i = 0; i < 1000; i++) {
+			double value = RandomNumberUtility.aRandomDouble();
+			if (!Double.isNaN(value)) {
+				assertThat(MaybeDouble.parseDouble(Double.toString(value)), isJustDouble(doubleBinaryEqualTo(value)));
+			}
+		}
+	}
+
+	@Test
+	public void parseDoubleAgreesWithDoubleParseDouble() {
+		for (String sequence : asList("0", "-0", "1.5", "-.5", "3.", "0.1", "6.02e23", "1E-5", "+7", "NaN", "-Infinity",
+				"1.7976931348623157e308", "1e309", "4.9e-324", "1e-400", "123456789012345678901234567890")) {
+			assertThat(MaybeDouble.parseDouble(sequence),
+					isJustDouble(doubleBinaryEqualTo(Double.parseDouble(sequence))));
+		}
+	}
+
+	@Test
+	public void parseDoubleOfMalformedSequenceReturnsNothing() {
+		for (String sequence : asList("", "-", ".", "e5", "1e", "1e+", "1.5d", " 1", "0x1p3", "nan", "1..2")) {
+			assertThat(MaybeDouble.parseDouble(sequence), isNoDouble());
+		}
+	}
+
+	@Test
+	public void parseDoubleOfRegionParsesOnlyRegion() {
+		assertThat(MaybeDouble.parseDouble("price=12.25;", 6, 5), isJustDouble(12.25));
+	}
+
+	@Test
+	public void parseDoubleOfBytesAgreesWithParseDoubleOfSequence() {
+		for (String sequence : asList("0", "-0.0", "1.5", "0.1", "1e23", "4.9e-324", "1.7976931348623157e309",
+				"123456789012345678901234567890", "-Infinity", "", "1.", ".5", "1e", "1,5")) {
+			byte[] bytes = sequence.getBytes(StandardCharsets.US_ASCII);
+			ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length);
+			direct.put(bytes);
+			assertThat(MaybeDouble.parseDouble(bytes, 0, bytes.length), is(MaybeDouble.parseDouble(sequence)));
+			assertThat(MaybeDouble.parseDouble(direct, 0, bytes.length), is(MaybeDouble.parseDouble(sequence)));
+		}
+		assertThat(MaybeDouble.parseDouble(new byte[] { 'N', 'a', 'N' }, 0, 3),
+				isJustDouble(doubleBinaryEqualTo(Double.NaN)));
+	}
+
+	@Test
+	public void readDoubleAdvancesPastEachField() {
+		ByteBuffer buffer = ByteBuffer.wrap("12.25 -3e2x.5".getBytes(StandardCharsets.US_ASCII));
+		assertThat(MaybeDouble.readDouble(buffer, 5), isJustDouble(12.25));
+		buffer.get();
+		assertThat(MaybeDouble.readDouble(buffer, 4), isJustDouble(-300.0));
+		assertThat(MaybeDouble.readDouble(buffer, 3), isNoDouble());
+		assertThat(buffer.hasRemaining(), is(false));
+	}
+
+	@Test
+	public void doubleStreamOfJustDoubleContainsOnlyValue() {
+		double value = RandomNumberUtility.aRandomDouble();
+		double[] values = MaybeDouble.justDouble(value).doubleStream().toArray();
+		assertThat(values.length, is(1));
+		assertThat(values[0], doubleBinaryEqualTo(value));
+	}
+
+	@Test
+	public void doubleStreamOfNothingIsEmpty() {
+		assertThat(MaybeDouble.nothing().doubleStream().count(), is(0L));
+	}
+
+	@Test
+	public void parseFloatOfCanonicalRepresentationReturnsJustFloatOfValue() {
+		for (int i = 0; i < 1000; i++) {
+			float value = RandomNumberUtility.aRandomFloat();
+			if (!Float.isNaN(value)) {
+				assertThat(MaybeFloat.parseFloat(Float.toString(value)), isJustFloat(floatBinaryEqualTo(value)));
+			}
+		}
+	}
+
+	@Test
+	public void parseFloatAgreesWithFloatParseFloat() {
+		for (String sequence : asList("0", "1.5", "0.1", "16777217", "3.4028235e38", "3.4028236e38", "1.4e-45",
+				"9007199254740993")) {
+			assertThat(MaybeFloat.parseFloat(sequence), isJustFloat(floatBinaryEqualTo(Float.parseFloat(sequence))));
+		}
+	}
+
+	@Test
+	public void parseFloatOfMalformedSequenceReturnsNothing() {
+		for (String sequence : asList("", "+", "1f", "1,5")) {
+			assertThat(MaybeFloat.parseFloat(sequence), isNoFloat());
+		}
+	}
+
+	@Test
+	public void fromOptionalDoubleRoundTripsThroughToOptionalDouble() {
+		assertThat(MaybeDouble.fromOptionalDouble(OptionalDouble.of(-0.0)), isJustDouble(doubleBinaryEqualTo(-0.0)));
+		assertThat(MaybeDouble.fromOptionalDouble(OptionalDouble.empty()), isNoDouble());
+		assertThat(MaybeDouble.toOptionalDouble(MaybeDouble.justDouble(1.5)), is(OptionalDouble.of(1.5)));
+		assertThat(MaybeDouble.toOptionalDouble(MaybeDouble.nothing()), is(OptionalDouble.empty()));
+	}
+
+	@Test
+	public void maybeFloatToOptionalDoubleWidensValue() {
+		assertThat(MaybeFloat.toOptionalDouble(MaybeFloat.justFloat(0.1f)), is(OptionalDouble.of(0.1f)));
+		assertThat(MaybeFloat.toOptionalDouble(MaybeFloat.nothing()), is(OptionalDouble.empty()));
+	}
+
+	@Test
+	public void zipWithAppliesFunctionOnlyIfBothPresent() {
+		assertThat(MaybeDouble.justDouble(0.5).zipWith(MaybeDouble.justDouble(0.25), Double::sum), isJustDouble(0.75));
+		assertThat(MaybeDouble.justDouble(0.5).zipWith(MaybeInt.justInt(2), Math::pow), isJustDouble(0.25));
+		assertThat(MaybeDouble.justDouble(0.5).zipWith(MaybeDouble.nothing(), Double::sum), isNoDouble());
+		assertThat(MaybeDouble.nothing().zipWith(MaybeInt.justInt(2), Double::sum), isNoDouble());
+	}
+
+	@Test
+	public void flatMapToDoubleReturnsResultOfFunctionOnlyIfPresent() {
+		assertThat(MaybeDouble.justDouble(4).flatMapToDouble(value -> MaybeDouble.justDouble(Math.sqrt(value))),
+				isJustDouble(2));
+		assertThat(MaybeDouble.nothing().flatMapToDouble(MaybeDouble::justDouble), isNoDouble());
+	}
+
+	@Test
+	public void justDoubleSerializationPreservesNaNPayload() {
+		double value = Double.longBitsToDouble(0x7ff0_0000_0000_0001L);
+		assertThat(roundtrip(MaybeDouble.justDouble(value)).get(), is(doubleBinaryEqualTo(value)));
+	}
+
+	@Test
+	public void justFloatSerializationPreservesNaNPayload() {
+		float value = Float.intBitsToFloat(0x7f80_0001);
+		assertThat(roundtrip(MaybeFloat.justFloat(value)).get(), is(floatBinaryEqualTo(value)));
+	}
+
+	@Test
+	public void absentDoubleAndFloatDeserializeToSameInstance() {
+		assertThat(roundtrip(MaybeDouble.nothing()), is(sameInstance(MaybeDouble.nothing())));
+		assertThat(roundtrip(MaybeFloat.nothing()), is(sameInstance(MaybeFloat.nothing())));
+	}
+
+}
@@ -0,0 +1,98 @@
+package net.xeona.maybe;
+
+import static net.xeona.maybe.NumberMatchers.doubleBinaryEqualTo;
+import static net.xeona.maybe.RandomNumberUtility.aRandomDouble;
+import static net.xeona.maybe.matcher.MaybeDoubleMatcher.isJustDouble;
+import static net.xeona.maybe.matcher.MaybeDoubleMatcher.isNoDouble;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+import java.util.NoSuchElementException;
+
+import org.junit.Test;
+
+public class MaybeDoublesTest {
+
+	@Test
+	public void packedRandomBitPatternRoundTripsBitForBit() {
+		for (int i = 0; i < 10000; i++) {
+			double value = aRandomDouble();
+			long packed = MaybeDoubles.pack(value);
+			assertTrue(MaybeDoubles.isPresent(packed));
+			assertEquals(Double.doubleToRawLongBits(value), Double.doubleToRawLongBits(MaybeDoubles.get(packed)));
+		}
+	}
+
+	@Test
+	public void packedNaNsRoundTripBitForBit() {
+		for (long bits : new long[] { 0x7FF8000000000000L, 0xFFF8000000000000L, 0x7FF0000000000001L,
+				0x7FFFFFFFFFFFFFFFL, 0xFFFFFFFFFFFFFFFFL, 0x7FF80000000A7E5CL, 0x7FF80000000A7E5EL }) {
+			double value = Double.longBitsToDouble(bits);
+			assertEquals(bits, Double.doubleToRawLongBits(MaybeDoubles.get(MaybeDoubles.pack(value))));
+		}
+	}
+
+	@Test
+	public void packedReservedNaNIsPresentAndNaN() {
+		long packed = MaybeDoubles.pack(Double.longBitsToDouble(MaybeDoubles.noDouble()));
+		assertTrue(MaybeDoubles.isPresent(packed));
+		assertTrue(Double.isNaN(MaybeDoubles.get(packed)));
+	}
+
+	@Test
+	public void packedSignedZerosAreDistinct() {
+		assertEquals(Double.doubleToRawLongBits(-0.0),
+				Double.doubleToRawLongBits(MaybeDoubles.get(MaybeDoubles.pack(-0.0))));
+		assertTrue(MaybeDoubles.pack(0.0) != MaybeDoubles.pack(-0.0));
+	}
+
+	@Test
+	public void noDoubleIsNotPresent() {
+		assertFalse(MaybeDoubles.isPresent(MaybeDoubles.noDouble()));
+	}
+
+	@Test(expected = NoSuchElementException.class)
+	public void getOfNoDoubleThrowsNoSuchElementException() {
+		MaybeDoubles.get(MaybeDoubles.noDouble());
+	}
+
+	@Test
+	public void orElseReturnsValueIfPresentOrOtherwiseOther() {
+		assertEquals(1.5, MaybeDoubles.orElse(MaybeDoubles.pack(1.5), 2.5), 0);
+		assertEquals(2.5, MaybeDoubles.orElse(MaybeDoubles.noDouble(), 2.5), 0);
+	}
+
+	@Test
+	public void mapAppliesFunctionToPresentValueOnly() {
+		assertEquals(MaybeDoubles.pack(3.0), MaybeDoubles.map(MaybeDoubles.pack(1.5), value -> value * 2));
+		assertEquals(MaybeDoubles.noDouble(), MaybeDoubles.map(MaybeDoubles.noDouble(), value -> {
+			throw new AssertionError();
+		}));
+	}
+
+	@Test
+	public void filterKeepsOnlyMatchingValue() {
+		assertEquals(MaybeDoubles.pack(1.5), MaybeDoubles.filter(MaybeDoubles.pack(1.5), value -> value > 0));
+		assertEquals(MaybeDoubles.noDouble(), MaybeDoubles.filter(MaybeDoubles.pack(-1.5), value -> value > 0));
+		assertEquals(MaybeDoubles.noDouble(), MaybeDoubles.filter(MaybeDoubles.noDouble(), value -> true));
+	}
+
+	@Test
+	public void conversionToAndFromMaybeDoubleRoundTripsRandomBitPatterns() {
+		for (int i = 0; i < 1000; i++) {
+			double value = aRandomDouble();
+			MaybeDouble maybeDouble = MaybeDoubles.toMaybeDouble(MaybeDoubles.pack(value));
+			assertThat(maybeDouble, isJustDouble(doubleBinaryEqualTo(value)));
+			assertEquals(MaybeDoubles.pack(value), MaybeDoubles.fromMaybeDouble(maybeDouble));
+		}
+	}
+
+	@Test
+	public void conversionToAndFromNothingRoundTrips() {
+		assertThat(MaybeDoubles.toMaybeDouble(MaybeDoubles.noDouble()), isNoDouble());
+		assertEquals(MaybeDoubles.noDouble(), MaybeDoubles.fromMaybeDouble(MaybeDouble.nothing()));
+	}
+
+}
@@ -0,0 +1,85 @@
+package net.xeona.maybe;
+
+import static net.xeona.maybe.NumberMatchers.floatBinaryEqualTo;
+import static net.xeona.maybe.RandomNumberUtility.aRandomFloat;
+import static net.xeona.maybe.matcher.MaybeFloatMatcher.isJustFloat;
+import static net.xeona.maybe.matcher.MaybeFloatMatcher.isNoFloat;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+import java.util.NoSuchElementException;
+
+import org.junit.Test;
+
+public class MaybeFloatsTest {
+
+	@Test
+	public void packedRandomBitPatternRoundTripsBitForBit() {
+		for (int i = 0; i < 10000; i++) {
+			float value = aRandomFloat();
+			long packed = MaybeFloats.pack(value);
+			assertTrue(MaybeFloats.isPresent(packed));
+			assertEquals(Float.floatToRawIntBits(value), Float.floatToRawIntBits(MaybeFloats.get(packed)));
+		}
+	}
+
+	@Test
+	public void packedNaNsRoundTripBitForBit() {
+		for (int bits : new int[] { 0x7FC00000, 0xFFC00000, 0x7F800001, 0x7FFFFFFF, 0xFFFFFFFF }) {
+			float value = Float.intBitsToFloat(bits);
+			assertEquals(bits, Float.floatToRawIntBits(MaybeFloats.get(MaybeFloats.pack(value))));
+		}
+	}
+
+	@Test
+	public void zeroIsNoFloat() {
+		assertEquals(0L, MaybeFloats.noFloat());
+		assertFalse(MaybeFloats.isPresent(0L));
+		assertTrue(MaybeFloats.pack(0.0f) != MaybeFloats.noFloat());
+	}
+
+	@Test(expected = NoSuchElementException.class)
+	public void getOfNoFloatThrowsNoSuchElementException() {
+		MaybeFloats.get(MaybeFloats.noFloat());
+	}
+
+	@Test
+	public void orElseReturnsValueIfPresentOrOtherwiseOther() {
+		assertEquals(1.5f, MaybeFloats.orElse(MaybeFloats.pack(1.5f), 2.5f), 0);
+		assertEquals(2.5f, MaybeFloats.orElse(MaybeFloats.noFloat(), 2.5f), 0);
+	}
+
+	@Test
+	public void mapAppliesFunctionToPresentValueOnly() {
+		assertEquals(MaybeFloats.pack(3.0f), MaybeFloats.map(MaybeFloats.pack(1.5f), value -> value * 2));
+		assertEquals(MaybeFloats.noFloat(), MaybeFloats.map(MaybeFloats.noFloat(), value -> {
+			throw new AssertionError();
+		}));
+	}
+
+	@Test
+	public void filterKeepsOnlyMatchingValue() {
+		assertEquals(MaybeFloats.pack(1.5f), MaybeFloats.filter(MaybeFloats.pack(1.5f), value -> value > 0));
+		assertEquals(MaybeFloats.noFloat(), MaybeFloats.filter(MaybeFloats.pack(-1.5f), value -> value > 0));
+		assertEquals(MaybeFloats.noFloat(), MaybeFloats.filter(MaybeFloats.noFloat(), value -> true));
+	}
+
+	@Test
+	public void conversionToAndFromMaybeFloatRoundTripsRandomBitPatterns() {
+		for (int i = 0; i < 1000; i++) {
+			float value = aRandomFloat();
+			MaybeFloat maybeFloat = MaybeFloats.toMaybeFloat(MaybeFloats.pack(value));
+			assertThat(maybeFloat, isJustFloat(floatBinaryEqualTo(value)));
+			assertEquals(MaybeFloats.pack(value), MaybeFloats.fromMaybeFloat(maybeFloat));
+		}
+	}
+
+	@Test
+	public void conversionToAndFromNothingRoundTrips() {
+		assertThat(MaybeFloats.toMaybeFloat(MaybeFloats.noFloat()), isNoFloat());
+		assertEquals(MaybeFloats.noFloat(), MaybeFloats.fromMaybeFloat(MaybeFloat.nothing()));
+	}
+
+}
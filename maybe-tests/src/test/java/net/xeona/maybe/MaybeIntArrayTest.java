@@ -0,0 +1,178 @@
+package net.xeona.maybe;
+
+import static net.xeona.maybe.RandomNumberUtility.aRandomInt;
+import static net.xeona.maybe.matcher.MaybeIntMatcher.isJustInt;
+import static net.xeona.maybe.matcher.MaybeIntMatcher.isNoInt;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.not;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+public class MaybeIntArrayTest {
+
+	@Test
+	public void newArrayHasEveryElementAbsent() {
+		MaybeIntArray array = new MaybeIntArray(130);
+		for (int index = 0; index < array.length(); index++) {
+			assertThat(array.get(index), isNoInt());
+		}
+		assertEquals(0, array.presentCount());
+	}
+
+	@Test
+	public void setElementIsPresent() {
+		MaybeIntArray array = new MaybeIntArray(100);
+		int value = aRandomInt();
+		array.set(63, value);
+		array.set(64, 0);
+		assertThat(array.get(63), isJustInt(value));
+		assertThat(array.get(64), isJustInt(0));
+		assertThat(array.get(62), isNoInt());
+		assertThat(array.get(65), isNoInt());
+	}
+
+	@Test
+	public void setOfMaybeIntSetsOrClearsElement() {
+		MaybeIntArray array = new MaybeIntArray(2);
+		array.set(0, MaybeInt.justInt(7));
+		array.set(1, 9);
+		array.set(1, MaybeInt.noInt());
+		assertThat(array.get(0), isJustInt(7));
+		assertThat(array.get(1), isNoInt());
+	}
+
+	@Test
+	public void getOrElseReturnsValueIfPresentOrOtherwiseOther() {
+		MaybeIntArray array = new MaybeIntArray(2);
+		array.set(0, -5);
+		assertEquals(-5, array.getOrElse(0, 42));
+		assertEquals(42, array.getOrElse(1, 42));
+	}
+
+	@Test
+	public void clearedElementIsAbsent() {
+		MaybeIntArray array = new MaybeIntArray(10);
+		array.set(3, 1);
+		array.clear(3);
+		assertFalse(array.isPresent(3));
+	}
+
+	@Test
+	public void fillOfRangeSetsOnlyRangeAcrossWordBoundaries() {
+		MaybeIntArray array = new MaybeIntArray(300);
+		array.fill(60, 200, 8);
+		for (int index = 0; index < array.length(); index++) {
+			assertEquals(index >= 60 && index < 200, array.isPresent(index));
+		}
+		assertEquals(140, array.presentCount());
+		assertEquals(8, array.getOrElse(199, 0));
+	}
+
+	@Test
+	public void fillSetsEveryElement() {
+		MaybeIntArray array = new MaybeIntArray(65);
+		array.fill(3);
+		assertEquals(65, array.presentCount());
+		assertThat(array.get(64), isJustInt(3));
+	}
+
+	@Test
+	public void clearOfRangeClearsOnlyRange() {
+		MaybeIntArray array = new MaybeIntArray(200);
+		array.fill(1);
+		array.clear(10, 130);
+		for (int index = 0; index < array.length(); index++) {
+			assertEquals(index < 10 || index >= 130, array.isPresent(index));
+		}
+		array.clear();
+		assertEquals(0, array.presentCount());
+	}
+
+	@Test
+	public void forEachPresentVisitsPresentValuesInIndexOrder() {
+		MaybeIntArray array = new MaybeIntArray(1000);
+		array.set(999, 3);
+		array.set(0, 1);
+		array.set(64, 2);
+		List<Integer> visited = new ArrayList<>();
+		array.forEachPresent(visited::add);
+		assertThat(visited, contains(1, 2, 3));
+	}
+
+	@Test
+	public void forEachPresentOfEmptyArrayVisitsNothing() {
+		List<Integer> visited = new ArrayList<>();
+		new MaybeIntArray(0).forEachPresent(visited::add);
+		assertThat(visited, empty());
+	}
+
+	@Test
+	public void arraysWithSamePresentValuesAreEqual() {
+		MaybeIntArray array = new MaybeIntArray(3);
+		MaybeIntArray otherArray = new MaybeIntArray(3);
+		array.set(1, 5);
+		otherArray.set(0, 9);
+		otherArray.clear(0);
+		otherArray.set(1, 5);
+		assertEquals(array, otherArray);
+		assertEquals(array.hashCode(), otherArray.hashCode());
+		otherArray.set(2, 5);
+		assertThat(array, not(otherArray));
+	}
+
+	@Test
+	public void toStringShowsAbsentElements() {
+		MaybeIntArray array = new MaybeIntArray(3);
+		array.set(1, 5);
+		assertEquals("MaybeIntArray [-, 5, -]", array.toString());
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void isPresentBeyondLengthWithinLastWordThrowsIndexOutOfBoundsException() {
+		new MaybeIntArray(3).isPresent(3);
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void setOfNegativeIndexThrowsIndexOutOfBoundsException() {
+		new MaybeIntArray(3).set(-1, 0);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void fillOfReversedRangeThrowsIllegalArgumentException() {
+		new MaybeIntArray(3).fill(2, 1, 0);
+	}
+
+	@Test
+	public void randomSetsAndClearsAgreeWithMaybeIntArray() {
+		MaybeIntArray array = new MaybeIntArray(500);
+		MaybeInt[] expected = new MaybeInt[500];
+		for (int index = 0; index < expected.length; index++) {
+			expected[index] = MaybeInt.noInt();
+		}
+		for (int i = 0; i < 5000; i++) {
+			int index = Math.floorMod(aRandomInt(), expected.length);
+			if (aRandomInt() % 3 == 0) {
+				array.clear(index);
+				expected[index] = MaybeInt.noInt();
+			} else {
+				int value = aRandomInt();
+				array.set(index, value);
+				expected[index] = MaybeInt.justInt(value);
+			}
+		}
+		int presentCount = 0;
+		for (int index = 0; index < expected.length; index++) {
+			assertEquals(expected[index], array.get(index));
+			presentCount += expected[index].size();
+		}
+		assertEquals(presentCount, array.presentCount());
+	}
+
+}
@@ -9,11 +9,14 @@ import static net.xeona.maybe.MaybeInt.noInt;
 import static net.xeona.maybe.matcher.MaybeBooleanMatcher.isNoBoolean;
 import static net.xeona.maybe.matcher.MaybeByteMatcher.isNoByte;
 import static net.xeona.maybe.matcher.MaybeCharMatcher.isNoChar;
+import static net.xeona.maybe.matcher.MaybeDoubleMatcher.isJustDouble;
 import static net.xeona.maybe.matcher.MaybeDoubleMatcher.isNoDouble;
 import static net.xeona.maybe.matcher.MaybeFloatMatcher.isNoFloat;
 import static net.xeona.maybe.matcher.MaybeIntMatcher.isJustInt;
 import static net.xeona.maybe.matcher.MaybeIntMatcher.isNoInt;
+import static net.xeona.maybe.matcher.MaybeLongMatcher.isJustLong;
 import static net.xeona.maybe.matcher.MaybeLongMatcher.isNoLong;
+import static net.xeona.maybe.matcher.MaybeMatcher.isJust;
 import static net.xeona.maybe.matcher.MaybeMatcher.isNothing;
 import static net.xeona.maybe.matcher.MaybeShortMatcher.isNoShort;
 import static org.apache.commons.lang3.RandomUtils.nextInt;
@@ -37,8 +40,14 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
+import java.util.OptionalInt;
+import java.util.Spliterator;
+import java.util.function.IntBinaryOperator;
+import java.util.stream.IntStream;
 
 import org.apache.commons.lang3.RandomUtils;
 import org.apache.commons.lang3.SerializationUtils;
@@ -558,6 +567,151 @@ public class MaybeIntTest {
 		assertThat(SerializationUtils.roundtrip(justInt(value)), isJustInt(value));
 	}
 
+	@Test
+	public void justIntOfSmallValueReturnsCanonicalInstance() {
+		for (int value = -128; value <= 1023; value++) {
+			assertThat(justInt(value), is(sameInstance(justInt(value))));
+		}
+	}
+
+	@Test
+	public void justIntOfLargeValueEqualsJustIntOfSameValue() {
+		int value = 1 << 20;
+		assertThat(justInt(value), is(justInt(value)));
+	}
+
+	@Test
+	public void parseIntOfValidSequenceReturnsJustIntOfValue() {
+		int value = RandomUtils.nextInt();
+		assertThat(MaybeInt.parseInt(Integer.toString(value)), isJustInt(value));
+		assertThat(MaybeInt.parseInt(Integer.toString(-value)), isJustInt(-value));
+	}
+
+	@Test
+	public void parseIntOfExtremeValuesReturnsJustIntOfValue() {
+		assertThat(MaybeInt.parseInt("2147483647"), isJustInt(Integer.MAX_VALUE));
+		assertThat(MaybeInt.parseInt("-2147483648"), isJustInt(Integer.MIN_VALUE));
+		assertThat(MaybeInt.parseInt("+0042"), isJustInt(42));
+	}
+
+	@Test
+	public void parseIntOfOverflowingSequenceReturnsNoInt() {
+		assertThat(MaybeInt.parseInt("2147483648"), isNoInt());
+		assertThat(MaybeInt.parseInt("-2147483649"), isNoInt());
+		assertThat(MaybeInt.parseInt("99999999999999999999"), isNoInt());
+	}
+
+	@Test
+	public void parseIntOfMalformedSequenceReturnsNoInt() {
+		for (String sequence : asList("", "-", "+", "1a", " 1", "1 ", "1.0", "--1", "0x10")) {
+			assertThat(MaybeInt.parseInt(sequence), isNoInt());
+		}
+	}
+
+	@Test
+	public void parseIntOfRegionParsesOnlyRegion() {
+		assertThat(MaybeInt.parseInt("id=-123;", 3, 4), isJustInt(-123));
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void parseIntOfRegionOutsideSequenceThrowsIndexOutOfBoundsException() {
+		MaybeInt.parseInt("123", 2, 2);
+	}
+
+	@Test(expected = NullPointerException.class)
+	public void parseIntOfNullSequenceThrowsNullPointerException() {
+		MaybeInt.parseInt(null);
+	}
+
+	@Test
+	public void parseIntOfByteArrayRegionParsesOnlyRegion() {
+		assertThat(MaybeInt.parseInt(ascii("id=-123;"), 3, 4), isJustInt(-123));
+		assertThat(MaybeInt.parseInt(ascii("id=-12x;"), 3, 4), isNoInt());
+	}
+
+	@Test
+	public void parseIntOfHeapAndDirectBufferAgreesWithParseIntOfSequence() {
+		for (String sequence : asList("2147483647", "-2147483648", "2147483648", "+0042", "", "-", "1a", "0x10")) {
+			byte[] bytes = ascii(sequence);
+			ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length + 1);
+			direct.position(1);
+			direct.put(bytes);
+			assertThat(MaybeInt.parseInt(ByteBuffer.wrap(bytes), 0, bytes.length),
+					is(MaybeInt.parseInt(sequence)));
+			assertThat(MaybeInt.parseInt(direct, 1, bytes.length), is(MaybeInt.parseInt(sequence)));
+		}
+	}
+
+	@Test
+	public void parseIntOfBufferDoesNotMovePosition() {
+		ByteBuffer buffer = ByteBuffer.wrap(ascii("123"));
+		MaybeInt.parseInt(buffer, 0, 3);
+		assertEquals(0, buffer.position());
+	}
+
+	@Test
+	public void readIntAdvancesPastEachField() {
+		ByteBuffer buffer = ByteBuffer.wrap(ascii("0042-0071ab00"));
+		assertThat(MaybeInt.readInt(buffer, 4), isJustInt(42));
+		assertThat(MaybeInt.readInt(buffer, 5), isJustInt(-71));
+		assertThat(MaybeInt.readInt(buffer, 2), isNoInt());
+		assertThat(MaybeInt.readInt(buffer, 2), isJustInt(0));
+		assertFalse(buffer.hasRemaining());
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void readIntBeyondLimitThrowsIndexOutOfBoundsException() {
+		ByteBuffer buffer = ByteBuffer.wrap(ascii("12345"));
+		buffer.limit(3);
+		MaybeInt.readInt(buffer, 4);
+	}
+
+	@Test
+	public void intStreamOfJustIntContainsOnlyValue() {
+		int value = nextInt();
+		assertThat(justInt(value).intStream().toArray(), is(new int[] { value }));
+	}
+
+	@Test
+	public void intStreamOfNoIntIsEmpty() {
+		assertEquals(0, noInt().intStream().count());
+	}
+
+	@Test
+	public void intStreamOfJustIntIsSized() {
+		Spliterator.OfInt spliterator = justInt(1).intStream().spliterator();
+		assertEquals(1, spliterator.getExactSizeIfKnown());
+		assertTrue(spliterator.hasCharacteristics(Spliterator.IMMUTABLE));
+	}
+
+	@Test
+	public void intStreamsFlatMapToPresentValues() {
+		int sum = IntStream.range(0, 10).mapToObj(value -> value % 2 == 0 ? justInt(value) : noInt())
+				.flatMapToInt(MaybeInt::intStream).sum();
+		assertEquals(20, sum);
+	}
+
+	@Test
+	public void spliteratorOfJustIntIsSizedAndUnboxed() {
+		Spliterator.OfInt spliterator = justInt(7).spliterator();
+		assertEquals(1, spliterator.getExactSizeIfKnown());
+		assertTrue(spliterator.hasCharacteristics(Spliterator.IMMUTABLE | Spliterator.NONNULL));
+		int[] visited = new int[1];
+		assertTrue(spliterator.tryAdvance((java.util.function.IntConsumer) value -> visited[0] = value));
+		assertEquals(7, visited[0]);
+	}
+
+	@Test
+	public void spliteratorOfNoIntIsSharedAndEmpty() {
+		assertThat(noInt().spliterator(), is(sameInstance(noInt().spliterator())));
+		assertEquals(0, noInt().stream().count());
+	}
+
+	@Test
+	public void streamOfJustIntContainsOnlyValue() {
+		assertThat(justInt(-3).stream().toArray(), is(new Object[] { -3 }));
+	}
+
 	@Test
 	public void noIntIsNotPresent() {
 		assertFalse(noInt().isPresent());
@@ -985,6 +1139,17 @@ public class MaybeIntTest {
 		assertThat(roundtrip(noInt()), isNoInt());
 	}
 
+	@Test
+	public void noIntDeserializesToSameInstance() {
+		assertThat(roundtrip(noInt()), is(sameInstance(noInt())));
+	}
+
+	@Test
+	public void justIntOfSmallValueDeserializesToCanonicalInstance() {
+		assertThat(roundtrip(justInt(-128)), is(sameInstance(justInt(-128))));
+		assertThat(roundtrip(justInt(1023)), is(sameInstance(justInt(1023))));
+	}
+
 	@Test
 	public void maybeIntOfIntegerIsJustInt() {
 		Integer value = new Integer(nextInt());
@@ -996,6 +1161,114 @@ public class MaybeIntTest {
 		assertThat(maybeInt(null), isNoInt());
 	}
 
+	@Test
+	public void fromOptionalIntRoundTripsThroughToOptionalInt() {
+		int value = nextInt();
+		assertThat(MaybeInt.fromOptionalInt(OptionalInt.of(value)), isJustInt(value));
+		assertThat(MaybeInt.fromOptionalInt(OptionalInt.empty()), isNoInt());
+		assertThat(MaybeInt.toOptionalInt(justInt(value)), is(OptionalInt.of(value)));
+		assertThat(MaybeInt.toOptionalInt(noInt()), is(OptionalInt.empty()));
+	}
+
+	@Test(expected = NullPointerException.class)
+	public void fromOptionalIntOfNullThrowsNullPointerException() {
+		MaybeInt.fromOptionalInt(null);
+	}
+
+	@Test
+	public void arithmeticOfJustIntsIsExactResult() {
+		assertThat(justInt(7).plus(-12), isJustInt(-5));
+		assertThat(justInt(7).minus(justInt(12)), isJustInt(-5));
+		assertThat(justInt(-7).times(12), isJustInt(-84));
+		assertThat(justInt(-7).dividedBy(justInt(2)), isJustInt(-3));
+		assertThat(justInt(7).negate(), isJustInt(-7));
+	}
+
+	@Test
+	public void arithmeticAtLimitsIsExactResult() {
+		assertThat(MaybeInt.plus(Integer.MAX_VALUE, Integer.MIN_VALUE), isJustInt(-1));
+		assertThat(MaybeInt.minus(-1, Integer.MAX_VALUE), isJustInt(Integer.MIN_VALUE));
+		assertThat(MaybeInt.times(-65536, 32768), isJustInt(Integer.MIN_VALUE));
+		assertThat(MaybeInt.dividedBy(Integer.MIN_VALUE, 1), isJustInt(Integer.MIN_VALUE));
+		assertThat(justInt(Integer.MAX_VALUE).negate(), isJustInt(-Integer.MAX_VALUE));
+	}
+
+	@Test
+	public void arithmeticThatOverflowsIsNoInt() {
+		assertThat(MaybeInt.plus(Integer.MAX_VALUE, 1), isNoInt());
+		assertThat(MaybeInt.minus(Integer.MIN_VALUE, 1), isNoInt());
+		assertThat(MaybeInt.times(65536, 32768), isNoInt());
+		assertThat(MaybeInt.dividedBy(Integer.MIN_VALUE, -1), isNoInt());
+		assertThat(justInt(Integer.MIN_VALUE).negate(), isNoInt());
+	}
+
+	@Test
+	public void divisionByZeroIsNoInt() {
+		assertThat(MaybeInt.dividedBy(1, 0), isNoInt());
+		assertThat(justInt(0).dividedBy(justInt(0)), isNoInt());
+	}
+
+	@Test
+	public void arithmeticWithNoIntIsNoInt() {
+		assertThat(noInt().plus(1), isNoInt());
+		assertThat(justInt(1).minus(noInt()), isNoInt());
+		assertThat(noInt().times(justInt(1)), isNoInt());
+		assertThat(justInt(1).dividedBy(noInt()), isNoInt());
+		assertThat(noInt().negate(), isNoInt());
+	}
+
+	@Test(expected = NullPointerException.class)
+	public void plusOfNullMaybeIntThrowsNullPointerException() {
+		justInt(1).plus(null);
+	}
+
+	@Test
+	public void zipWithOfJustIntsAppliesFunctionToBothValues() {
+		assertThat(justInt(6).zipWith(justInt(7), (first, second) -> first * second), isJustInt(42));
+	}
+
+	@Test
+	public void zipWithNoIntIsNoIntAndDoesNotApplyFunction() {
+		IntBinaryOperator function = (first, second) -> {
+			throw new AssertionError();
+		};
+		assertThat(justInt(1).zipWith(noInt(), function), isNoInt());
+		assertThat(noInt().zipWith(justInt(1), function), isNoInt());
+	}
+
+	@Test
+	public void zipWithOtherTypeWidensValue() {
+		assertThat(justInt(Integer.MAX_VALUE).zipWith(MaybeLong.justLong(1), Long::sum),
+				isJustLong(Integer.MAX_VALUE + 1L));
+		assertThat(justInt(1).zipWith(MaybeLong.noLong(), Long::sum), isNoLong());
+		assertThat(justInt(1).zipWith(MaybeDouble.justDouble(0.5), Double::sum), isJustDouble(1.5));
+		assertThat(noInt().zipWith(MaybeDouble.justDouble(0.5), Double::sum), isNoDouble());
+	}
+
+	@Test
+	public void flatMapOfJustIntReturnsResultOfFunction() {
+		assertThat(justInt(3).flatMap(value -> Maybe.just("x" + value)), isJust("x3"));
+		assertThat(justInt(3).flatMapToInt(value -> value > 0 ? justInt(-value) : noInt()), isJustInt(-3));
+		assertThat(justInt(-3).flatMapToInt(value -> value > 0 ? justInt(-value) : noInt()), isNoInt());
+		assertThat(justInt(3).flatMapToLong(value -> MaybeLong.justLong((long) value << 40)), isJustLong(3L << 40));
+		assertThat(justInt(3).flatMapToDouble(value -> MaybeDouble.justDouble(value / 2.0)), isJustDouble(1.5));
+	}
+
+	@Test
+	public void flatMapOfNoIntIsAbsentAndDoesNotApplyFunction() {
+		assertThat(noInt().flatMap(value -> {
+			throw new AssertionError();
+		}), isNothing());
+		assertThat(noInt().flatMapToInt(MaybeInt::justInt), isNoInt());
+		assertThat(noInt().flatMapToLong(MaybeLong::justLong), isNoLong());
+		assertThat(noInt().flatMapToDouble(MaybeDouble::justDouble), isNoDouble());
+	}
+
+	@Test(expected = NullPointerException.class)
+	public void zipWithNullOtherThrowsNullPointerException() {
+		noInt().zipWith((MaybeInt) null, Integer::sum);
+	}
+
 	private static void consumerInvocationOnJustIntWithThrowingConsumerPropagatesThrownException(
 			BinaryConsumer<MaybeInt, IntConsumer<RuntimeException>, RuntimeException> consumerInvocation) {
 		int value = 0;
@@ -1062,4 +1335,8 @@ public class MaybeIntTest {
 		assertThat(maybeFunctionApplication.apply(noInt(), (F) mock(delegateFunctionClass)), valueMatcher);
 	}
 
+	private static byte[] ascii(String sequence) {
+		return sequence.getBytes(StandardCharsets.US_ASCII);
+	}
+
 }
@@ -0,0 +1,124 @@
+package net.xeona.maybe;
+
+import static net.xeona.maybe.RandomNumberUtility.aRandomInt;
+import static net.xeona.maybe.matcher.MaybeIntMatcher.isJustInt;
+import static net.xeona.maybe.matcher.MaybeIntMatcher.isNoInt;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+import java.util.NoSuchElementException;
+
+import org.junit.Test;
+
+public class MaybeIntsTest {
+
+	@Test
+	public void packedValueIsPresent() {
+		assertTrue(MaybeInts.isPresent(MaybeInts.pack(aRandomInt())));
+	}
+
+	@Test
+	public void packedValueRoundTripsForExtremeValues() {
+		for (int value : new int[] { Integer.MIN_VALUE, -1, 0, 1, Integer.MAX_VALUE }) {
+			assertEquals(value, MaybeInts.get(MaybeInts.pack(value)));
+		}
+	}
+
+	@Test
+	public void packedRandomValueRoundTrips() {
+		for (int i = 0; i < 1000; i++) {
+			int value = aRandomInt();
+			assertEquals(value, MaybeInts.get(MaybeInts.pack(value)));
+		}
+	}
+
+	@Test
+	public void zeroIsNoInt() {
+		assertEquals(0L, MaybeInts.noInt());
+		assertFalse(MaybeInts.isPresent(0L));
+	}
+
+	@Test
+	public void packedZeroIsDistinctFromNoInt() {
+		assertTrue(MaybeInts.pack(0) != MaybeInts.noInt());
+	}
+
+	@Test(expected = NoSuchElementException.class)
+	public void getOfNoIntThrowsNoSuchElementException() {
+		MaybeInts.get(MaybeInts.noInt());
+	}
+
+	@Test
+	public void orElseReturnsValueIfPresentOrOtherwiseOther() {
+		assertEquals(-7, MaybeInts.orElse(MaybeInts.pack(-7), 42));
+		assertEquals(42, MaybeInts.orElse(MaybeInts.noInt(), 42));
+	}
+
+	@Test
+	public void mapAppliesFunctionToPresentValue() {
+		assertEquals(MaybeInts.pack(-8), MaybeInts.map(MaybeInts.pack(7), value -> -value - 1));
+	}
+
+	@Test
+	public void mapOfNoIntDoesNotApplyFunction() {
+		assertEquals(MaybeInts.noInt(), MaybeInts.map(MaybeInts.noInt(), value -> {
+			throw new AssertionError();
+		}));
+	}
+
+	@Test
+	public void filterKeepsOnlyMatchingValue() {
+		assertEquals(MaybeInts.pack(4), MaybeInts.filter(MaybeInts.pack(4), value -> value % 2 == 0));
+		assertEquals(MaybeInts.noInt(), MaybeInts.filter(MaybeInts.pack(5), value -> value % 2 == 0));
+		assertEquals(MaybeInts.noInt(), MaybeInts.filter(MaybeInts.noInt(), value -> true));
+	}
+
+	@Test
+	public void arithmeticOfPresentValuesIsExactResult() {
+		assertEquals(MaybeInts.pack(-5), MaybeInts.plus(MaybeInts.pack(7), MaybeInts.pack(-12)));
+		assertEquals(MaybeInts.pack(Integer.MIN_VALUE), MaybeInts.minus(MaybeInts.pack(-1),
+				MaybeInts.pack(Integer.MAX_VALUE)));
+		assertEquals(MaybeInts.pack(-84), MaybeInts.times(MaybeInts.pack(-7), MaybeInts.pack(12)));
+		assertEquals(MaybeInts.pack(-3), MaybeInts.dividedBy(MaybeInts.pack(-7), MaybeInts.pack(2)));
+		assertEquals(MaybeInts.pack(-Integer.MAX_VALUE), MaybeInts.negate(MaybeInts.pack(Integer.MAX_VALUE)));
+	}
+
+	@Test
+	public void arithmeticThatOverflowsOrDividesByZeroIsNoInt() {
+		assertEquals(MaybeInts.noInt(), MaybeInts.plus(MaybeInts.pack(Integer.MAX_VALUE), MaybeInts.pack(1)));
+		assertEquals(MaybeInts.noInt(), MaybeInts.minus(MaybeInts.pack(Integer.MIN_VALUE), MaybeInts.pack(1)));
+		assertEquals(MaybeInts.noInt(), MaybeInts.times(MaybeInts.pack(65536), MaybeInts.pack(32768)));
+		assertEquals(MaybeInts.noInt(), MaybeInts.dividedBy(MaybeInts.pack(Integer.MIN_VALUE), MaybeInts.pack(-1)));
+		assertEquals(MaybeInts.noInt(), MaybeInts.dividedBy(MaybeInts.pack(1), MaybeInts.pack(0)));
+		assertEquals(MaybeInts.noInt(), MaybeInts.negate(MaybeInts.pack(Integer.MIN_VALUE)));
+	}
+
+	@Test
+	public void arithmeticWithNoIntIsNoInt() {
+		assertEquals(MaybeInts.noInt(), MaybeInts.plus(MaybeInts.noInt(), MaybeInts.pack(1)));
+		assertEquals(MaybeInts.noInt(), MaybeInts.times(MaybeInts.pack(1), MaybeInts.noInt()));
+		assertEquals(MaybeInts.noInt(), MaybeInts.dividedBy(MaybeInts.pack(0), MaybeInts.noInt()));
+		assertEquals(MaybeInts.noInt(), MaybeInts.negate(MaybeInts.noInt()));
+	}
+
+	@Test
+	public void toMaybeIntReturnsEquivalentMaybeInt() {
+		assertThat(MaybeInts.toMaybeInt(MaybeInts.pack(-3)), isJustInt(-3));
+		assertThat(MaybeInts.toMaybeInt(MaybeInts.noInt()), isNoInt());
+	}
+
+	@Test
+	public void fromMaybeIntRoundTripsThroughToMaybeInt() {
+		int value = aRandomInt();
+		assertEquals(value, MaybeInts.toMaybeInt(MaybeInts.fromMaybeInt(MaybeInt.justInt(value))).get());
+		assertEquals(MaybeInts.noInt(), MaybeInts.fromMaybeInt(MaybeInt.noInt()));
+	}
+
+	@Test(expected = NullPointerException.class)
+	public void fromMaybeIntOfNullThrowsNullPointerException() {
+		MaybeInts.fromMaybeInt(null);
+	}
+
+}
@@ -0,0 +1,104 @@
+package net.xeona.maybe;
+
+import static net.xeona.maybe.RandomNumberUtility.aRandomLong;
+import static net.xeona.maybe.matcher.MaybeDoubleMatcher.isJustDouble;
+import static net.xeona.maybe.matcher.MaybeDoubleMatcher.isNoDouble;
+import static net.xeona.maybe.matcher.MaybeLongMatcher.isJustLong;
+import static net.xeona.maybe.matcher.MaybeLongMatcher.isNoLong;
+import static org.hamcrest.Matchers.contains;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+public class MaybeLongArrayTest {
+
+	@Test
+	public void setElementIsPresentAndOthersAreAbsent() {
+		MaybeLongArray array = new MaybeLongArray(70);
+		long value = aRandomLong();
+		array.set(64, value);
+		assertThat(array.get(64), isJustLong(value));
+		assertThat(array.get(63), isNoLong());
+		assertEquals(-1L, array.getOrElse(0, -1L));
+	}
+
+	@Test
+	public void aggregatesOfEmptyArrayAreAbsent() {
+		MaybeLongArray array = new MaybeLongArray(100);
+		assertThat(array.sum(), isNoLong());
+		assertThat(array.min(), isNoLong());
+		assertThat(array.max(), isNoLong());
+		assertThat(array.average(), isNoDouble());
+		assertEquals(0, array.count(value -> true));
+		assertEquals(0, array.presentCount());
+	}
+
+	@Test
+	public void aggregatesIgnoreAbsentElements() {
+		MaybeLongArray array = new MaybeLongArray(200);
+		array.fill(100L);
+		array.clear(0, 200);
+		array.set(3, -4L);
+		array.set(70, 10L);
+		array.set(199, 6L);
+		assertThat(array.sum(), isJustLong(12L));
+		assertThat(array.min(), isJustLong(-4L));
+		assertThat(array.max(), isJustLong(10L));
+		assertThat(array.average(), isJustDouble(4.0));
+		assertEquals(2, array.count(value -> value > 0));
+		assertEquals(3, array.presentCount());
+	}
+
+	@Test
+	public void aggregatesOfFullWordsAndPartialWordsAgree() {
+		MaybeLongArray array = new MaybeLongArray(300);
+		array.fill(10, 290, 2L);
+		array.clear(150);
+		assertThat(array.sum(), isJustLong(2L * 279));
+		assertThat(array.average(), isJustDouble(2.0));
+		assertEquals(279, array.count(value -> value == 2L));
+	}
+
+	@Test
+	public void averageDoesNotWrapOnOverflow() {
+		MaybeLongArray array = new MaybeLongArray(3);
+		array.set(0, 6_000_000_000_000_000_000L);
+		array.set(2, 6_000_000_000_000_000_000L);
+		assertThat(array.average(), isJustDouble(6.0e18));
+	}
+
+	@Test
+	public void averageOfLargeValuesOfMixedSignIsExact() {
+		MaybeLongArray array = new MaybeLongArray(130);
+		array.fill(Long.MIN_VALUE);
+		array.set(129, Long.MAX_VALUE);
+		array.set(128, 1L);
+		assertThat(array.average(), isJustDouble((128.0 * Long.MIN_VALUE + Long.MAX_VALUE + 1) / 130));
+		array.fill(-5L);
+		assertThat(array.average(), isJustDouble(-5.0));
+	}
+
+	@Test
+	public void sumWrapsOnOverflow() {
+		MaybeLongArray array = new MaybeLongArray(2);
+		array.set(0, Long.MAX_VALUE);
+		array.set(1, 1L);
+		assertThat(array.sum(), isJustLong(Long.MIN_VALUE));
+	}
+
+	@Test
+	public void forEachPresentVisitsPresentValuesInIndexOrder() {
+		MaybeLongArray array = new MaybeLongArray(130);
+		array.set(129, 3L);
+		array.set(1, 1L);
+		array.set(64, 2L);
+		List<Long> visited = new ArrayList<>();
+		array.forEachPresent(visited::add);
+		assertThat(visited, contains(1L, 2L, 3L));
+	}
+
+}
@@ -1,6 +1,20 @@
 package net.xeona.maybe;
 
+import static java.util.Arrays.asList;
+import static net.xeona.maybe.MaybeLong.justLong;
+import static net.xeona.maybe.matcher.MaybeLongMatcher.isJustLong;
+import static net.xeona.maybe.matcher.MaybeLongMatcher.isNoLong;
+import static org.apache.commons.lang3.SerializationUtils.roundtrip;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.OptionalLong;
+
 import org.hamcrest.Matcher;
+import org.junit.Test;
 
 import net.xeona.function.Consumer;
 import net.xeona.function.Function;
@@ -29,6 +43,161 @@ import net.xeona.maybe.matcher.MaybeLongMatcher;
 
 public class MaybeLongTest extends MaybeTestSuite<MaybeLong, Long> {
 
+	@Test
+	public void justLongOfSmallValueReturnsCanonicalInstance() {
+		for (long value = -128L; value <= 1023L; value++) {
+			assertThat(justLong(value), is(sameInstance(justLong(value))));
+		}
+	}
+
+	@Test
+	public void justLongOfLargeValueEqualsJustLongOfSameValue() {
+		long value = 1L << 40;
+		assertThat(justLong(value), is(justLong(value)));
+	}
+
+	@Test
+	public void parseLongOfValidSequenceReturnsJustLongOfValue() {
+		long value = RandomNumberUtility.aRandomLong();
+		assertThat(MaybeLong.parseLong(Long.toString(value)), isJustLong(value));
+	}
+
+	@Test
+	public void parseLongOfExtremeValuesReturnsJustLongOfValue() {
+		assertThat(MaybeLong.parseLong("9223372036854775807"), isJustLong(Long.MAX_VALUE));
+		assertThat(MaybeLong.parseLong("-9223372036854775808"), isJustLong(Long.MIN_VALUE));
+	}
+
+	@Test
+	public void parseLongOfOverflowingSequenceReturnsNoLong() {
+		assertThat(MaybeLong.parseLong("9223372036854775808"), isNoLong());
+		assertThat(MaybeLong.parseLong("-9223372036854775809"), isNoLong());
+	}
+
+	@Test
+	public void parseLongOfMalformedSequenceReturnsNoLong() {
+		for (String sequence : asList("", "-", "1L", "1_000", "1e3")) {
+			assertThat(MaybeLong.parseLong(sequence), isNoLong());
+		}
+	}
+
+	@Test
+	public void parseLongOfRegionParsesOnlyRegion() {
+		assertThat(MaybeLong.parseLong("ts=1500000000000|", 3, 13), isJustLong(1500000000000L));
+	}
+
+	@Test
+	public void parseLongOfByteArrayRegionParsesOnlyRegion() {
+		byte[] bytes = "ts=1500000000000|".getBytes(StandardCharsets.US_ASCII);
+		assertThat(MaybeLong.parseLong(bytes, 3, 13), isJustLong(1500000000000L));
+	}
+
+	@Test
+	public void readLongOfDirectBufferAdvancesPastEachField() {
+		byte[] record = "-9223372036854775808922337203685477580800000000000000000001".getBytes(
+				StandardCharsets.US_ASCII);
+		ByteBuffer buffer = ByteBuffer.allocateDirect(record.length);
+		buffer.put(record).flip();
+		assertThat(MaybeLong.readLong(buffer, 20), isJustLong(Long.MIN_VALUE));
+		assertThat(MaybeLong.readLong(buffer, 19), isNoLong());
+		assertThat(MaybeLong.readLong(buffer, 20), isJustLong(1L));
+		assertThat(buffer.hasRemaining(), is(false));
+	}
+
+	@Test
+	public void longStreamOfJustLongContainsOnlyValue() {
+		long value = RandomNumberUtility.aRandomLong();
+		assertThat(justLong(value).longStream().toArray(), is(new long[] { value }));
+	}
+
+	@Test
+	public void longStreamOfNoLongIsEmpty() {
+		assertThat(MaybeLong.noLong().longStream().count(), is(0L));
+	}
+
+	@Test
+	public void longStreamOfJustLongIsSized() {
+		assertThat(justLong(1L).longStream().spliterator().getExactSizeIfKnown(), is(1L));
+	}
+
+	@Test
+	public void spliteratorOfJustLongIsSized() {
+		assertThat(justLong(7L).spliterator().getExactSizeIfKnown(), is(1L));
+	}
+
+	@Test
+	public void spliteratorOfNoLongIsSharedAndEmpty() {
+		assertThat(MaybeLong.noLong().spliterator(), is(sameInstance(MaybeLong.noLong().spliterator())));
+		assertThat(MaybeLong.noLong().stream().count(), is(0L));
+	}
+
+	@Test
+	public void fromOptionalLongRoundTripsThroughToOptionalLong() {
+		long value = RandomNumberUtility.aRandomLong();
+		assertThat(MaybeLong.fromOptionalLong(OptionalLong.of(value)), isJustLong(value));
+		assertThat(MaybeLong.fromOptionalLong(OptionalLong.empty()), isNoLong());
+		assertThat(MaybeLong.toOptionalLong(justLong(value)), is(OptionalLong.of(value)));
+		assertThat(MaybeLong.toOptionalLong(MaybeLong.noLong()), is(OptionalLong.empty()));
+	}
+
+	@Test
+	public void arithmeticOfJustLongsIsExactResult() {
+		assertThat(justLong(7).plus(-12), isJustLong(-5));
+		assertThat(justLong(7).minus(justLong(12)), isJustLong(-5));
+		assertThat(justLong(-7).times(12), isJustLong(-84));
+		assertThat(justLong(-7).dividedBy(justLong(2)), isJustLong(-3));
+		assertThat(justLong(7).negate(), isJustLong(-7));
+	}
+
+	@Test
+	public void arithmeticAtLimitsIsExactResult() {
+		assertThat(MaybeLong.plus(Long.MAX_VALUE, Long.MIN_VALUE), isJustLong(-1));
+		assertThat(MaybeLong.minus(-1, Long.MAX_VALUE), isJustLong(Long.MIN_VALUE));
+		assertThat(MaybeLong.times(-1L << 32, 1L << 31), isJustLong(Long.MIN_VALUE));
+		assertThat(MaybeLong.times(Long.MIN_VALUE, 1), isJustLong(Long.MIN_VALUE));
+		assertThat(MaybeLong.times(3_037_000_499L, 3_037_000_499L), isJustLong(9_223_372_030_926_249_001L));
+		assertThat(MaybeLong.dividedBy(Long.MIN_VALUE, 1), isJustLong(Long.MIN_VALUE));
+	}
+
+	@Test
+	public void arithmeticThatOverflowsIsNoLong() {
+		assertThat(MaybeLong.plus(Long.MAX_VALUE, 1), isNoLong());
+		assertThat(MaybeLong.minus(Long.MIN_VALUE, 1), isNoLong());
+		assertThat(MaybeLong.times(1L << 32, 1L << 31), isNoLong());
+		assertThat(MaybeLong.times(Long.MIN_VALUE, -1), isNoLong());
+		assertThat(MaybeLong.times(3_037_000_500L, 3_037_000_500L), isNoLong());
+		assertThat(MaybeLong.dividedBy(Long.MIN_VALUE, -1), isNoLong());
+		assertThat(justLong(Long.MIN_VALUE).negate(), isNoLong());
+	}
+
+	@Test
+	public void zipWithAppliesFunctionOnlyIfBothPresent() {
+		assertThat(justLong(6).zipWith(justLong(7), (first, second) -> first * second), isJustLong(42));
+		assertThat(justLong(Long.MAX_VALUE).zipWith(MaybeInt.justInt(-1), Long::sum), isJustLong(Long.MAX_VALUE - 1));
+		assertThat(justLong(1).zipWith(MaybeLong.noLong(), Long::sum), isNoLong());
+		assertThat(MaybeLong.noLong().zipWith(MaybeInt.justInt(1), Long::sum), isNoLong());
+	}
+
+	@Test
+	public void flatMapToLongReturnsResultOfFunctionOnlyIfPresent() {
+		assertThat(justLong(3).flatMapToLong(value -> justLong(-value)), isJustLong(-3));
+		assertThat(MaybeLong.noLong().flatMapToLong(MaybeLong::justLong), isNoLong());
+	}
+
+	@Test
+	public void divisionByZeroIsNoLong() {
+		assertThat(MaybeLong.dividedBy(1, 0), isNoLong());
+	}
+
+	@Test
+	public void arithmeticWithNoLongIsNoLong() {
+		assertThat(MaybeLong.noLong().plus(1), isNoLong());
+		assertThat(justLong(1).minus(MaybeLong.noLong()), isNoLong());
+		assertThat(MaybeLong.noLong().times(justLong(1)), isNoLong());
+		assertThat(justLong(1).dividedBy(MaybeLong.noLong()), isNoLong());
+		assertThat(MaybeLong.noLong().negate(), isNoLong());
+	}
+
 	@Override
 	protected Long aRandomValue() {
 		return RandomNumberUtility.aRandomLong();
@@ -158,4 +327,14 @@ public class MaybeLongTest extends MaybeTestSuite<MaybeLong, Long> {
 		return MaybeLongMatcher.isNoLong();
 	}
 
+	@Test
+	public void justLongIsSerializable() {
+		assertThat(roundtrip(justLong(Long.MIN_VALUE)), isJustLong(Long.MIN_VALUE));
+	}
+
+	@Test
+	public void noLongDeserializesToSameInstance() {
+		assertThat(roundtrip(MaybeLong.noLong()), is(sameInstance(MaybeLong.noLong())));
+	}
+
 }
@@ -0,0 +1,136 @@
+package net.xeona.maybe;
+
+import static net.xeona.maybe.matcher.MaybeDoubleMatcher.isJustDouble;
+import static net.xeona.maybe.matcher.MaybeDoubleMatcher.isNoDouble;
+import static net.xeona.maybe.matcher.MaybeIntMatcher.isJustInt;
+import static net.xeona.maybe.matcher.MaybeIntMatcher.isNoInt;
+import static net.xeona.maybe.matcher.MaybeLongMatcher.isJustLong;
+import static net.xeona.maybe.matcher.MaybeLongMatcher.isNoLong;
+import static net.xeona.maybe.matcher.MaybeMatcher.isJust;
+import static net.xeona.maybe.matcher.MaybeMatcher.isNothing;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThat;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+import org.junit.Test;
+
+public class MaybeLookupsTest {
+
+	@Test
+	public void getOfListIsJustElementInRange() {
+		List<String> list = Arrays.asList("a", null, "c");
+		assertThat(MaybeLookups.get(list, 0), isJust("a"));
+		assertThat(MaybeLookups.get(list, 1), isNothing());
+		assertThat(MaybeLookups.get(list, 2), isJust("c"));
+		assertThat(MaybeLookups.get(list, 3), isNothing());
+		assertThat(MaybeLookups.get(list, -1), isNothing());
+	}
+
+	@Test
+	public void firstAndLastOfList() {
+		List<String> list = Arrays.asList("a", "b", "c");
+		assertThat(MaybeLookups.first(list), isJust("a"));
+		assertThat(MaybeLookups.last(list), isJust("c"));
+		assertThat(MaybeLookups.first(Collections.<String> emptyList()), isNothing());
+		assertThat(MaybeLookups.last(Collections.<String> emptyList()), isNothing());
+	}
+
+	@Test(expected = NullPointerException.class)
+	public void getOfNullListThrowsNullPointerException() {
+		MaybeLookups.get((List<String>) null, 0);
+	}
+
+	@Test
+	public void getOfMapIsNothingForMissingOrNullValue() {
+		Map<String, String> map = new HashMap<>();
+		map.put("a", "one");
+		map.put("b", null);
+		assertThat(MaybeLookups.get(map, "a"), isJust("one"));
+		assertThat(MaybeLookups.get(map, "b"), isNothing());
+		assertThat(MaybeLookups.get(map, "c"), isNothing());
+	}
+
+	@Test
+	public void peekAndPollOfDeque() {
+		Deque<String> deque = new ArrayDeque<>(Arrays.asList("a", "b"));
+		assertThat(MaybeLookups.peekFirst(deque), isJust("a"));
+		assertThat(MaybeLookups.peekLast(deque), isJust("b"));
+		assertThat(MaybeLookups.pollFirst(deque), isJust("a"));
+		assertThat(MaybeLookups.pollLast(deque), isJust("b"));
+		assertEquals(0, deque.size());
+		assertThat(MaybeLookups.peekFirst(deque), isNothing());
+		assertThat(MaybeLookups.pollLast(deque), isNothing());
+	}
+
+	@Test
+	public void floorAndCeilingOfNavigableMap() {
+		NavigableMap<Integer, String> map = new TreeMap<>();
+		map.put(10, "ten");
+		map.put(20, null);
+		assertThat(MaybeLookups.floorKey(map, 15), isJust(10));
+		assertThat(MaybeLookups.ceilingKey(map, 15), isJust(20));
+		assertThat(MaybeLookups.floorKey(map, 5), isNothing());
+		assertThat(MaybeLookups.ceilingKey(map, 25), isNothing());
+		assertThat(MaybeLookups.floorValue(map, 15), isJust("ten"));
+		assertThat(MaybeLookups.ceilingValue(map, 15), isNothing());
+		assertThat(MaybeLookups.ceilingValue(map, 5), isJust("ten"));
+		assertThat(MaybeLookups.floorValue(map, 5), isNothing());
+	}
+
+	@Test
+	public void lookupsOfIntArray() {
+		int[] array = { 1, 2, 3 };
+		assertThat(MaybeLookups.get(array, 1), isJustInt(2));
+		assertThat(MaybeLookups.get(array, 3), isNoInt());
+		assertThat(MaybeLookups.get(array, -1), isNoInt());
+		assertThat(MaybeLookups.first(array), isJustInt(1));
+		assertThat(MaybeLookups.last(array), isJustInt(3));
+		assertThat(MaybeLookups.first(new int[0]), isNoInt());
+		assertThat(MaybeLookups.last(new int[0]), isNoInt());
+	}
+
+	@Test
+	public void lookupsOfLongArray() {
+		long[] array = { Long.MIN_VALUE, Long.MAX_VALUE };
+		assertThat(MaybeLookups.get(array, 0), isJustLong(Long.MIN_VALUE));
+		assertThat(MaybeLookups.get(array, 2), isNoLong());
+		assertThat(MaybeLookups.first(array), isJustLong(Long.MIN_VALUE));
+		assertThat(MaybeLookups.last(array), isJustLong(Long.MAX_VALUE));
+		assertThat(MaybeLookups.last(new long[0]), isNoLong());
+	}
+
+	@Test
+	public void lookupsOfDoubleArray() {
+		double[] array = { 0.5, Double.NaN };
+		assertThat(MaybeLookups.get(array, 0), isJustDouble(0.5));
+		assertThat(MaybeLookups.get(array, -1), isNoDouble());
+		assertThat(MaybeLookups.first(array), isJustDouble(0.5));
+		assertThat(MaybeLookups.last(array), isJustDouble(Double.NaN));
+		assertThat(MaybeLookups.first(new double[0]), isNoDouble());
+	}
+
+	@Test(expected = NullPointerException.class)
+	public void getOfNullArrayThrowsNullPointerException() {
+		MaybeLookups.get((int[]) null, 0);
+	}
+
+	@Test(expected = NullPointerException.class)
+	public void getOfNullArrayAtNegativeIndexThrowsNullPointerException() {
+		MaybeLookups.get((long[]) null, -1);
+	}
+
+	@Test(expected = NullPointerException.class)
+	public void getOfNullListAtNegativeIndexThrowsNullPointerException() {
+		MaybeLookups.get((List<String>) null, -1);
+	}
+
+}
@@ -0,0 +1,144 @@
+package net.xeona.maybe;
+
+import static net.xeona.maybe.NumberMatchers.doubleBinaryEqualTo;
+import static net.xeona.maybe.matcher.MaybeDoubleMatcher.isJustDouble;
+import static net.xeona.maybe.matcher.MaybeDoubleMatcher.isNoDouble;
+import static net.xeona.maybe.matcher.MaybeIntMatcher.isJustInt;
+import static net.xeona.maybe.matcher.MaybeIntMatcher.isNoInt;
+import static net.xeona.maybe.matcher.MaybeLongMatcher.isJustLong;
+import static net.xeona.maybe.matcher.MaybeLongMatcher.isNoLong;
+import static net.xeona.maybe.matcher.MaybeMatcher.isJust;
+import static net.xeona.maybe.matcher.MaybeMatcher.isNothing;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+public class MaybePipelineTest {
+
+	@Test
+	public void emptyPipelinePassesInputThrough() {
+		MaybePipeline<Maybe<String>, String> pipeline = Maybe.pipeline();
+		assertThat(pipeline.toMaybe(Maybe.just("a")), isJust("a"));
+		assertThat(pipeline.toMaybe(Maybe.nothing()), isNothing());
+	}
+
+	@Test
+	public void stagesRunInOrder() {
+		MaybePipeline<Maybe<String>, String> pipeline = Maybe.<String> pipeline().map(String::trim)
+				.filter(value -> !value.isEmpty()).map(String::toUpperCase);
+		assertThat(pipeline.toMaybe(Maybe.just("  abc ")), isJust("ABC"));
+		assertThat(pipeline.toMaybe(Maybe.just("   ")), isNothing());
+	}
+
+	@Test
+	public void stagesAfterAbsentResultAreNotRun() {
+		MaybePipeline<Maybe<String>, String> pipeline = Maybe.<String> pipeline().filter(value -> false)
+				.map(value -> {
+					throw new AssertionError();
+				});
+		assertThat(pipeline.toMaybe(Maybe.just("a")), isNothing());
+	}
+
+	@Test
+	public void stagesAreNotRunOnAbsentInput() {
+		MaybeIntPipeline<MaybeInt> pipeline = MaybeInt.pipeline().mapToInt(value -> {
+			throw new AssertionError();
+		});
+		assertThat(pipeline.toMaybeInt(MaybeInt.noInt()), isNoInt());
+	}
+
+	@Test
+	public void mapToNullIsAbsent() {
+		MaybePipeline<MaybeInt, String> pipeline = MaybeInt.pipeline().map(value -> null);
+		assertThat(pipeline.toMaybe(MaybeInt.justInt(1)), isNothing());
+	}
+
+	@Test
+	public void addingStageLeavesOriginalPipelineUnchanged() {
+		MaybeIntPipeline<MaybeInt> increment = MaybeInt.pipeline().mapToInt(value -> value + 1);
+		increment.filter(value -> false);
+		assertThat(increment.toMaybeInt(MaybeInt.justInt(1)), isJustInt(2));
+	}
+
+	@Test
+	public void pipelineIsReusableAcrossInputs() {
+		MaybeLongPipeline<MaybeLong> pipeline = MaybeLong.pipeline().filter(value -> value % 2 == 0)
+				.mapToLong(value -> value * 3);
+		for (long value = 0; value < 100; value++) {
+			if (value % 2 == 0) {
+				assertThat(pipeline.toMaybeLong(MaybeLong.justLong(value)), isJustLong(value * 3));
+			} else {
+				assertThat(pipeline.toMaybeLong(MaybeLong.justLong(value)), isNoLong());
+			}
+		}
+	}
+
+	@Test
+	public void stagesConvertBetweenValueKinds() {
+		MaybeDoublePipeline<Maybe<String>> pipeline = Maybe.<String> pipeline().mapToInt(String::length)
+				.mapToLong(value -> value * 1_000_000_000_000L).filter(value -> value > 0)
+				.map(Long::toHexString).mapToDouble(String::length).mapToDouble(value -> value / 2);
+		assertThat(pipeline.toMaybeDouble(Maybe.just("abc")), isJustDouble(5.5));
+		assertThat(pipeline.toMaybeDouble(Maybe.just("")), isNoDouble());
+	}
+
+	@Test
+	public void orElseReturnsValueIfPresentOrOtherwiseOther() {
+		MaybePipeline<Maybe<String>, String> pipeline = Maybe.<String> pipeline().filter(value -> value.length() > 1);
+		assertEquals("ab", pipeline.orElse(Maybe.just("ab"), "other"));
+		assertEquals("other", pipeline.orElse(Maybe.just("a"), "other"));
+		assertEquals("other", pipeline.orElse(Maybe.nothing(), "other"));
+	}
+
+	@Test
+	public void primitiveOrElseReturnsValueIfPresentOrOtherwiseOther() {
+		MaybeIntPipeline<MaybeInt> ints = MaybeInt.pipeline().filter(value -> value < 0);
+		assertEquals(Integer.MIN_VALUE, ints.orElse(MaybeInt.justInt(Integer.MIN_VALUE), 7));
+		assertEquals(7, ints.orElse(MaybeInt.justInt(1), 7));
+		MaybeLongPipeline<MaybeLong> longs = MaybeLong.pipeline().filter(value -> value < 0);
+		assertEquals(Long.MIN_VALUE, longs.orElse(MaybeLong.justLong(Long.MIN_VALUE), 7L));
+		assertEquals(7L, longs.orElse(MaybeLong.noLong(), 7L));
+		MaybeDoublePipeline<MaybeDouble> doubles = MaybeDouble.pipeline().filter(value -> value != 0);
+		assertThat(doubles.orElse(MaybeDouble.justDouble(Double.NaN), 7), doubleBinaryEqualTo(Double.NaN));
+		assertThat(doubles.orElse(MaybeDouble.justDouble(-0.0), -7.5), doubleBinaryEqualTo(-7.5));
+	}
+
+	@Test
+	public void ifPresentPassesOnlyPresentResults() {
+		List<Integer> consumed = new ArrayList<>();
+		MaybeIntPipeline<MaybeInt> pipeline = MaybeInt.pipeline().filter(value -> value > 0);
+		pipeline.ifPresent(MaybeInt.justInt(3), consumed::add);
+		pipeline.ifPresent(MaybeInt.justInt(-3), consumed::add);
+		pipeline.ifPresent(MaybeInt.noInt(), consumed::add);
+		assertThat(consumed, contains(3));
+	}
+
+	@Test
+	public void ifPresentOfReferencePipelineDoesNotConsumeAbsentResult() {
+		List<String> consumed = new ArrayList<>();
+		Maybe.<String> pipeline().ifPresent(Maybe.nothing(), consumed::add);
+		assertThat(consumed, empty());
+	}
+
+	@Test(expected = NullPointerException.class)
+	public void mapWithNullFunctionThrowsNullPointerException() {
+		Maybe.pipeline().map(null);
+	}
+
+	@Test(expected = NullPointerException.class)
+	public void filterWithNullPredicateThrowsNullPointerException() {
+		MaybeLong.pipeline().filter(null);
+	}
+
+	@Test(expected = NullPointerException.class)
+	public void terminalOperationOnNullInputThrowsNullPointerException() {
+		MaybeDouble.pipeline().toMaybeDouble(null);
+	}
+
+}
@@ -0,0 +1,94 @@
+package net.xeona.maybe;
+
+import static java.util.Arrays.asList;
+import static net.xeona.maybe.MaybeShort.justShort;
+import static net.xeona.maybe.matcher.MaybeShortMatcher.isJustShort;
+import static net.xeona.maybe.matcher.MaybeShortMatcher.isNoShort;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThat;
+
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.net.URLClassLoader;
+
+import org.junit.Test;
+
+import net.xeona.function.ShortFunction;
+
+public class MaybeShortTest {
+
+	@Test
+	public void parseShortOfValidSequenceReturnsJustShortOfValue() {
+		assertThat(MaybeShort.parseShort("1234"), isJustShort((short) 1234));
+		assertThat(MaybeShort.parseShort("32767"), isJustShort(Short.MAX_VALUE));
+		assertThat(MaybeShort.parseShort("-32768"), isJustShort(Short.MIN_VALUE));
+		assertThat(MaybeShort.parseShort("+0042"), isJustShort((short) 42));
+	}
+
+	@Test
+	public void parseShortOfOverflowingSequenceReturnsNoShort() {
+		assertThat(MaybeShort.parseShort("32768"), isNoShort());
+		assertThat(MaybeShort.parseShort("-32769"), isNoShort());
+		assertThat(MaybeShort.parseShort("99999999999"), isNoShort());
+	}
+
+	@Test
+	public void parseShortOfMalformedSequenceReturnsNoShort() {
+		for (String sequence : asList("", "-", "+", "1a", " 1", "1 ", "1.0", "--1", "0x10")) {
+			assertThat(MaybeShort.parseShort(sequence), isNoShort());
+		}
+	}
+
+	@Test
+	public void parseShortOfRegionParsesOnlyRegion() {
+		assertThat(MaybeShort.parseShort("id=-123;", 3, 4), isJustShort((short) -123));
+	}
+
+	@Test
+	public void orElseOfUnparseableSequenceReturnsOther() {
+		assertThat(MaybeShort.parseShort("bad").orElse((short) 7), is((short) 7));
+		assertThat(MaybeShort.parseShort("40000").orElse((short) 7), is((short) 7));
+	}
+
+	@Test
+	public void justShortOfCachedValueReturnsSameInstance() {
+		for (int value = -128; value <= 1023; value++) {
+			assertThat(justShort((short) value), is(sameInstance(justShort((short) value))));
+		}
+	}
+
+	@Test
+	public void justShortOfUncachedValueReturnsEqualDistinctInstances() {
+		for (short value : new short[] { Short.MIN_VALUE, -129, 1024, Short.MAX_VALUE }) {
+			MaybeShort maybe = justShort(value);
+			assertEquals(maybe, justShort(value));
+			assertThat(maybe, is(not(sameInstance(justShort(value)))));
+		}
+	}
+
+	@Test
+	public void cacheHighPropertyBelow127StillCaches127() throws Exception {
+		String property = "net.xeona.maybe.MaybeShort.cache.high";
+		String previous = System.setProperty(property, "0");
+		try (URLClassLoader loader = new URLClassLoader(new URL[] { codeSource(MaybeShort.class),
+				codeSource(ShortFunction.class) }, null)) {
+			Method justShort = loader.loadClass(MaybeShort.class.getName()).getMethod("justShort", short.class);
+			assertThat(justShort.invoke(null, (short) 127), is(sameInstance(justShort.invoke(null, (short) 127))));
+			assertThat(justShort.invoke(null, (short) 128), is(not(sameInstance(justShort.invoke(null, (short) 128)))));
+		} finally {
+			if (previous == null) {
+				System.clearProperty(property);
+			} else {
+				System.setProperty(property, previous);
+			}
+		}
+	}
+
+	private static URL codeSource(Class<?> type) {
+		return type.getProtectionDomain().getCodeSource().getLocation();
+	}
+
+}
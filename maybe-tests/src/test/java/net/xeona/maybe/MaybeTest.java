@@ -21,6 +21,7 @@ import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.sameInstance;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
@@ -31,9 +32,15 @@ import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Iterator;
+import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Optional;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.apache.commons.lang3.RandomUtils;
 import org.apache.commons.lang3.SerializationException;
@@ -987,6 +994,11 @@ public class MaybeTest {
 		assertThat(roundtrip(nothing()), isNothing());
 	}
 
+	@Test
+	public void nothingDeserializesToSameInstance() {
+		assertThat(roundtrip(nothing()), is(sameInstance(nothing())));
+	}
+
 	@Test
 	public void maybeFromPopulatedOptionalIsJustValue() {
 		Object value = new Object();
@@ -1020,6 +1032,180 @@ public class MaybeTest {
 		assertThat(toOptional(nothing()), is(Optional.empty()));
 	}
 
+	@Test
+	public void combineOfTwoJustsAppliesFunctionToBothValues() {
+		assertThat(Maybe.combine(just("a"), just(2), (String value, Integer count) -> value + count), isJust("a2"));
+	}
+
+	@Test
+	public void combineOfTwoWithNothingIsNothingAndDoesNotApplyFunction() {
+		BinaryFunction<Object, Object, Object, RuntimeException> function = (first, second) -> {
+			throw new AssertionError();
+		};
+		assertThat(Maybe.combine(just("a"), nothing(), function), isNothing());
+		assertThat(Maybe.combine(nothing(), just("b"), function), isNothing());
+	}
+
+	@Test
+	public void combineOfTwoReturningNullIsNothing() {
+		assertThat(Maybe.combine(just("a"), just("b"), (first, second) -> null), isNothing());
+	}
+
+	@Test
+	public void combineOfJustsAppliesFunctionToValuesInOrder() {
+		assertThat(Maybe.combine(asList(just("a"), just("b"), just("c")), values -> String.join("", values)),
+				isJust("abc"));
+		assertThat(Maybe.combine(emptySet(), List::size), isJust(0));
+	}
+
+	@Test
+	public void combineWithNothingIsNothingAndDoesNotApplyFunction() {
+		assertThat(Maybe.combine(asList(just("a"), nothing(), just("c")), values -> {
+			throw new AssertionError();
+		}), isNothing());
+	}
+
+	@Test(expected = NullPointerException.class)
+	public void combineWithNullElementThrowsNullPointerException() {
+		Maybe.combine(asList(just("a"), null), List::size);
+	}
+
+	@Test
+	public void getOfNothingThrowsNewExceptionWithStackTraceByDefault() {
+		assertFalse(Maybe.isSharedAbsentValueException());
+		NoSuchElementException first = absentValueException(() -> nothing().get());
+		assertThat(absentValueException(() -> nothing().get()), is(not(sameInstance(first))));
+		assertThat(first.getStackTrace().length, is(not(0)));
+	}
+
+	@Test
+	public void getOfEveryAbsentTypeThrowsSharedStacklessExceptionIfEnabled() {
+		Maybe.setSharedAbsentValueException(true);
+		try {
+			NoSuchElementException shared = absentValueException(() -> nothing().get());
+			assertThat(shared.getStackTrace().length, is(0));
+			for (Runnable get : Arrays.<Runnable> asList(() -> MaybeInt.noInt().get(),
+					() -> MaybeLong.noLong().get(), () -> MaybeDouble.nothing().get(),
+					() -> MaybeFloat.nothing().get(), () -> MaybeChar.nothing().get(),
+					() -> MaybeShort.noShort().get(), () -> MaybeByte.noByte().get(),
+					() -> MaybeBoolean.noBoolean().get(), () -> MaybeInts.get(MaybeInts.noInt()),
+					() -> MaybeDoubles.get(MaybeDoubles.noDouble()), () -> MaybeFloats.get(MaybeFloats.noFloat()))) {
+				assertThat(absentValueException(get), is(sameInstance(shared)));
+			}
+		} finally {
+			Maybe.setSharedAbsentValueException(false);
+		}
+	}
+
+	@Test
+	public void sharedAbsentValueExceptionIsNotChangedByCallers() {
+		Maybe.setSharedAbsentValueException(true);
+		try {
+			NoSuchElementException shared = absentValueException(() -> nothing().get());
+			shared.initCause(new IllegalStateException());
+			shared.setStackTrace(new Throwable().getStackTrace());
+			NoSuchElementException next = absentValueException(() -> nothing().get());
+			assertThat(next, is(sameInstance(shared)));
+			assertNull(next.getCause());
+			assertThat(next.getStackTrace().length, is(0));
+		} finally {
+			Maybe.setSharedAbsentValueException(false);
+		}
+	}
+
+	@Test
+	public void sharedAbsentValueExceptionHasNoSuppressedExceptionsAfterTryWithResources() {
+		Maybe.setSharedAbsentValueException(true);
+		try {
+			NoSuchElementException suppressing = absentValueException(() -> {
+				try (AutoCloseable resource = () -> {
+					throw new IllegalStateException();
+				}) {
+					nothing().get();
+				} catch (NoSuchElementException e) {
+					throw e;
+				} catch (Exception e) {
+					throw new AssertionError(e);
+				}
+			});
+			assertThat(suppressing.getSuppressed(), arrayWithSize(1));
+			assertThat(absentValueException(() -> nothing().get()).getSuppressed(), arrayWithSize(0));
+		} finally {
+			Maybe.setSharedAbsentValueException(false);
+		}
+	}
+
+	@Test
+	public void flatMapOfJustReturnsResultOfFunction() {
+		Maybe<Object> result = just(new Object());
+		assertThat(just("a").flatMap(value -> result), is(sameInstance(result)));
+		assertThat(just("a").flatMap(value -> nothing()), isNothing());
+	}
+
+	@Test
+	public void flatMapOfNothingDoesNotApplyFunction() {
+		assertThat(nothing().flatMap(value -> {
+			throw new AssertionError();
+		}), isNothing());
+	}
+
+	@Test
+	public void primitiveFlatMapOfJustReturnsResultOfFunction() {
+		MaybeInt intResult = MaybeInt.justInt(100_000);
+		MaybeLong longResult = MaybeLong.justLong(100_000);
+		MaybeDouble doubleResult = MaybeDouble.justDouble(0.5);
+		assertThat(just("a").flatMapToInt(value -> intResult), is(sameInstance(intResult)));
+		assertThat(just("a").flatMapToLong(value -> longResult), is(sameInstance(longResult)));
+		assertThat(just("a").flatMapToDouble(value -> doubleResult), is(sameInstance(doubleResult)));
+	}
+
+	@Test
+	public void primitiveFlatMapOfNothingIsAbsent() {
+		assertFalse(nothing().flatMapToInt(value -> MaybeInt.justInt(1)).isPresent());
+		assertFalse(nothing().flatMapToLong(value -> MaybeLong.justLong(1)).isPresent());
+		assertFalse(nothing().flatMapToDouble(value -> MaybeDouble.justDouble(1)).isPresent());
+	}
+
+	@Test(expected = NullPointerException.class)
+	public void flatMapToNullThrowsNullPointerException() {
+		just("a").flatMap(value -> null);
+	}
+
+	@Test
+	public void spliteratorOfJustHasExactSizeAndCharacteristics() {
+		Spliterator<Object> spliterator = just(new Object()).spliterator();
+		assertThat(spliterator.getExactSizeIfKnown(), is(1L));
+		assertThat(spliterator.characteristics(), is(Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.IMMUTABLE
+				| Spliterator.NONNULL | Spliterator.ORDERED | Spliterator.DISTINCT));
+	}
+
+	@Test
+	public void spliteratorOfJustYieldsValueOnce() {
+		Object value = new Object();
+		Spliterator<Object> spliterator = just(value).spliterator();
+		List<Object> elements = new ArrayList<>();
+		assertTrue(spliterator.tryAdvance(elements::add));
+		assertFalse(spliterator.tryAdvance(elements::add));
+		assertThat(elements, is(asList(value)));
+		assertThat(spliterator.estimateSize(), is(0L));
+	}
+
+	@Test
+	public void spliteratorOfNothingIsSharedAndEmpty() {
+		Spliterator<Object> spliterator = nothing().spliterator();
+		assertThat(spliterator, is(sameInstance(nothing().spliterator())));
+		assertThat(spliterator.getExactSizeIfKnown(), is(0L));
+		assertTrue(spliterator.hasCharacteristics(Spliterator.IMMUTABLE));
+	}
+
+	@Test
+	public void streamsFlatMapToPresentValues() {
+		List<Object> values = asList(new Object(), new Object());
+		List<Object> flattened = Stream.of(just(values.get(0)), nothing(), just(values.get(1)))
+				.flatMap(Maybe::stream).collect(Collectors.toList());
+		assertThat(flattened, is(values));
+	}
+
 	private static void consumerInvocationOnJustWithThrowingConsumerPropagatesThrownException(
 			BinaryConsumer<Maybe<Object>, Consumer<Object, Exception>, Exception> maybeInvocation) {
 		Object value = new Object();
@@ -1089,4 +1275,13 @@ public class MaybeTest {
 		verifyNoMoreInteractions(functionMock);
 	}
 
+	private static NoSuchElementException absentValueException(Runnable get) {
+		try {
+			get.run();
+		} catch (NoSuchElementException e) {
+			return e;
+		}
+		throw new AssertionError("Expected NoSuchElementException");
+	}
+
 }
@@ -0,0 +1,139 @@
+package net.xeona.maybe.cache;
+
+import static net.xeona.maybe.matcher.MaybeMatcher.isJust;
+import static net.xeona.maybe.matcher.MaybeMatcher.isNothing;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Test;
+
+import net.xeona.maybe.Maybe;
+
+public class MaybeCacheTest {
+
+	private final AtomicLong time = new AtomicLong();
+
+	private final AtomicInteger loads = new AtomicInteger();
+
+	private Maybe<String> load(Integer key) {
+		loads.incrementAndGet();
+		return key >= 0 ? Maybe.just("value" + key) : Maybe.nothing();
+	}
+
+	@Test
+	public void presentResultIsLoadedOnce() {
+		MaybeCache<Integer, String> cache = MaybeCache.builder().build(this::load);
+		assertThat(cache.get(1), isJust("value1"));
+		assertThat(cache.get(1), isJust("value1"));
+		assertEquals(1, loads.get());
+		assertEquals(1, cache.hitCount());
+		assertEquals(1, cache.missCount());
+	}
+
+	@Test
+	public void absentResultIsCachedAsSharedNothing() {
+		MaybeCache<Integer, String> cache = MaybeCache.builder().build(this::load);
+		assertThat(cache.get(-1), isNothing());
+		assertThat(cache.get(-1), is(sameInstance(Maybe.<String> nothing())));
+		assertEquals(1, loads.get());
+		assertEquals(1, cache.negativeHitCount());
+		assertEquals(0, cache.hitCount());
+	}
+
+	@Test
+	public void absentResultExpiresSeparatelyFromPresentResult() {
+		MaybeCache<Integer, String> cache = MaybeCache.builder().ticker(time::get)
+				.expireAfterWrite(10, TimeUnit.SECONDS).expireAbsentAfterWrite(1, TimeUnit.SECONDS).build(this::load);
+		cache.get(1);
+		cache.get(-1);
+		time.addAndGet(TimeUnit.SECONDS.toNanos(2));
+		cache.get(1);
+		cache.get(-1);
+		assertEquals(3, loads.get());
+		time.addAndGet(TimeUnit.SECONDS.toNanos(9));
+		cache.get(1);
+		assertEquals(4, loads.get());
+	}
+
+	@Test
+	public void leastRecentlyUsedEntryIsEvictedWhenFull() {
+		MaybeCache<Integer, String> cache = MaybeCache.builder().maximumSize(1).build(this::load);
+		cache.get(1);
+		cache.get(2);
+		assertEquals(1, cache.size());
+		assertEquals(1, cache.evictionCount());
+		cache.get(1);
+		assertEquals(3, loads.get());
+	}
+
+	@Test
+	public void sizeNeverExceedsMaximumSize() {
+		MaybeCache<Integer, String> cache = MaybeCache.builder().maximumSize(100).build(this::load);
+		for (int key = -1_000; key < 1_000; key++) {
+			cache.get(key);
+		}
+		assertTrue(cache.size() <= 100);
+		assertEquals(2_000 - cache.size(), cache.evictionCount());
+	}
+
+	@Test
+	public void invalidateCausesReload() {
+		MaybeCache<Integer, String> cache = MaybeCache.builder().build(this::load);
+		cache.get(-1);
+		cache.invalidate(-1);
+		cache.get(-1);
+		cache.invalidateAll();
+		cache.get(-1);
+		assertEquals(3, loads.get());
+		assertEquals(0, cache.negativeHitCount());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void nonPositiveMaximumSizeThrowsIllegalArgumentException() {
+		MaybeCache.builder().maximumSize(0);
+	}
+
+	@Test(expected = NullPointerException.class)
+	public void nullResultOfLoaderThrowsNullPointerException() {
+		MaybeCache.builder().<Integer, String> build(key -> null).get(1);
+	}
+
+	@Test
+	public void concurrentReadsCountEveryCall() throws InterruptedException {
+		MaybeCache<Integer, String> cache = MaybeCache.builder().maximumSize(1_000).build(this::load);
+		CountDownLatch start = new CountDownLatch(1);
+		List<Thread> threads = new ArrayList<>();
+		for (int i = 0; i < 8; i++) {
+			Thread thread = new Thread(() -> {
+				try {
+					start.await();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+				for (int key = -50; key < 50; key++) {
+					cache.get(key);
+				}
+			});
+			threads.add(thread);
+			thread.start();
+		}
+		start.countDown();
+		for (Thread thread : threads) {
+			thread.join();
+		}
+		assertEquals(800, cache.hitCount() + cache.negativeHitCount() + cache.missCount());
+		assertEquals(loads.get(), cache.missCount());
+		assertEquals(100, cache.size());
+	}
+
+}
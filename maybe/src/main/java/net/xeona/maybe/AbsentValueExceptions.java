@@ -0,0 +1,72 @@
+package net.xeona.maybe;
+
+import java.util.NoSuchElementException;
+
+/**
+ * The exceptions thrown by {@code get()} on an absent value of every Maybe type.
+ * <p />
+ * By default each call creates a new {@link NoSuchElementException} with a full stack trace. If shared exceptions are
+ * enabled, through {@link Maybe#setSharedAbsentValueException(boolean)} or by setting the system property
+ * {@value #SHARED_PROPERTY} to {@code true}, every call throws the same preallocated instance, which has no stack trace
+ * and so costs no more to throw than a return.
+ * <p />
+ * The shared instance ignores {@link Throwable#initCause(Throwable)} and {@link Throwable#setStackTrace}, so that no
+ * caller can change what other threads see. {@link Throwable#addSuppressed(Throwable)} is final and cannot be
+ * disabled for a {@link NoSuchElementException} on Java 8, so instead a shared instance that has had an exception
+ * suppressed, such as by a {@code try}-with-resources statement whose resource failed to close, is discarded and
+ * replaced by a new one the next time it would be thrown.
+ */
+final class AbsentValueExceptions {
+
+	static final String SHARED_PROPERTY = "net.xeona.maybe.Maybe.sharedAbsentValueException";
+
+	private static volatile NoSuchElementException sharedInstance = new SharedNoSuchElementException();
+
+	private static volatile boolean shared = Boolean.getBoolean(SHARED_PROPERTY);
+
+	private AbsentValueExceptions() {}
+
+	static NoSuchElementException noSuchElement() {
+		return shared ? sharedInstance() : new NoSuchElementException();
+	}
+
+	private static NoSuchElementException sharedInstance() {
+		NoSuchElementException instance = sharedInstance;
+		if (instance.getSuppressed().length != 0) {
+			sharedInstance = instance = new SharedNoSuchElementException();
+		}
+		return instance;
+	}
+
+	static boolean isShared() {
+		return shared;
+	}
+
+	static void setShared(boolean shared) {
+		AbsentValueExceptions.shared = shared;
+	}
+
+	private static final class SharedNoSuchElementException extends NoSuchElementException {
+
+		private static final long serialVersionUID = 1L;
+
+		private SharedNoSuchElementException() {
+			super("Value is absent (shared exception, stack trace disabled)");
+		}
+
+		@Override
+		public synchronized Throwable fillInStackTrace() {
+			return this;
+		}
+
+		@Override
+		public synchronized Throwable initCause(Throwable cause) {
+			return this;
+		}
+
+		@Override
+		public void setStackTrace(StackTraceElement[] stackTrace) {}
+
+	}
+
+}
@@ -0,0 +1,115 @@
+package net.xeona.maybe;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+
+import net.xeona.function.Function;
+
+/**
+ * A {@link Maybe} that may be updated atomically.
+ * <p />
+ * The value itself is held in one volatile field, with {@code null} standing for absence, so updates never allocate a
+ * {@link Maybe}; one is only created by {@link #get()}. As with {@link java.util.concurrent.atomic.AtomicReference
+ * AtomicReference}, {@link #compareAndSet(Maybe, Maybe)} compares values by identity.
+ *
+ * @param <E>
+ *            The type of the value held by this instance
+ */
+public final class AtomicMaybe<E> {
+
+	@SuppressWarnings("rawtypes")
+	private static final AtomicReferenceFieldUpdater<AtomicMaybe, Object> VALUE = AtomicReferenceFieldUpdater
+			.newUpdater(AtomicMaybe.class, Object.class, "value");
+
+	private volatile E value;
+
+	/**
+	 * Creates an instance with no value.
+	 */
+	public AtomicMaybe() {}
+
+	public AtomicMaybe(Maybe<? extends E> initialValue) {
+		this.value = valueOf(initialValue);
+	}
+
+	public Maybe<E> get() {
+		return Maybe.maybe(value);
+	}
+
+	public boolean isPresent() {
+		return value != null;
+	}
+
+	public E orElse(E other) {
+		E current = value;
+		return current != null ? current : other;
+	}
+
+	public void set(E value) {
+		this.value = requireNonNull(value, "Value must not be null");
+	}
+
+	public void set(Maybe<? extends E> value) {
+		this.value = valueOf(value);
+	}
+
+	public void clear() {
+		value = null;
+	}
+
+	/**
+	 * Sets the given value if there is currently no value.
+	 *
+	 * @return {@code true} if the value was set, or {@code false} if a value was already present
+	 */
+	public boolean setIfAbsent(E value) {
+		return VALUE.compareAndSet(this, null, requireNonNull(value, "Value must not be null"));
+	}
+
+	/**
+	 * Sets the given value if the current value is the same instance as the expected one, or if both are absent.
+	 *
+	 * @return {@code true} if the value was set
+	 */
+	public boolean compareAndSet(Maybe<? extends E> expect, Maybe<? extends E> update) {
+		return VALUE.compareAndSet(this, valueOf(expect), valueOf(update));
+	}
+
+	@SuppressWarnings("unchecked")
+	public Maybe<E> getAndSet(Maybe<? extends E> value) {
+		return Maybe.maybe((E) VALUE.getAndSet(this, valueOf(value)));
+	}
+
+	/**
+	 * Atomically replaces a present value with the result of the given function, and returns the updated value. An
+	 * absent value is left absent without calling the function, and a {@code null} result clears the value.
+	 * <p />
+	 * The function may be called more than once if other threads update this instance concurrently, and so should be
+	 * free of side effects.
+	 */
+	public <X extends Throwable> Maybe<E> updateAndGet(Function<? super E, ? extends E, ? extends X> function)
+			throws X {
+		requireNonNull(function, "Function must not be null");
+		E current;
+		E updated;
+		do {
+			current = value;
+			if (current == null) {
+				return Maybe.nothing();
+			}
+			updated = function.apply(current);
+		} while (!VALUE.compareAndSet(this, current, updated));
+		return Maybe.maybe(updated);
+	}
+
+	@Override
+	public String toString() {
+		return get().toString();
+	}
+
+	private static <E> E valueOf(Maybe<? extends E> maybe) {
+		return requireNonNull(maybe, "Maybe must not be null").orElse(null);
+	}
+
+}
@@ -0,0 +1,111 @@
+package net.xeona.maybe;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+
+import net.xeona.function.IntUnaryOperator;
+
+/**
+ * A {@link MaybeInt} that may be updated atomically.
+ * <p />
+ * The presence and value are held together in one volatile {@code long}, in the encoding of {@link MaybeInts}, so every
+ * update is a single compare-and-set and never allocates. Reading through {@link #isPresent()},
+ * {@link #orElse(int)} or {@link #getPacked()} does not allocate either; {@link #get()} returns a {@link MaybeInt},
+ * which is only allocated for values outside the cached range of {@link MaybeInt#justInt(int)}.
+ */
+public final class AtomicMaybeInt {
+
+	private static final AtomicLongFieldUpdater<AtomicMaybeInt> PACKED = AtomicLongFieldUpdater
+			.newUpdater(AtomicMaybeInt.class, "packed");
+
+	private volatile long packed;
+
+	/**
+	 * Creates an instance with no value.
+	 */
+	public AtomicMaybeInt() {
+		this.packed = MaybeInts.noInt();
+	}
+
+	public AtomicMaybeInt(MaybeInt initialValue) {
+		this.packed = MaybeInts.fromMaybeInt(initialValue);
+	}
+
+	public MaybeInt get() {
+		return MaybeInts.toMaybeInt(packed);
+	}
+
+	/**
+	 * Returns the current value in the packed encoding of {@link MaybeInts}.
+	 */
+	public long getPacked() {
+		return packed;
+	}
+
+	public boolean isPresent() {
+		return MaybeInts.isPresent(packed);
+	}
+
+	public int orElse(int other) {
+		return MaybeInts.orElse(packed, other);
+	}
+
+	public void set(int value) {
+		packed = MaybeInts.pack(value);
+	}
+
+	public void set(MaybeInt value) {
+		packed = MaybeInts.fromMaybeInt(value);
+	}
+
+	public void clear() {
+		packed = MaybeInts.noInt();
+	}
+
+	/**
+	 * Sets the given value if there is currently no value.
+	 *
+	 * @return {@code true} if the value was set, or {@code false} if a value was already present
+	 */
+	public boolean setIfAbsent(int value) {
+		return PACKED.compareAndSet(this, MaybeInts.noInt(), MaybeInts.pack(value));
+	}
+
+	/**
+	 * Sets the given value if the current value equals the expected one, where two absent values are equal.
+	 *
+	 * @return {@code true} if the value was set
+	 */
+	public boolean compareAndSet(MaybeInt expect, MaybeInt update) {
+		return PACKED.compareAndSet(this, MaybeInts.fromMaybeInt(expect), MaybeInts.fromMaybeInt(update));
+	}
+
+	public MaybeInt getAndSet(MaybeInt value) {
+		return MaybeInts.toMaybeInt(PACKED.getAndSet(this, MaybeInts.fromMaybeInt(value)));
+	}
+
+	/**
+	 * Atomically replaces a present value with the result of the given function, and returns the updated value. An
+	 * absent value is left absent without calling the function.
+	 * <p />
+	 * The function may be called more than once if other threads update this instance concurrently, and so should be
+	 * free of side effects.
+	 */
+	public <X extends Throwable> MaybeInt updateAndGet(IntUnaryOperator<? extends X> function) throws X {
+		requireNonNull(function, "Function must not be null");
+		long current;
+		long updated;
+		do {
+			current = packed;
+			updated = MaybeInts.map(current, function);
+		} while (!PACKED.compareAndSet(this, current, updated));
+		return MaybeInts.toMaybeInt(updated);
+	}
+
+	@Override
+	public String toString() {
+		return MaybeInts.toMaybeInt(packed).toString();
+	}
+
+}
@@ -0,0 +1,125 @@
+package net.xeona.maybe;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+
+import net.xeona.function.LongUnaryOperator;
+
+/**
+ * A {@link MaybeLong} that may be updated atomically.
+ * <p />
+ * A present long and its presence do not fit in one {@code long}, so unlike {@link AtomicMaybeInt} this holds a
+ * reference to an immutable {@link MaybeLong}. Reads never allocate, and updates allocate only for values outside the
+ * cached range of {@link MaybeLong#justLong(long)}. Clearing always stores the shared {@link MaybeLong#noLong()}.
+ */
+public final class AtomicMaybeLong {
+
+	private static final AtomicReferenceFieldUpdater<AtomicMaybeLong, MaybeLong> VALUE = AtomicReferenceFieldUpdater
+			.newUpdater(AtomicMaybeLong.class, MaybeLong.class, "value");
+
+	private volatile MaybeLong value;
+
+	/**
+	 * Creates an instance with no value.
+	 */
+	public AtomicMaybeLong() {
+		this.value = MaybeLong.noLong();
+	}
+
+	public AtomicMaybeLong(MaybeLong initialValue) {
+		this.value = requireNonNull(initialValue, "MaybeLong must not be null");
+	}
+
+	public MaybeLong get() {
+		return value;
+	}
+
+	public boolean isPresent() {
+		return value.isPresent();
+	}
+
+	public long orElse(long other) {
+		return value.orElse(other);
+	}
+
+	public void set(long value) {
+		this.value = MaybeLong.justLong(value);
+	}
+
+	public void set(MaybeLong value) {
+		this.value = requireNonNull(value, "MaybeLong must not be null");
+	}
+
+	public void clear() {
+		value = MaybeLong.noLong();
+	}
+
+	/**
+	 * Sets the given value if there is currently no value.
+	 *
+	 * @return {@code true} if the value was set, or {@code false} if a value was already present
+	 */
+	public boolean setIfAbsent(long value) {
+		MaybeLong update = null;
+		for (MaybeLong current = this.value; !current.isPresent(); current = this.value) {
+			if (update == null) {
+				update = MaybeLong.justLong(value);
+			}
+			if (VALUE.compareAndSet(this, current, update)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Sets the given value if the current value equals the expected one, where two absent values are equal.
+	 * <p />
+	 * Values are compared with {@link MaybeLong#equals(Object)} rather than by identity, so the expected value need not
+	 * be the instance that was stored.
+	 *
+	 * @return {@code true} if the value was set
+	 */
+	public boolean compareAndSet(MaybeLong expect, MaybeLong update) {
+		requireNonNull(expect, "Expected MaybeLong must not be null");
+		requireNonNull(update, "MaybeLong must not be null");
+		for (MaybeLong current = value; current.equals(expect); current = value) {
+			if (VALUE.compareAndSet(this, current, update)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	public MaybeLong getAndSet(MaybeLong value) {
+		return VALUE.getAndSet(this, requireNonNull(value, "MaybeLong must not be null"));
+	}
+
+	/**
+	 * Atomically replaces a present value with the result of the given function, and returns the updated value. An
+	 * absent value is left absent without calling the function.
+	 * <p />
+	 * The function may be called more than once if other threads update this instance concurrently, and so should be
+	 * free of side effects.
+	 */
+	public <X extends Throwable> MaybeLong updateAndGet(LongUnaryOperator<? extends X> function) throws X {
+		requireNonNull(function, "Function must not be null");
+		MaybeLong current;
+		MaybeLong updated;
+		do {
+			current = value;
+			if (!current.isPresent()) {
+				return current;
+			}
+			updated = MaybeLong.justLong(function.apply(current.get()));
+		} while (!VALUE.compareAndSet(this, current, updated));
+		return updated;
+	}
+
+	@Override
+	public String toString() {
+		return value.toString();
+	}
+
+}
@@ -0,0 +1,114 @@
+package net.xeona.maybe;
+
+import static java.util.Objects.requireNonNull;
+
+import net.xeona.function.Consumer;
+import net.xeona.function.Function;
+import net.xeona.function.Provider;
+import net.xeona.function.ToBooleanFunction;
+import net.xeona.function.ToIntFunction;
+import net.xeona.function.ToLongFunction;
+import net.xeona.function.VoidFunction;
+
+/**
+ * A {@link Maybe} computed by a {@link Provider} on first use, and then remembered.
+ * <p />
+ * The provider is called at most once, under a lock that is only taken until the result is known. From then on every
+ * read is a single volatile load of the remembered Maybe, and the provider is released. An absent result is remembered
+ * like a present one, so a lookup that finds nothing is not repeated. If the provider throws, nothing is remembered and
+ * the next read calls it again.
+ * <p />
+ * The map and filter operations return further lazy values, each computed at most once from this one.
+ *
+ * @param <E>
+ *            The type of the value that may be provided
+ */
+public final class LazyMaybe<E> {
+
+	private volatile Maybe<E> maybe;
+
+	private Provider<? extends Maybe<? extends E>, ? extends RuntimeException> provider;
+
+	private LazyMaybe(Provider<? extends Maybe<? extends E>, ? extends RuntimeException> provider) {
+		this.provider = requireNonNull(provider, "Provider must not be null");
+	}
+
+	public static <T> LazyMaybe<T> lazy(Provider<? extends Maybe<? extends T>, ? extends RuntimeException> provider) {
+		return new LazyMaybe<>(provider);
+	}
+
+	/**
+	 * Returns the remembered Maybe, calling the provider if it has not yet been called successfully.
+	 */
+	public Maybe<E> toMaybe() {
+		Maybe<E> result = maybe;
+		return result != null ? result : compute();
+	}
+
+	public boolean isPresent() {
+		return toMaybe().isPresent();
+	}
+
+	public E get() {
+		return toMaybe().get();
+	}
+
+	public E orElse(E other) {
+		return toMaybe().orElse(other);
+	}
+
+	public <X extends Throwable> E orElseGet(Provider<? extends E, ? extends X> provider) throws X {
+		return toMaybe().orElseGet(provider);
+	}
+
+	public <X extends Throwable, Y extends Throwable> E orElseThrow(Provider<? extends X, ? extends Y> provider)
+			throws X, Y {
+		return toMaybe().orElseThrow(provider);
+	}
+
+	public <X extends Throwable> void ifPresent(Consumer<? super E, ? extends X> consumer) throws X {
+		toMaybe().ifPresent(consumer);
+	}
+
+	public <X extends Throwable> void ifAbsent(VoidFunction<? extends X> function) throws X {
+		toMaybe().ifAbsent(function);
+	}
+
+	public LazyMaybe<E> filter(ToBooleanFunction<? super E, ? extends RuntimeException> predicate) {
+		requireNonNull(predicate, "Predicate must not be null");
+		return lazy(() -> toMaybe().filter(predicate));
+	}
+
+	public LazyMaybeInt mapToInt(ToIntFunction<? super E, ? extends RuntimeException> function) {
+		requireNonNull(function, "Function must not be null");
+		return LazyMaybeInt.lazyInt(() -> toMaybe().mapToInt(function));
+	}
+
+	public LazyMaybeLong mapToLong(ToLongFunction<? super E, ? extends RuntimeException> function) {
+		requireNonNull(function, "Function must not be null");
+		return LazyMaybeLong.lazyLong(() -> toMaybe().mapToLong(function));
+	}
+
+	public <T> LazyMaybe<T> map(Function<? super E, ? extends T, ? extends RuntimeException> function) {
+		requireNonNull(function, "Function must not be null");
+		return lazy(() -> toMaybe().map(function));
+	}
+
+	@Override
+	public String toString() {
+		Maybe<E> result = maybe;
+		return result != null ? "LazyMaybe [" + result + "]" : "LazyMaybe [not computed]";
+	}
+
+	@SuppressWarnings("unchecked")
+	private synchronized Maybe<E> compute() {
+		Maybe<E> result = maybe;
+		if (result == null) {
+			result = (Maybe<E>) requireNonNull(provider.get(), "Result of provider must not be null");
+			maybe = result;
+			provider = null;
+		}
+		return result;
+	}
+
+}
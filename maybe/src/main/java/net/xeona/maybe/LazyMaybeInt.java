@@ -0,0 +1,105 @@
+package net.xeona.maybe;
+
+import static java.util.Objects.requireNonNull;
+
+import net.xeona.function.IntConsumer;
+import net.xeona.function.IntFunction;
+import net.xeona.function.IntProvider;
+import net.xeona.function.IntToBooleanFunction;
+import net.xeona.function.IntToLongFunction;
+import net.xeona.function.IntUnaryOperator;
+import net.xeona.function.Provider;
+import net.xeona.function.VoidFunction;
+
+/**
+ * A {@link MaybeInt} computed by a {@link Provider} on first use, and then remembered, in the same way as a
+ * {@link LazyMaybe}.
+ */
+public final class LazyMaybeInt {
+
+	private volatile MaybeInt maybe;
+
+	private Provider<? extends MaybeInt, ? extends RuntimeException> provider;
+
+	private LazyMaybeInt(Provider<? extends MaybeInt, ? extends RuntimeException> provider) {
+		this.provider = requireNonNull(provider, "Provider must not be null");
+	}
+
+	public static LazyMaybeInt lazyInt(Provider<? extends MaybeInt, ? extends RuntimeException> provider) {
+		return new LazyMaybeInt(provider);
+	}
+
+	/**
+	 * Returns the remembered MaybeInt, calling the provider if it has not yet been called successfully.
+	 */
+	public MaybeInt toMaybeInt() {
+		MaybeInt result = maybe;
+		return result != null ? result : compute();
+	}
+
+	public boolean isPresent() {
+		return toMaybeInt().isPresent();
+	}
+
+	public int get() {
+		return toMaybeInt().get();
+	}
+
+	public int orElse(int other) {
+		return toMaybeInt().orElse(other);
+	}
+
+	public <X extends Throwable> int orElseGet(IntProvider<? extends X> valueProvider) throws X {
+		return toMaybeInt().orElseGet(valueProvider);
+	}
+
+	public <X extends Throwable, Y extends Throwable> int orElseThrow(
+			Provider<? extends X, ? extends Y> exceptionProvider) throws X, Y {
+		return toMaybeInt().orElseThrow(exceptionProvider);
+	}
+
+	public <X extends Throwable> void ifPresent(IntConsumer<? extends X> consumer) throws X {
+		toMaybeInt().ifPresent(consumer);
+	}
+
+	public <X extends Throwable> void ifAbsent(VoidFunction<? extends X> function) throws X {
+		toMaybeInt().ifAbsent(function);
+	}
+
+	public LazyMaybeInt filter(IntToBooleanFunction<? extends RuntimeException> predicate) {
+		requireNonNull(predicate, "Predicate must not be null");
+		return lazyInt(() -> toMaybeInt().filter(predicate));
+	}
+
+	public LazyMaybeInt mapToInt(IntUnaryOperator<? extends RuntimeException> function) {
+		requireNonNull(function, "Function must not be null");
+		return lazyInt(() -> toMaybeInt().mapToInt(function));
+	}
+
+	public LazyMaybeLong mapToLong(IntToLongFunction<? extends RuntimeException> function) {
+		requireNonNull(function, "Function must not be null");
+		return LazyMaybeLong.lazyLong(() -> toMaybeInt().mapToLong(function));
+	}
+
+	public <T> LazyMaybe<T> map(IntFunction<? extends T, ? extends RuntimeException> function) {
+		requireNonNull(function, "Function must not be null");
+		return LazyMaybe.lazy(() -> toMaybeInt().map(function));
+	}
+
+	@Override
+	public String toString() {
+		MaybeInt result = maybe;
+		return result != null ? "LazyMaybeInt [" + result + "]" : "LazyMaybeInt [not computed]";
+	}
+
+	private synchronized MaybeInt compute() {
+		MaybeInt result = maybe;
+		if (result == null) {
+			result = requireNonNull(provider.get(), "Result of provider must not be null");
+			maybe = result;
+			provider = null;
+		}
+		return result;
+	}
+
+}
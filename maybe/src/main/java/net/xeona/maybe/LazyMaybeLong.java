@@ -0,0 +1,105 @@
+package net.xeona.maybe;
+
+import static java.util.Objects.requireNonNull;
+
+import net.xeona.function.LongConsumer;
+import net.xeona.function.LongFunction;
+import net.xeona.function.LongProvider;
+import net.xeona.function.LongToBooleanFunction;
+import net.xeona.function.LongToIntFunction;
+import net.xeona.function.LongUnaryOperator;
+import net.xeona.function.Provider;
+import net.xeona.function.VoidFunction;
+
+/**
+ * A {@link MaybeLong} computed by a {@link Provider} on first use, and then remembered, in the same way as a
+ * {@link LazyMaybe}.
+ */
+public final class LazyMaybeLong {
+
+	private volatile MaybeLong maybe;
+
+	private Provider<? extends MaybeLong, ? extends RuntimeException> provider;
+
+	private LazyMaybeLong(Provider<? extends MaybeLong, ? extends RuntimeException> provider) {
+		this.provider = requireNonNull(provider, "Provider must not be null");
+	}
+
+	public static LazyMaybeLong lazyLong(Provider<? extends MaybeLong, ? extends RuntimeException> provider) {
+		return new LazyMaybeLong(provider);
+	}
+
+	/**
+	 * Returns the remembered MaybeLong, calling the provider if it has not yet been called successfully.
+	 */
+	public MaybeLong toMaybeLong() {
+		MaybeLong result = maybe;
+		return result != null ? result : compute();
+	}
+
+	public boolean isPresent() {
+		return toMaybeLong().isPresent();
+	}
+
+	public long get() {
+		return toMaybeLong().get();
+	}
+
+	public long orElse(long other) {
+		return toMaybeLong().orElse(other);
+	}
+
+	public <X extends Throwable> long orElseGet(LongProvider<? extends X> valueProvider) throws X {
+		return toMaybeLong().orElseGet(valueProvider);
+	}
+
+	public <X extends Throwable, Y extends Throwable> long orElseThrow(
+			Provider<? extends X, ? extends Y> exceptionProvider) throws X, Y {
+		return toMaybeLong().orElseThrow(exceptionProvider);
+	}
+
+	public <X extends Throwable> void ifPresent(LongConsumer<? extends X> consumer) throws X {
+		toMaybeLong().ifPresent(consumer);
+	}
+
+	public <X extends Throwable> void ifAbsent(VoidFunction<? extends X> function) throws X {
+		toMaybeLong().ifAbsent(function);
+	}
+
+	public LazyMaybeLong filter(LongToBooleanFunction<? extends RuntimeException> predicate) {
+		requireNonNull(predicate, "Predicate must not be null");
+		return lazyLong(() -> toMaybeLong().filter(predicate));
+	}
+
+	public LazyMaybeInt mapToInt(LongToIntFunction<? extends RuntimeException> function) {
+		requireNonNull(function, "Function must not be null");
+		return LazyMaybeInt.lazyInt(() -> toMaybeLong().mapToInt(function));
+	}
+
+	public LazyMaybeLong mapToLong(LongUnaryOperator<? extends RuntimeException> function) {
+		requireNonNull(function, "Function must not be null");
+		return lazyLong(() -> toMaybeLong().mapToLong(function));
+	}
+
+	public <T> LazyMaybe<T> map(LongFunction<? extends T, ? extends RuntimeException> function) {
+		requireNonNull(function, "Function must not be null");
+		return LazyMaybe.lazy(() -> toMaybeLong().map(function));
+	}
+
+	@Override
+	public String toString() {
+		MaybeLong result = maybe;
+		return result != null ? "LazyMaybeLong [" + result + "]" : "LazyMaybeLong [not computed]";
+	}
+
+	private synchronized MaybeLong compute() {
+		MaybeLong result = maybe;
+		if (result == null) {
+			result = requireNonNull(provider.get(), "Result of provider must not be null");
+			maybe = result;
+			provider = null;
+		}
+		return result;
+	}
+
+}
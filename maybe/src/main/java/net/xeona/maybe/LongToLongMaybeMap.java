@@ -0,0 +1,205 @@
+package net.xeona.maybe;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+
+/**
+ * A map from long keys to long values, held in open addressing {@code long[]} tables, whose lookups return a
+ * {@link MaybeLong} instead of a boxed value or {@code null}.
+ * <p />
+ * Neither {@link #getOrElse(long, long)} nor {@link #containsKey(long)} allocates, and {@link #get(long)} allocates
+ * only for values outside the cached range of {@link MaybeLong#justLong(long)}. Putting a new key allocates only when
+ * the tables grow. Instances are not safe for use by several threads while any of them writes.
+ */
+public final class LongToLongMaybeMap {
+
+	private static final long FREE_KEY = 0L;
+
+	private long[] keys;
+
+	private long[] values;
+
+	private int mask;
+
+	private int resizeThreshold;
+
+	private int size;
+
+	private boolean hasFreeKey;
+
+	private long freeKeyValue;
+
+	public LongToLongMaybeMap() {
+		this(OpenAddressing.DEFAULT_EXPECTED_SIZE);
+	}
+
+	/**
+	 * Creates a map that can hold the given number of entries without growing.
+	 */
+	public LongToLongMaybeMap(int expectedSize) {
+		allocate(OpenAddressing.capacityFor(expectedSize));
+	}
+
+	public int size() {
+		return hasFreeKey ? size + 1 : size;
+	}
+
+	public boolean isEmpty() {
+		return size() == 0;
+	}
+
+	public boolean containsKey(long key) {
+		return key == FREE_KEY ? hasFreeKey : indexOf(key) >= 0;
+	}
+
+	public MaybeLong get(long key) {
+		if (key == FREE_KEY) {
+			return hasFreeKey ? MaybeLong.justLong(freeKeyValue) : MaybeLong.noLong();
+		}
+		int index = indexOf(key);
+		return index >= 0 ? MaybeLong.justLong(values[index]) : MaybeLong.noLong();
+	}
+
+	public long getOrElse(long key, long other) {
+		if (key == FREE_KEY) {
+			return hasFreeKey ? freeKeyValue : other;
+		}
+		int index = indexOf(key);
+		return index >= 0 ? values[index] : other;
+	}
+
+	public void put(long key, long value) {
+		if (key == FREE_KEY) {
+			freeKeyValue = value;
+			hasFreeKey = true;
+			return;
+		}
+		int index = OpenAddressing.mix(key) & mask;
+		for (long candidate; (candidate = keys[index]) != FREE_KEY; index = index + 1 & mask) {
+			if (candidate == key) {
+				values[index] = value;
+				return;
+			}
+		}
+		if (size == resizeThreshold) {
+			resize(OpenAddressing.doubledCapacity(keys.length));
+			index = freeIndexOf(key);
+		}
+		keys[index] = key;
+		values[index] = value;
+		size++;
+	}
+
+	/**
+	 * Maps the given key to the value if present, or otherwise removes the key.
+	 */
+	public void put(long key, MaybeLong value) {
+		if (requireNonNull(value, "Value must not be null").isPresent()) {
+			put(key, value.get());
+		} else {
+			remove(key);
+		}
+	}
+
+	/**
+	 * Removes the given key.
+	 *
+	 * @return {@code true} if the key was present
+	 */
+	public boolean remove(long key) {
+		if (key == FREE_KEY) {
+			boolean removed = hasFreeKey;
+			hasFreeKey = false;
+			return removed;
+		}
+		int index = indexOf(key);
+		if (index < 0) {
+			return false;
+		}
+		shiftBack(index);
+		size--;
+		return true;
+	}
+
+	public void clear() {
+		Arrays.fill(keys, FREE_KEY);
+		size = 0;
+		hasFreeKey = false;
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder builder = new StringBuilder("LongToLongMaybeMap [");
+		String separator = "";
+		if (hasFreeKey) {
+			builder.append(FREE_KEY).append('=').append(freeKeyValue);
+			separator = ", ";
+		}
+		for (int index = 0; index < keys.length; index++) {
+			if (keys[index] != FREE_KEY) {
+				builder.append(separator).append(keys[index]).append('=').append(values[index]);
+				separator = ", ";
+			}
+		}
+		return builder.append(']').toString();
+	}
+
+	private int indexOf(long key) {
+		long[] keys = this.keys;
+		for (int index = OpenAddressing.mix(key) & mask;; index = index + 1 & mask) {
+			long candidate = keys[index];
+			if (candidate == key) {
+				return index;
+			}
+			if (candidate == FREE_KEY) {
+				return -1;
+			}
+		}
+	}
+
+	private int freeIndexOf(long key) {
+		int index = OpenAddressing.mix(key) & mask;
+		while (keys[index] != FREE_KEY) {
+			index = index + 1 & mask;
+		}
+		return index;
+	}
+
+	private void shiftBack(int free) {
+		for (int index = free + 1 & mask;; index = index + 1 & mask) {
+			long key = keys[index];
+			if (key == FREE_KEY) {
+				keys[free] = FREE_KEY;
+				return;
+			}
+			if (OpenAddressing.canShiftBack(OpenAddressing.mix(key) & mask, free, index, mask)) {
+				keys[free] = key;
+				values[free] = values[index];
+				free = index;
+			}
+		}
+	}
+
+	private void allocate(int capacity) {
+		keys = new long[capacity];
+		values = new long[capacity];
+		mask = capacity - 1;
+		resizeThreshold = OpenAddressing.resizeThreshold(capacity);
+	}
+
+	private void resize(int capacity) {
+		long[] oldKeys = keys;
+		long[] oldValues = values;
+		allocate(capacity);
+		for (int oldIndex = 0; oldIndex < oldKeys.length; oldIndex++) {
+			long key = oldKeys[oldIndex];
+			if (key != FREE_KEY) {
+				int index = freeIndexOf(key);
+				keys[index] = key;
+				values[index] = oldValues[oldIndex];
+			}
+		}
+	}
+
+}
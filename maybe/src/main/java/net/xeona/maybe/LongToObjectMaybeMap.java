@@ -0,0 +1,210 @@
+package net.xeona.maybe;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+
+/**
+ * A map from long keys to values, held in open addressing tables, whose lookups return a {@link Maybe} instead of
+ * {@code null}.
+ * <p />
+ * Neither {@link #getOrElse(long, Object)} nor {@link #containsKey(long)} allocates or boxes the key, and
+ * {@link #get(long)} allocates only the returned Maybe of a present value. Putting a new key allocates only when the
+ * tables grow. Instances are not safe for use by several threads while any of them writes.
+ *
+ * @param <V>
+ *            The type of the values
+ */
+public final class LongToObjectMaybeMap<V> {
+
+	private static final long FREE_KEY = 0L;
+
+	private long[] keys;
+
+	private Object[] values;
+
+	private int mask;
+
+	private int resizeThreshold;
+
+	private int size;
+
+	private boolean hasFreeKey;
+
+	private V freeKeyValue;
+
+	public LongToObjectMaybeMap() {
+		this(OpenAddressing.DEFAULT_EXPECTED_SIZE);
+	}
+
+	/**
+	 * Creates a map that can hold the given number of entries without growing.
+	 */
+	public LongToObjectMaybeMap(int expectedSize) {
+		allocate(OpenAddressing.capacityFor(expectedSize));
+	}
+
+	public int size() {
+		return hasFreeKey ? size + 1 : size;
+	}
+
+	public boolean isEmpty() {
+		return size() == 0;
+	}
+
+	public boolean containsKey(long key) {
+		return key == FREE_KEY ? hasFreeKey : indexOf(key) >= 0;
+	}
+
+	public Maybe<V> get(long key) {
+		return Maybe.maybe(getOrElse(key, null));
+	}
+
+	@SuppressWarnings("unchecked")
+	public V getOrElse(long key, V other) {
+		if (key == FREE_KEY) {
+			return hasFreeKey ? freeKeyValue : other;
+		}
+		int index = indexOf(key);
+		return index >= 0 ? (V) values[index] : other;
+	}
+
+	public void put(long key, V value) {
+		requireNonNull(value, "Value must not be null");
+		if (key == FREE_KEY) {
+			freeKeyValue = value;
+			hasFreeKey = true;
+			return;
+		}
+		int index = OpenAddressing.mix(key) & mask;
+		for (long candidate; (candidate = keys[index]) != FREE_KEY; index = index + 1 & mask) {
+			if (candidate == key) {
+				values[index] = value;
+				return;
+			}
+		}
+		if (size == resizeThreshold) {
+			resize(OpenAddressing.doubledCapacity(keys.length));
+			index = freeIndexOf(key);
+		}
+		keys[index] = key;
+		values[index] = value;
+		size++;
+	}
+
+	/**
+	 * Maps the given key to the value if present, or otherwise removes the key.
+	 */
+	public void put(long key, Maybe<? extends V> value) {
+		if (requireNonNull(value, "Value must not be null").isPresent()) {
+			put(key, value.get());
+		} else {
+			remove(key);
+		}
+	}
+
+	/**
+	 * Removes the given key.
+	 *
+	 * @return {@code true} if the key was present
+	 */
+	public boolean remove(long key) {
+		if (key == FREE_KEY) {
+			boolean removed = hasFreeKey;
+			hasFreeKey = false;
+			freeKeyValue = null;
+			return removed;
+		}
+		int index = indexOf(key);
+		if (index < 0) {
+			return false;
+		}
+		shiftBack(index);
+		size--;
+		return true;
+	}
+
+	public void clear() {
+		Arrays.fill(keys, FREE_KEY);
+		Arrays.fill(values, null);
+		size = 0;
+		hasFreeKey = false;
+		freeKeyValue = null;
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder builder = new StringBuilder("LongToObjectMaybeMap [");
+		String separator = "";
+		if (hasFreeKey) {
+			builder.append(FREE_KEY).append('=').append(freeKeyValue);
+			separator = ", ";
+		}
+		for (int index = 0; index < keys.length; index++) {
+			if (keys[index] != FREE_KEY) {
+				builder.append(separator).append(keys[index]).append('=').append(values[index]);
+				separator = ", ";
+			}
+		}
+		return builder.append(']').toString();
+	}
+
+	private int indexOf(long key) {
+		long[] keys = this.keys;
+		for (int index = OpenAddressing.mix(key) & mask;; index = index + 1 & mask) {
+			long candidate = keys[index];
+			if (candidate == key) {
+				return index;
+			}
+			if (candidate == FREE_KEY) {
+				return -1;
+			}
+		}
+	}
+
+	private int freeIndexOf(long key) {
+		int index = OpenAddressing.mix(key) & mask;
+		while (keys[index] != FREE_KEY) {
+			index = index + 1 & mask;
+		}
+		return index;
+	}
+
+	private void shiftBack(int free) {
+		for (int index = free + 1 & mask;; index = index + 1 & mask) {
+			long key = keys[index];
+			if (key == FREE_KEY) {
+				keys[free] = FREE_KEY;
+				values[free] = null;
+				return;
+			}
+			if (OpenAddressing.canShiftBack(OpenAddressing.mix(key) & mask, free, index, mask)) {
+				keys[free] = key;
+				values[free] = values[index];
+				free = index;
+			}
+		}
+	}
+
+	private void allocate(int capacity) {
+		keys = new long[capacity];
+		values = new Object[capacity];
+		mask = capacity - 1;
+		resizeThreshold = OpenAddressing.resizeThreshold(capacity);
+	}
+
+	private void resize(int capacity) {
+		long[] oldKeys = keys;
+		Object[] oldValues = values;
+		allocate(capacity);
+		for (int oldIndex = 0; oldIndex < oldKeys.length; oldIndex++) {
+			long key = oldKeys[oldIndex];
+			if (key != FREE_KEY) {
+				int index = freeIndexOf(key);
+				keys[index] = key;
+				values[index] = oldValues[oldIndex];
+			}
+		}
+	}
+
+}
@@ -3,14 +3,21 @@ package net.xeona.maybe;
 import static java.util.Objects.requireNonNull;
 import static net.xeona.maybe.MaybeInt.justInt;
 
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Iterator;
+import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Spliterator;
 
+import net.xeona.function.BinaryFunction;
 import net.xeona.function.Consumer;
 import net.xeona.function.Function;
 import net.xeona.function.Provider;
@@ -38,6 +45,17 @@ public abstract class Maybe<E> implements Collection<E>, Serializable {
 
 	private Maybe() {}
 
+	/**
+	 * Serializes this instance as its compact {@link MaybeSerialForm}.
+	 */
+	Object writeReplace() {
+		return isPresent() ? new MaybeSerialForm(get()) : new MaybeSerialForm(MaybeSerialForm.REFERENCE);
+	}
+
+	private void readObject(ObjectInputStream in) throws InvalidObjectException {
+		throw new InvalidObjectException("Deserialization requires MaybeSerialForm");
+	}
+
 	public abstract boolean isPresent();
 
 	public abstract E get();
@@ -81,6 +99,24 @@ public abstract class Maybe<E> implements Collection<E>, Serializable {
 	public abstract <T, X extends Throwable> Maybe<T> map(Function<? super E, ? extends T, ? extends X> function)
 			throws X;
 
+	/**
+	 * Returns the result of the given function applied to the value, or an absent value of the function's result type
+	 * if this is absent.
+	 * <p />
+	 * Unlike mapping and then flattening, this creates no Maybe wrapping the function's result.
+	 */
+	public abstract <T, X extends Throwable> Maybe<T> flatMap(
+			Function<? super E, ? extends Maybe<? extends T>, ? extends X> function) throws X;
+
+	public abstract <X extends Throwable> MaybeInt flatMapToInt(
+			Function<? super E, ? extends MaybeInt, ? extends X> function) throws X;
+
+	public abstract <X extends Throwable> MaybeLong flatMapToLong(
+			Function<? super E, ? extends MaybeLong, ? extends X> function) throws X;
+
+	public abstract <X extends Throwable> MaybeDouble flatMapToDouble(
+			Function<? super E, ? extends MaybeDouble, ? extends X> function) throws X;
+
 	/**
 	 * @throws UnsupportedOperationException
 	 *             Instances of Maybe are immutable
@@ -111,19 +147,78 @@ public abstract class Maybe<E> implements Collection<E>, Serializable {
 		return Nothing.instance();
 	}
 
+	/**
+	 * Returns an empty pipeline over Maybe inputs, to which map and filter stages can be added and later run in one
+	 * pass on each input.
+	 */
+	public static <T> MaybePipeline<Maybe<T>, T> pipeline() {
+		return new MaybePipeline<>(PipelineStages.source(PipelineStages.REFERENCE));
+	}
+
+	/**
+	 * Sets whether {@code get()} on an absent value of any Maybe type, including the packed forms, throws a single
+	 * shared {@link NoSuchElementException} without a stack trace, rather than a new one with a full stack trace.
+	 * <p />
+	 * Shared exceptions are disabled by default, and are initially enabled if the system property
+	 * {@code net.xeona.maybe.Maybe.sharedAbsentValueException} is {@code true}. They make a missed presence check cheap
+	 * for code that catches the exception as control flow, at the cost of not reporting where the check was missed.
+	 */
+	public static void setSharedAbsentValueException(boolean shared) {
+		AbsentValueExceptions.setShared(shared);
+	}
+
+	public static boolean isSharedAbsentValueException() {
+		return AbsentValueExceptions.isShared();
+	}
+
 	public static <T> Maybe<T> reduce(Maybe<Maybe<T>> maybe) {
 		return maybe.orElseGet(Maybe::nothing);
 	}
 
+	/**
+	 * Returns the given function applied to the values of both Maybes, or {@link #nothing()} if either is absent or if
+	 * the function returns {@code null}.
+	 */
+	public static <A, B, R, X extends Throwable> Maybe<R> combine(Maybe<? extends A> first, Maybe<? extends B> second,
+			BinaryFunction<? super A, ? super B, ? extends R, ? extends X> function) throws X {
+		requireNonNull(first, "First Maybe must not be null");
+		requireNonNull(second, "Second Maybe must not be null");
+		requireNonNull(function, "Function must not be null");
+		return first.isPresent() && second.isPresent() ? maybe(function.apply(first.get(), second.get())) : nothing();
+	}
+
+	/**
+	 * Returns the given function applied to an unmodifiable list of the values of the given Maybes, in iteration order,
+	 * or {@link #nothing()} if any is absent or if the function returns {@code null}.
+	 * <p />
+	 * The list is only created once every Maybe is known to be present.
+	 */
+	public static <T, R, X extends Throwable> Maybe<R> combine(Collection<? extends Maybe<? extends T>> maybes,
+			Function<? super List<T>, ? extends R, ? extends X> function) throws X {
+		requireNonNull(maybes, "Collection of Maybes must not be null");
+		requireNonNull(function, "Function must not be null");
+		for (Maybe<? extends T> element : maybes) {
+			if (!requireNonNull(element, "Maybe must not be null").isPresent()) {
+				return nothing();
+			}
+		}
+		List<T> values = new ArrayList<>(maybes.size());
+		for (Maybe<? extends T> element : maybes) {
+			values.add(element.get());
+		}
+		return maybe(function.apply(Collections.unmodifiableList(values)));
+	}
+
 	public static <T> Maybe<T> fromOptional(Optional<T> optional) {
-		return optional.map(Maybe::just).orElseGet(Maybe::nothing);
+		return requireNonNull(optional, "Optional must not be null").isPresent() ? just(optional.get()) : nothing();
 	}
 
 	public static <T> Optional<T> toOptional(Maybe<T> maybe) {
-		return maybe.map(Optional::of).orElseGet(Optional::empty);
+		return requireNonNull(maybe, "Maybe must not be null").isPresent() ? Optional.of(maybe.get())
+				: Optional.empty();
 	}
 
-	private static class Just<E> extends Maybe<E> {
+	private static final class Just<E> extends Maybe<E> {
 
 		private static final long serialVersionUID = 1L;
 
@@ -224,6 +319,35 @@ public abstract class Maybe<E> implements Collection<E>, Serializable {
 			return maybe(requireNonNull(function, "Function must not be null").apply(value));
 		}
 
+		@Override
+		@SuppressWarnings("unchecked")
+		public <U, X extends Throwable> Maybe<U> flatMap(
+				Function<? super E, ? extends Maybe<? extends U>, ? extends X> function) throws X {
+			return (Maybe<U>) requireNonNull(requireNonNull(function, "Function must not be null").apply(value),
+					"Result of function must not be null");
+		}
+
+		@Override
+		public <X extends Throwable> MaybeInt flatMapToInt(
+				Function<? super E, ? extends MaybeInt, ? extends X> function) throws X {
+			return requireNonNull(requireNonNull(function, "Function must not be null").apply(value),
+					"Result of function must not be null");
+		}
+
+		@Override
+		public <X extends Throwable> MaybeLong flatMapToLong(
+				Function<? super E, ? extends MaybeLong, ? extends X> function) throws X {
+			return requireNonNull(requireNonNull(function, "Function must not be null").apply(value),
+					"Result of function must not be null");
+		}
+
+		@Override
+		public <X extends Throwable> MaybeDouble flatMapToDouble(
+				Function<? super E, ? extends MaybeDouble, ? extends X> function) throws X {
+			return requireNonNull(requireNonNull(function, "Function must not be null").apply(value),
+					"Result of function must not be null");
+		}
+
 		@Override
 		public boolean isEmpty() {
 			return false;
@@ -324,6 +448,11 @@ public abstract class Maybe<E> implements Collection<E>, Serializable {
 			};
 		}
 
+		@Override
+		public Spliterator<E> spliterator() {
+			return MaybeSpliterators.just(value);
+		}
+
 		@Override
 		public int hashCode() {
 			return Objects.hashCode(value);
@@ -341,7 +470,7 @@ public abstract class Maybe<E> implements Collection<E>, Serializable {
 
 	}
 
-	private static class Nothing<E> extends Maybe<E> {
+	private static final class Nothing<E> extends Maybe<E> {
 
 		private static final long serialVersionUID = 1L;
 
@@ -370,7 +499,7 @@ public abstract class Maybe<E> implements Collection<E>, Serializable {
 
 		@Override
 		public E get() {
-			throw new NoSuchElementException();
+			throw AbsentValueExceptions.noSuchElement();
 		}
 
 		@Override
@@ -453,6 +582,30 @@ public abstract class Maybe<E> implements Collection<E>, Serializable {
 			return nothing();
 		}
 
+		@Override
+		public <U, X extends Throwable> Maybe<U> flatMap(
+				Function<? super E, ? extends Maybe<? extends U>, ? extends X> function) throws X {
+			return Maybe.nothing();
+		}
+
+		@Override
+		public <X extends Throwable> MaybeInt flatMapToInt(
+				Function<? super E, ? extends MaybeInt, ? extends X> function) throws X {
+			return MaybeInt.noInt();
+		}
+
+		@Override
+		public <X extends Throwable> MaybeLong flatMapToLong(
+				Function<? super E, ? extends MaybeLong, ? extends X> function) throws X {
+			return MaybeLong.noLong();
+		}
+
+		@Override
+		public <X extends Throwable> MaybeDouble flatMapToDouble(
+				Function<? super E, ? extends MaybeDouble, ? extends X> function) throws X {
+			return MaybeDouble.nothing();
+		}
+
 		@Override
 		public boolean isEmpty() {
 			return true;
@@ -510,6 +663,11 @@ public abstract class Maybe<E> implements Collection<E>, Serializable {
 			return (Iterator<E>) ITERATOR;
 		}
 
+		@Override
+		public Spliterator<E> spliterator() {
+			return MaybeSpliterators.nothing();
+		}
+
 		@Override
 		public int hashCode() {
 			return 0;
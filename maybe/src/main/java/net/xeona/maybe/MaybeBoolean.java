@@ -10,11 +10,15 @@ import static net.xeona.maybe.MaybeInt.justInt;
 import static net.xeona.maybe.MaybeLong.justLong;
 import static net.xeona.maybe.MaybeShort.justShort;
 
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
 import java.io.Serializable;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.Spliterator;
 
 import net.xeona.function.BooleanConsumer;
 import net.xeona.function.BooleanFunction;
@@ -36,6 +40,18 @@ public abstract class MaybeBoolean implements Collection<Boolean>, Serializable
 
 	private MaybeBoolean() {}
 
+	/**
+	 * Serializes this instance as its compact {@link MaybeSerialForm}.
+	 */
+	Object writeReplace() {
+		return isPresent() ? new MaybeSerialForm(MaybeSerialForm.BOOLEAN, get() ? 1 : 0)
+				: new MaybeSerialForm(MaybeSerialForm.BOOLEAN);
+	}
+
+	private void readObject(ObjectInputStream in) throws InvalidObjectException {
+		throw new InvalidObjectException("Deserialization requires MaybeSerialForm");
+	}
+
 	public abstract boolean isPresent();
 
 	public abstract boolean get();
@@ -114,7 +130,17 @@ public abstract class MaybeBoolean implements Collection<Boolean>, Serializable
 		return NoBoolean.INSTANCE;
 	}
 
-	public static class JustBoolean extends MaybeBoolean {
+	public static MaybeBoolean fromOptional(Optional<Boolean> optional) {
+		return requireNonNull(optional, "Optional must not be null").isPresent() ? justBoolean(optional.get())
+				: noBoolean();
+	}
+
+	public static Optional<Boolean> toOptional(MaybeBoolean maybe) {
+		return requireNonNull(maybe, "Maybe must not be null").isPresent() ? Optional.of(maybe.get())
+				: Optional.empty();
+	}
+
+	public static final class JustBoolean extends MaybeBoolean {
 
 		private static final long serialVersionUID = 1L;
 
@@ -287,6 +313,11 @@ public abstract class MaybeBoolean implements Collection<Boolean>, Serializable
 			};
 		}
 
+		@Override
+		public Spliterator<Boolean> spliterator() {
+			return MaybeSpliterators.just(value);
+		}
+
 		@Override
 		public int hashCode() {
 			return Boolean.hashCode(value);
@@ -304,7 +335,7 @@ public abstract class MaybeBoolean implements Collection<Boolean>, Serializable
 
 	}
 
-	private static class NoBoolean extends MaybeBoolean {
+	private static final class NoBoolean extends MaybeBoolean {
 
 		private static final long serialVersionUID = 1L;
 
@@ -330,7 +361,7 @@ public abstract class MaybeBoolean implements Collection<Boolean>, Serializable
 
 		@Override
 		public boolean get() {
-			throw new NoSuchElementException();
+			throw AbsentValueExceptions.noSuchElement();
 		}
 
 		@Override
@@ -438,6 +469,11 @@ public abstract class MaybeBoolean implements Collection<Boolean>, Serializable
 			return ITERATOR;
 		}
 
+		@Override
+		public Spliterator<Boolean> spliterator() {
+			return MaybeSpliterators.nothing();
+		}
+
 		@Override
 		public Object[] toArray() {
 			return new Object[0];
@@ -3,6 +3,11 @@ package net.xeona.maybe;
 import static java.util.Objects.requireNonNull;
 import static net.xeona.maybe.MaybeBoolean.justBoolean;
 
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.Serializable;
+import java.util.OptionalInt;
+
 import net.xeona.function.ByteConsumer;
 import net.xeona.function.ByteFunction;
 import net.xeona.function.ByteProvider;
@@ -12,7 +17,23 @@ import net.xeona.function.ByteToIntFunction;
 import net.xeona.function.ByteUnaryOperator;
 import net.xeona.function.Provider;
 
-public abstract class MaybeByte {
+public abstract class MaybeByte implements Serializable {
+
+	private static final long serialVersionUID = 1L;
+
+	private MaybeByte() {}
+
+	/**
+	 * Serializes this instance as its compact {@link MaybeSerialForm}.
+	 */
+	Object writeReplace() {
+		return isPresent() ? new MaybeSerialForm(MaybeSerialForm.BYTE, get())
+				: new MaybeSerialForm(MaybeSerialForm.BYTE);
+	}
+
+	private void readObject(ObjectInputStream in) throws InvalidObjectException {
+		throw new InvalidObjectException("Deserialization requires MaybeSerialForm");
+	}
 
 	public abstract boolean isPresent();
 
@@ -27,7 +48,7 @@ public abstract class MaybeByte {
 
 	public abstract <X extends Throwable> void ifPresent(ByteConsumer<? extends X> consumer) throws X;
 
-	public abstract <X extends Throwable> MaybeByte filter(ByteToBooleanFunction<? extends X> predicate);
+	public abstract <X extends Throwable> MaybeByte filter(ByteToBooleanFunction<? extends X> predicate) throws X;
 
 	public abstract <X extends Throwable> MaybeBoolean mapToBoolean(ByteToBooleanFunction<? extends X> function)
 			throws X;
@@ -40,15 +61,58 @@ public abstract class MaybeByte {
 
 	public abstract <T, X extends Throwable> Maybe<T> map(ByteFunction<? extends T, ? extends X> function) throws X;
 
+	/**
+	 * Returns a {@link MaybeByte} containing the given value.
+	 * <p />
+	 * Every possible byte value has a single canonical instance, so this method never allocates.
+	 */
 	public static MaybeByte justByte(byte value) {
-		return new JustByte(value);
+		return JustByteCache.CACHE[value - Byte.MIN_VALUE];
+	}
+
+	/**
+	 * Parses the given sequence as a signed decimal byte, as {@link Byte#parseByte(String)} would.
+	 *
+	 * @return A {@link MaybeByte} containing the parsed value, or {@link #noByte()} if the sequence is malformed or out
+	 *         of range
+	 */
+	public static MaybeByte parseByte(CharSequence sequence) {
+		return parseByte(requireNonNull(sequence, "Sequence must not be null"), 0, sequence.length());
+	}
+
+	/**
+	 * Parses the given region of a sequence as a signed decimal byte, as {@link Byte#parseByte(String)} would,
+	 * without throwing on malformed input and without building an intermediate {@link String}.
+	 *
+	 * @return A {@link MaybeByte} containing the parsed value, or {@link #noByte()} if the region is malformed or out
+	 *         of range
+	 * @throws IndexOutOfBoundsException
+	 *             If the region does not lie within the sequence
+	 */
+	public static MaybeByte parseByte(CharSequence sequence, int offset, int length) {
+		NumberParsing.checkBounds(sequence, offset, length);
+		boolean negative = NumberParsing.isNegative(sequence, offset, length);
+		long negatedMagnitude = NumberParsing.negatedMagnitude(sequence, offset, length,
+				negative ? Byte.MIN_VALUE : -Byte.MAX_VALUE);
+		return negatedMagnitude != NumberParsing.INVALID_MAGNITUDE
+				? justByte((byte) (negative ? negatedMagnitude : -negatedMagnitude)) : noByte();
 	}
 
 	public static MaybeByte noByte() {
 		return NoByte.instance();
 	}
 
-	public static class JustByte extends MaybeByte {
+	/**
+	 * Returns an {@link OptionalInt} of the value widened to an int, or an empty one if absent.
+	 */
+	public static OptionalInt toOptionalInt(MaybeByte maybe) {
+		return requireNonNull(maybe, "Maybe must not be null").isPresent() ? OptionalInt.of(maybe.get())
+				: OptionalInt.empty();
+	}
+
+	public static final class JustByte extends MaybeByte {
+
+		private static final long serialVersionUID = 1L;
 
 		private final byte value;
 
@@ -84,14 +148,12 @@ public abstract class MaybeByte {
 
 		@Override
 		public <X extends Throwable> void ifPresent(ByteConsumer<? extends X> consumer) throws X {
-			// TODO Auto-generated method stub
-
+			requireNonNull(consumer, "Consumer must not be null").consume(value);
 		}
 
 		@Override
-		public <X extends Throwable> MaybeByte filter(ByteToBooleanFunction<? extends X> predicate) {
-			// TODO Auto-generated method stub
-			return null;
+		public <X extends Throwable> MaybeByte filter(ByteToBooleanFunction<? extends X> predicate) throws X {
+			return requireNonNull(predicate, "Predicate must not be null").apply(value) ? this : noByte();
 		}
 
 		@Override
@@ -101,26 +163,22 @@ public abstract class MaybeByte {
 
 		@Override
 		public <X extends Throwable> MaybeChar mapToChar(ByteToCharFunction<? extends X> function) throws X {
-			// TODO Auto-generated method stub
-			return null;
+			return MaybeChar.justChar(requireNonNull(function, "Function must not be null").apply(value));
 		}
 
 		@Override
 		public <X extends Throwable> MaybeByte mapToByte(ByteUnaryOperator<? extends X> function) throws X {
-			// TODO Auto-generated method stub
-			return null;
+			return justByte(requireNonNull(function, "Function must not be null").apply(value));
 		}
 
 		@Override
 		public <X extends Throwable> MaybeInt mapToInt(ByteToIntFunction<? extends X> function) throws X {
-			// TODO Auto-generated method stub
-			return null;
+			return MaybeInt.justInt(requireNonNull(function, "Function must not be null").apply(value));
 		}
 
 		@Override
 		public <T, X extends Throwable> Maybe<T> map(ByteFunction<? extends T, ? extends X> function) throws X {
-			// TODO Auto-generated method stub
-			return null;
+			return Maybe.maybe(requireNonNull(function, "Function must not be null").apply(value));
 		}
 
 		@Override
@@ -130,86 +188,90 @@ public abstract class MaybeByte {
 
 		@Override
 		public boolean equals(Object other) {
-			return other instanceof JustByte && ((JustByte) other).value == value;
+			return other == this || other instanceof JustByte && ((JustByte) other).value == value;
 		}
 
 	}
 
-	public static class NoByte extends MaybeByte {
+	private static final class JustByteCache {
+
+		private static final JustByte[] CACHE = new JustByte[1 << Byte.SIZE];
+
+		static {
+			for (int index = 0; index < CACHE.length; index++) {
+				CACHE[index] = new JustByte((byte) (Byte.MIN_VALUE + index));
+			}
+		}
+
+		private JustByteCache() {}
+
+	}
+
+	public static final class NoByte extends MaybeByte {
+
+		private static final long serialVersionUID = 1L;
 
 		private static final NoByte INSTANCE = new NoByte();
 
+		private NoByte() {}
+
 		@Override
 		public boolean isPresent() {
-			// TODO Auto-generated method stub
 			return false;
 		}
 
 		@Override
 		public byte get() {
-			// TODO Auto-generated method stub
-			return 0;
+			throw AbsentValueExceptions.noSuchElement();
 		}
 
 		@Override
 		public byte orElse(byte other) {
-			// TODO Auto-generated method stub
-			return 0;
+			return other;
 		}
 
 		@Override
 		public <X extends Throwable> byte orElseGet(ByteProvider<? extends X> provider) throws X {
-			// TODO Auto-generated method stub
-			return 0;
+			return requireNonNull(provider, "Provider must not be null").get();
 		}
 
 		@Override
 		public <X extends Throwable, Y extends Throwable> byte orElseThrow(Provider<? extends X, ? extends Y> provider)
 				throws X, Y {
-			// TODO Auto-generated method stub
-			return 0;
+			throw requireNonNull(provider, "Provider must not be null").get();
 		}
 
 		@Override
-		public <X extends Throwable> void ifPresent(ByteConsumer<? extends X> consumer) throws X {
-			// TODO Auto-generated method stub
-
-		}
+		public <X extends Throwable> void ifPresent(ByteConsumer<? extends X> consumer) throws X {}
 
 		@Override
-		public <X extends Throwable> MaybeByte filter(ByteToBooleanFunction<? extends X> predicate) {
-			// TODO Auto-generated method stub
-			return null;
+		public <X extends Throwable> MaybeByte filter(ByteToBooleanFunction<? extends X> predicate) throws X {
+			return this;
 		}
 
 		@Override
 		public <X extends Throwable> MaybeBoolean mapToBoolean(ByteToBooleanFunction<? extends X> function) throws X {
-			// TODO Auto-generated method stub
-			return null;
+			return MaybeBoolean.noBoolean();
 		}
 
 		@Override
 		public <X extends Throwable> MaybeChar mapToChar(ByteToCharFunction<? extends X> function) throws X {
-			// TODO Auto-generated method stub
-			return null;
+			return MaybeChar.nothing();
 		}
 
 		@Override
 		public <X extends Throwable> MaybeByte mapToByte(ByteUnaryOperator<? extends X> function) throws X {
-			// TODO Auto-generated method stub
-			return null;
+			return noByte();
 		}
 
 		@Override
 		public <X extends Throwable> MaybeInt mapToInt(ByteToIntFunction<? extends X> function) throws X {
-			// TODO Auto-generated method stub
-			return null;
+			return MaybeInt.noInt();
 		}
 
 		@Override
 		public <T, X extends Throwable> Maybe<T> map(ByteFunction<? extends T, ? extends X> function) throws X {
-			// TODO Auto-generated method stub
-			return null;
+			return Maybe.nothing();
 		}
 
 		@Override
@@ -1,7 +1,11 @@
 package net.xeona.maybe;
 
+import static java.util.Objects.requireNonNull;
+
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
 import java.io.Serializable;
-import java.util.NoSuchElementException;
+import java.util.OptionalInt;
 
 import net.xeona.function.CharConsumer;
 import net.xeona.function.CharFunction;
@@ -20,6 +24,20 @@ public abstract class MaybeChar implements Serializable {
 
 	private static final long serialVersionUID = 1L;
 
+	private MaybeChar() {}
+
+	/**
+	 * Serializes this instance as its compact {@link MaybeSerialForm}.
+	 */
+	Object writeReplace() {
+		return isPresent() ? new MaybeSerialForm(MaybeSerialForm.CHAR, get())
+				: new MaybeSerialForm(MaybeSerialForm.CHAR);
+	}
+
+	private void readObject(ObjectInputStream in) throws InvalidObjectException {
+		throw new InvalidObjectException("Deserialization requires MaybeSerialForm");
+	}
+
 	public abstract boolean isPresent();
 
 	public abstract char get();
@@ -53,15 +71,29 @@ public abstract class MaybeChar implements Serializable {
 
 	public abstract <T, X extends Throwable> Maybe<T> map(CharFunction<? extends T, ? extends X> function) throws X;
 
+	/**
+	 * Returns a {@link MaybeChar} containing the given value.
+	 * <p />
+	 * Values in the Latin-1 range (0 to 255) are served from a table of canonical instances. Values outside of that
+	 * range are freshly allocated.
+	 */
 	public static MaybeChar justChar(char value) {
-		return new Just(value);
+		return value < JustCache.CACHE.length ? JustCache.CACHE[value] : new Just(value);
 	}
 
 	public static MaybeChar nothing() {
 		return Nothing.instance();
 	}
 
-	private static class Just extends MaybeChar {
+	/**
+	 * Returns an {@link OptionalInt} of the value widened to an int, or an empty one if absent.
+	 */
+	public static OptionalInt toOptionalInt(MaybeChar maybe) {
+		return requireNonNull(maybe, "Maybe must not be null").isPresent() ? OptionalInt.of(maybe.get())
+				: OptionalInt.empty();
+	}
+
+	private static final class Just extends MaybeChar {
 
 		private static final long serialVersionUID = 1L;
 
@@ -158,12 +190,26 @@ public abstract class MaybeChar implements Serializable {
 
 		@Override
 		public boolean equals(Object other) {
-			return other instanceof Just && value == ((Just) other).value;
+			return other == this || other instanceof Just && value == ((Just) other).value;
 		}
 
 	}
 
-	private static class Nothing extends MaybeChar {
+	private static final class JustCache {
+
+		private static final Just[] CACHE = new Just[1 << Byte.SIZE];
+
+		static {
+			for (int index = 0; index < CACHE.length; index++) {
+				CACHE[index] = new Just((char) index);
+			}
+		}
+
+		private JustCache() {}
+
+	}
+
+	private static final class Nothing extends MaybeChar {
 
 		private static final long serialVersionUID = 1L;
 
@@ -176,7 +222,7 @@ public abstract class MaybeChar implements Serializable {
 
 		@Override
 		public char get() {
-			throw new NoSuchElementException();
+			throw AbsentValueExceptions.noSuchElement();
 		}
 
 		@Override
@@ -0,0 +1,208 @@
+package net.xeona.maybe;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collector;
+import java.util.stream.Collector.Characteristics;
+
+import net.xeona.function.Function;
+
+/**
+ * {@link Collector} implementations for streams of Maybe values.
+ * <p />
+ * All of them are safe to use on parallel streams. A collector cannot stop its stream early, but
+ * {@link #firstPresent()}, {@link #sequence()} and {@link #traverse(Function)} stop inspecting elements once their
+ * result is decided. The primitive collectors accumulate into primitive state, without boxing any element.
+ */
+public final class MaybeCollectors {
+
+	private MaybeCollectors() {}
+
+	/**
+	 * Returns a collector to the first present value in encounter order, or {@link Maybe#nothing()} if no element is
+	 * present.
+	 */
+	public static <T> Collector<Maybe<? extends T>, ?, Maybe<T>> firstPresent() {
+		return Collector.of(FirstPresent<T>::new, FirstPresent::accumulate, FirstPresent::combine,
+				FirstPresent::finish);
+	}
+
+	/**
+	 * Returns a collector to a list of every value, in encounter order, if every element is present, or to
+	 * {@link Maybe#nothing()} if any element is absent.
+	 */
+	public static <T> Collector<Maybe<? extends T>, ?, Maybe<List<T>>> sequence() {
+		return Collector.of(AllPresent<T>::new, AllPresent::accumulate, AllPresent::combine, AllPresent::finish);
+	}
+
+	/**
+	 * Returns a collector that applies the given function to each element and collects the results as
+	 * {@link #sequence()} does, without applying the function to any element after the first absent result.
+	 */
+	public static <T, R> Collector<T, ?, Maybe<List<R>>> traverse(
+			Function<? super T, ? extends Maybe<? extends R>, ? extends RuntimeException> function) {
+		requireNonNull(function, "Function must not be null");
+		return Collector.<T, AllPresent<R>, Maybe<List<R>>> of(AllPresent<R>::new, (state, element) -> {
+			if (!state.isAbsent()) {
+				state.accumulate(function.apply(element));
+			}
+		}, AllPresent::combine, AllPresent::finish);
+	}
+
+	/**
+	 * Returns a collector to the sum of the present values, wrapping on overflow, or {@link MaybeInt#noInt()} if no
+	 * element is present.
+	 */
+	public static Collector<MaybeInt, ?, MaybeInt> summingMaybeInt() {
+		return Collector.of(IntSum::new, IntSum::accumulate, IntSum::combine, IntSum::finish,
+				Characteristics.UNORDERED);
+	}
+
+	/**
+	 * Returns a collector to the greatest present value, or {@link MaybeLong#noLong()} if no element is present.
+	 */
+	public static Collector<MaybeLong, ?, MaybeLong> maxMaybeLong() {
+		return Collector.of(LongMax::new, LongMax::accumulate, LongMax::combine, LongMax::finish,
+				Characteristics.UNORDERED);
+	}
+
+	/**
+	 * Returns a collector to the arithmetic mean of the present values, or {@link MaybeDouble#nothing()} if no element
+	 * is present.
+	 */
+	public static Collector<MaybeDouble, ?, MaybeDouble> averagingMaybeDouble() {
+		return Collector.of(DoubleAverage::new, DoubleAverage::accumulate, DoubleAverage::combine,
+				DoubleAverage::finish, Characteristics.UNORDERED);
+	}
+
+	private static final class FirstPresent<T> {
+
+		private Maybe<? extends T> first = Maybe.nothing();
+
+		private void accumulate(Maybe<? extends T> element) {
+			if (!first.isPresent()) {
+				first = requireNonNull(element, "Element must not be null");
+			}
+		}
+
+		private FirstPresent<T> combine(FirstPresent<T> later) {
+			return first.isPresent() ? this : later;
+		}
+
+		@SuppressWarnings("unchecked")
+		private Maybe<T> finish() {
+			return (Maybe<T>) first;
+		}
+
+	}
+
+	private static final class AllPresent<T> {
+
+		private List<T> values = new ArrayList<>();
+
+		private boolean isAbsent() {
+			return values == null;
+		}
+
+		private void accumulate(Maybe<? extends T> element) {
+			if (values != null) {
+				if (requireNonNull(element, "Element must not be null").isPresent()) {
+					values.add(element.get());
+				} else {
+					values = null;
+				}
+			}
+		}
+
+		private AllPresent<T> combine(AllPresent<T> later) {
+			if (values != null) {
+				if (later.values != null) {
+					values.addAll(later.values);
+				} else {
+					values = null;
+				}
+			}
+			return this;
+		}
+
+		private Maybe<List<T>> finish() {
+			return values != null ? Maybe.just(values) : Maybe.nothing();
+		}
+
+	}
+
+	private static final class IntSum {
+
+		private int sum;
+		private boolean present;
+
+		private void accumulate(MaybeInt element) {
+			if (element.isPresent()) {
+				sum += element.get();
+				present = true;
+			}
+		}
+
+		private IntSum combine(IntSum other) {
+			sum += other.sum;
+			present |= other.present;
+			return this;
+		}
+
+		private MaybeInt finish() {
+			return present ? MaybeInt.justInt(sum) : MaybeInt.noInt();
+		}
+
+	}
+
+	private static final class LongMax {
+
+		private long max = Long.MIN_VALUE;
+		private boolean present;
+
+		private void accumulate(MaybeLong element) {
+			if (element.isPresent()) {
+				max = Math.max(max, element.get());
+				present = true;
+			}
+		}
+
+		private LongMax combine(LongMax other) {
+			max = Math.max(max, other.max);
+			present |= other.present;
+			return this;
+		}
+
+		private MaybeLong finish() {
+			return present ? MaybeLong.justLong(max) : MaybeLong.noLong();
+		}
+
+	}
+
+	private static final class DoubleAverage {
+
+		private double sum;
+		private long count;
+
+		private void accumulate(MaybeDouble element) {
+			if (element.isPresent()) {
+				sum += element.get();
+				count++;
+			}
+		}
+
+		private DoubleAverage combine(DoubleAverage other) {
+			sum += other.sum;
+			count += other.count;
+			return this;
+		}
+
+		private MaybeDouble finish() {
+			return count > 0 ? MaybeDouble.justDouble(sum / count) : MaybeDouble.nothing();
+		}
+
+	}
+
+}
@@ -1,8 +1,15 @@
 package net.xeona.maybe;
 
+import static java.util.Objects.requireNonNull;
+
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
 import java.io.Serializable;
-import java.util.NoSuchElementException;
+import java.nio.ByteBuffer;
 import java.util.OptionalDouble;
+import java.util.function.DoubleBinaryOperator;
+import java.util.stream.DoubleStream;
+import java.util.stream.StreamSupport;
 
 import net.xeona.function.DoubleConsumer;
 import net.xeona.function.DoubleFunction;
@@ -23,6 +30,18 @@ public abstract class MaybeDouble implements Serializable {
 
 	private MaybeDouble() {}
 
+	/**
+	 * Serializes this instance as its compact {@link MaybeSerialForm}.
+	 */
+	Object writeReplace() {
+		return isPresent() ? new MaybeSerialForm(MaybeSerialForm.DOUBLE, Double.doubleToRawLongBits(get()))
+				: new MaybeSerialForm(MaybeSerialForm.DOUBLE);
+	}
+
+	private void readObject(ObjectInputStream in) throws InvalidObjectException {
+		throw new InvalidObjectException("Deserialization requires MaybeSerialForm");
+	}
+
 	public abstract boolean isPresent();
 
 	public abstract double get();
@@ -57,6 +76,46 @@ public abstract class MaybeDouble implements Serializable {
 
 	public abstract <R, X extends Throwable> Maybe<R> map(DoubleFunction<? extends R, ? extends X> function) throws X;
 
+	/**
+	 * Returns the result of the given function applied to the value, or an absent value of the function's result type
+	 * if this is absent.
+	 * <p />
+	 * Unlike mapping and then flattening, this creates no Maybe wrapping the function's result.
+	 */
+	public abstract <R, X extends Throwable> Maybe<R> flatMap(
+			DoubleFunction<? extends Maybe<? extends R>, ? extends X> function) throws X;
+
+	public abstract <X extends Throwable> MaybeInt flatMapToInt(
+			DoubleFunction<? extends MaybeInt, ? extends X> function) throws X;
+
+	public abstract <X extends Throwable> MaybeLong flatMapToLong(
+			DoubleFunction<? extends MaybeLong, ? extends X> function) throws X;
+
+	public abstract <X extends Throwable> MaybeDouble flatMapToDouble(
+			DoubleFunction<? extends MaybeDouble, ? extends X> function) throws X;
+
+	/**
+	 * Returns the given function applied to this value and the other value, or {@link #nothing()} if either is
+	 * absent.
+	 */
+	public final MaybeDouble zipWith(MaybeDouble other, DoubleBinaryOperator function) {
+		requireNonNull(other, "Other must not be null");
+		requireNonNull(function, "Function must not be null");
+		return isPresent() && other.isPresent() ? justDouble(function.applyAsDouble(get(), other.get())) : nothing();
+	}
+
+	/**
+	 * Returns the given function applied to this value and the other value, widened to a double, or
+	 * {@link #nothing()} if either is absent.
+	 */
+	public final MaybeDouble zipWith(MaybeInt other, DoubleBinaryOperator function) {
+		requireNonNull(other, "Other must not be null");
+		requireNonNull(function, "Function must not be null");
+		return isPresent() && other.isPresent() ? justDouble(function.applyAsDouble(get(), other.get())) : nothing();
+	}
+
+	public abstract DoubleStream doubleStream();
+
 	public static MaybeDouble justDouble(double value) {
 		return new Just(value);
 	}
@@ -65,15 +124,103 @@ public abstract class MaybeDouble implements Serializable {
 		return Nothing.instance();
 	}
 
+	/**
+	 * Returns an empty pipeline over MaybeDouble inputs, to which map and filter stages can be added and later run in
+	 * one pass on each input.
+	 */
+	public static MaybeDoublePipeline<MaybeDouble> pipeline() {
+		return new MaybeDoublePipeline<>(PipelineStages.source(PipelineStages.DOUBLE));
+	}
+
+	/**
+	 * Parses the given sequence as a decimal double.
+	 *
+	 * @return A {@link MaybeDouble} containing the parsed value, or {@link #nothing()} if the sequence is malformed
+	 * @see #parseDouble(CharSequence, int, int)
+	 */
+	public static MaybeDouble parseDouble(CharSequence sequence) {
+		return parseDouble(requireNonNull(sequence, "Sequence must not be null"), 0, sequence.length());
+	}
+
+	/**
+	 * Parses the given region of a sequence as a decimal double, without throwing on malformed input.
+	 * <p />
+	 * Accepts an optional sign followed by {@code NaN}, {@code Infinity}, or digits with an optional fraction and
+	 * exponent. The surrounding whitespace, type suffixes and hexadecimal forms accepted by
+	 * {@link Double#parseDouble(String)} are rejected. Values with up to 15 significant digits and a small exponent are
+	 * computed without building an intermediate {@link String}.
+	 *
+	 * @return A {@link MaybeDouble} containing the parsed value, or {@link #nothing()} if the region is malformed
+	 * @throws IndexOutOfBoundsException
+	 *             If the region does not lie within the sequence
+	 */
+	public static MaybeDouble parseDouble(CharSequence sequence, int offset, int length) {
+		NumberParsing.checkBounds(sequence, offset, length);
+		double value = NumberParsing.parseDecimal(sequence, offset, length, false);
+		return NumberParsing.isValidDecimal(value) ? justDouble(value) : nothing();
+	}
+
+	/**
+	 * Parses the given region of a byte array as an ASCII decimal double, without throwing on malformed input.
+	 * <p />
+	 * Accepts the same forms as {@link #parseDouble(CharSequence, int, int)}.
+	 *
+	 * @return A {@link MaybeDouble} containing the parsed value, or {@link #nothing()} if the region is malformed
+	 * @throws IndexOutOfBoundsException
+	 *             If the region does not lie within the array
+	 */
+	public static MaybeDouble parseDouble(byte[] bytes, int offset, int length) {
+		NumberParsing.checkBounds(bytes, offset, length);
+		double value = NumberParsing.parseDecimal(bytes, offset, length, false);
+		return NumberParsing.isValidDecimal(value) ? justDouble(value) : nothing();
+	}
+
+	/**
+	 * Parses the given region of a buffer as an ASCII decimal double, without throwing on malformed input.
+	 * <p />
+	 * Accepts the same forms as {@link #parseDouble(CharSequence, int, int)}.
+	 * <p />
+	 * Heap and direct buffers are both read in place with absolute gets, and the position of the buffer is unchanged.
+	 *
+	 * @return A {@link MaybeDouble} containing the parsed value, or {@link #nothing()} if the region is malformed
+	 * @throws IndexOutOfBoundsException
+	 *             If the region does not lie within the limit of the buffer
+	 */
+	public static MaybeDouble parseDouble(ByteBuffer buffer, int index, int length) {
+		NumberParsing.checkBounds(buffer, index, length);
+		double value = NumberParsing.parseDecimal(buffer, index, length, false);
+		return NumberParsing.isValidDecimal(value) ? justDouble(value) : nothing();
+	}
+
+	/**
+	 * Reads a fixed width ASCII decimal double field from the position of the given buffer, as
+	 * {@link #parseDouble(ByteBuffer, int, int)} would, and then advances the position past the field.
+	 * <p />
+	 * The position is advanced whether or not the field is well formed, so that a whole record can be decoded field by
+	 * field with the buffer itself as the cursor.
+	 *
+	 * @return A {@link MaybeDouble} containing the parsed value, or {@link #nothing()} if the field is malformed
+	 * @throws IndexOutOfBoundsException
+	 *             If fewer than {@code length} bytes remain in the buffer
+	 */
+	public static MaybeDouble readDouble(ByteBuffer buffer, int length) {
+		int index = requireNonNull(buffer, "Buffer must not be null").position();
+		MaybeDouble value = parseDouble(buffer, index, length);
+		buffer.position(index + length);
+		return value;
+	}
+
 	public static MaybeDouble fromOptionalDouble(OptionalDouble optionalDouble) {
-		return optionalDouble.isPresent() ? justDouble(optionalDouble.getAsDouble()) : nothing();
+		return requireNonNull(optionalDouble, "Optional must not be null").isPresent()
+				? justDouble(optionalDouble.getAsDouble()) : nothing();
 	}
 
 	public static OptionalDouble toOptionalDouble(MaybeDouble maybeDouble) {
-		return maybeDouble.map(OptionalDouble::of).orElseGet(OptionalDouble::empty);
+		return requireNonNull(maybeDouble, "Maybe must not be null").isPresent() ? OptionalDouble.of(maybeDouble.get())
+				: OptionalDouble.empty();
 	}
 
-	private static class Just extends MaybeDouble {
+	private static final class Just extends MaybeDouble {
 
 		private static final long serialVersionUID = 1L;
 
@@ -164,6 +311,40 @@ public abstract class MaybeDouble implements Serializable {
 			return Maybe.maybe(function.apply(value));
 		}
 
+		@Override
+		@SuppressWarnings("unchecked")
+		public <R, X extends Throwable> Maybe<R> flatMap(
+				DoubleFunction<? extends Maybe<? extends R>, ? extends X> function) throws X {
+			return (Maybe<R>) requireNonNull(requireNonNull(function, "Function must not be null").apply(value),
+					"Result of function must not be null");
+		}
+
+		@Override
+		public <X extends Throwable> MaybeInt flatMapToInt(
+				DoubleFunction<? extends MaybeInt, ? extends X> function) throws X {
+			return requireNonNull(requireNonNull(function, "Function must not be null").apply(value),
+					"Result of function must not be null");
+		}
+
+		@Override
+		public <X extends Throwable> MaybeLong flatMapToLong(
+				DoubleFunction<? extends MaybeLong, ? extends X> function) throws X {
+			return requireNonNull(requireNonNull(function, "Function must not be null").apply(value),
+					"Result of function must not be null");
+		}
+
+		@Override
+		public <X extends Throwable> MaybeDouble flatMapToDouble(
+				DoubleFunction<? extends MaybeDouble, ? extends X> function) throws X {
+			return requireNonNull(requireNonNull(function, "Function must not be null").apply(value),
+					"Result of function must not be null");
+		}
+
+		@Override
+		public DoubleStream doubleStream() {
+			return StreamSupport.doubleStream(MaybeSpliterators.justDouble(value), false);
+		}
+
 		@Override
 		public int hashCode() {
 			return Double.hashCode(value);
@@ -175,7 +356,7 @@ public abstract class MaybeDouble implements Serializable {
 
 	}
 
-	private static class Nothing extends MaybeDouble {
+	private static final class Nothing extends MaybeDouble {
 
 		private static final long serialVersionUID = 1L;
 
@@ -190,7 +371,7 @@ public abstract class MaybeDouble implements Serializable {
 
 		@Override
 		public double get() {
-			throw new NoSuchElementException();
+			throw AbsentValueExceptions.noSuchElement();
 		}
 
 		@Override
@@ -262,6 +443,35 @@ public abstract class MaybeDouble implements Serializable {
 			return Maybe.nothing();
 		}
 
+		@Override
+		public <R, X extends Throwable> Maybe<R> flatMap(
+				DoubleFunction<? extends Maybe<? extends R>, ? extends X> function) throws X {
+			return Maybe.nothing();
+		}
+
+		@Override
+		public <X extends Throwable> MaybeInt flatMapToInt(
+				DoubleFunction<? extends MaybeInt, ? extends X> function) throws X {
+			return MaybeInt.noInt();
+		}
+
+		@Override
+		public <X extends Throwable> MaybeLong flatMapToLong(
+				DoubleFunction<? extends MaybeLong, ? extends X> function) throws X {
+			return MaybeLong.noLong();
+		}
+
+		@Override
+		public <X extends Throwable> MaybeDouble flatMapToDouble(
+				DoubleFunction<? extends MaybeDouble, ? extends X> function) throws X {
+			return MaybeDouble.nothing();
+		}
+
+		@Override
+		public DoubleStream doubleStream() {
+			return DoubleStream.empty();
+		}
+
 		@Override
 		public int hashCode() {
 			return 0;
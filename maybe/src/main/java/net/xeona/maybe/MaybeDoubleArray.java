@@ -0,0 +1,255 @@
+package net.xeona.maybe;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+
+import net.xeona.function.DoubleConsumer;
+import net.xeona.function.DoubleToBooleanFunction;
+
+/**
+ * A fixed length array of optional doubles, held as a {@code double[]} of values and a bitmap of which elements are
+ * present, rather than as a {@code MaybeDouble[]} with an object per element.
+ * <p />
+ * Every element starts out absent. The value of an absent element is not observable, so clearing an element does not
+ * touch the value array.
+ */
+public final class MaybeDoubleArray {
+
+	private final double[] values;
+
+	private final long[] presence;
+
+	public MaybeDoubleArray(int length) {
+		if (length < 0) {
+			throw new IllegalArgumentException("Length must not be negative: " + length);
+		}
+		values = new double[length];
+		presence = PresenceBits.forLength(length);
+	}
+
+	public int length() {
+		return values.length;
+	}
+
+	public boolean isPresent(int index) {
+		PresenceBits.checkIndex(index, values.length);
+		return PresenceBits.isSet(presence, index);
+	}
+
+	public MaybeDouble get(int index) {
+		return isPresent(index) ? MaybeDouble.justDouble(values[index]) : MaybeDouble.nothing();
+	}
+
+	public double getOrElse(int index, double other) {
+		return isPresent(index) ? values[index] : other;
+	}
+
+	public void set(int index, double value) {
+		PresenceBits.checkIndex(index, values.length);
+		values[index] = value;
+		PresenceBits.set(presence, index);
+	}
+
+	public void set(int index, MaybeDouble value) {
+		if (requireNonNull(value, "Value must not be null").isPresent()) {
+			set(index, value.get());
+		} else {
+			clear(index);
+		}
+	}
+
+	public void clear(int index) {
+		PresenceBits.checkIndex(index, values.length);
+		PresenceBits.clear(presence, index);
+	}
+
+	public void clear() {
+		Arrays.fill(presence, 0);
+	}
+
+	public void fill(double value) {
+		fill(0, values.length, value);
+	}
+
+	public void fill(int fromIndex, int toIndex, double value) {
+		PresenceBits.checkRange(fromIndex, toIndex, values.length);
+		Arrays.fill(values, fromIndex, toIndex, value);
+		PresenceBits.set(presence, fromIndex, toIndex);
+	}
+
+	public void clear(int fromIndex, int toIndex) {
+		PresenceBits.checkRange(fromIndex, toIndex, values.length);
+		PresenceBits.clear(presence, fromIndex, toIndex);
+	}
+
+	/**
+	 * Passes each present value to the given consumer in index order, skipping absent elements a whole word of 64 at a
+	 * time.
+	 */
+	public <X extends Throwable> void forEachPresent(DoubleConsumer<? extends X> consumer) throws X {
+		requireNonNull(consumer, "Consumer must not be null");
+		for (int word = 0; word < presence.length; word++) {
+			for (long bits = presence[word]; bits != 0; bits &= bits - 1) {
+				consumer.consume(values[PresenceBits.indexOf(word, bits)]);
+			}
+		}
+	}
+
+	/**
+	 * Returns the sum of the present values, added in index order, or {@link MaybeDouble#nothing()} if no element is
+	 * present.
+	 */
+	public MaybeDouble sum() {
+		return presentCount() > 0 ? MaybeDouble.justDouble(presentSum()) : MaybeDouble.nothing();
+	}
+
+	/**
+	 * Returns the least present value as ordered by {@link Math#min(double, double)}, so any present NaN
+	 * gives NaN, or {@link MaybeDouble#nothing()} if no element is present.
+	 */
+	public MaybeDouble min() {
+		if (presentCount() == 0) {
+			return MaybeDouble.nothing();
+		}
+		double min = Double.POSITIVE_INFINITY;
+		for (int word = 0; word < presence.length; word++) {
+			long bits = presence[word];
+			if (PresenceBits.isFull(bits)) {
+				for (int index = PresenceBits.wordStart(word), end = index + Long.SIZE; index < end; index++) {
+					min = Math.min(min, values[index]);
+				}
+			} else {
+				for (; bits != 0; bits &= bits - 1) {
+					min = Math.min(min, values[PresenceBits.indexOf(word, bits)]);
+				}
+			}
+		}
+		return MaybeDouble.justDouble(min);
+	}
+
+	/**
+	 * Returns the greatest present value as ordered by {@link Math#max(double, double)}, so any present
+	 * NaN gives NaN, or {@link MaybeDouble#nothing()} if no element is present.
+	 */
+	public MaybeDouble max() {
+		if (presentCount() == 0) {
+			return MaybeDouble.nothing();
+		}
+		double max = Double.NEGATIVE_INFINITY;
+		for (int word = 0; word < presence.length; word++) {
+			long bits = presence[word];
+			if (PresenceBits.isFull(bits)) {
+				for (int index = PresenceBits.wordStart(word), end = index + Long.SIZE; index < end; index++) {
+					max = Math.max(max, values[index]);
+				}
+			} else {
+				for (; bits != 0; bits &= bits - 1) {
+					max = Math.max(max, values[PresenceBits.indexOf(word, bits)]);
+				}
+			}
+		}
+		return MaybeDouble.justDouble(max);
+	}
+
+	/**
+	 * Returns the arithmetic mean of the present values, or {@link MaybeDouble#nothing()} if no element is present.
+	 */
+	public MaybeDouble average() {
+		int presentCount = presentCount();
+		return presentCount > 0 ? MaybeDouble.justDouble(presentSum() / presentCount) : MaybeDouble.nothing();
+	}
+
+	/**
+	 * Returns the number of present values that match the given predicate.
+	 */
+	public <X extends Throwable> int count(DoubleToBooleanFunction<? extends X> predicate) throws X {
+		requireNonNull(predicate, "Predicate must not be null");
+		int count = 0;
+		for (int word = 0; word < presence.length; word++) {
+			long bits = presence[word];
+			if (PresenceBits.isFull(bits)) {
+				for (int index = PresenceBits.wordStart(word), end = index + Long.SIZE; index < end; index++) {
+					if (predicate.apply(values[index])) {
+						count++;
+					}
+				}
+			} else {
+				for (; bits != 0; bits &= bits - 1) {
+					if (predicate.apply(values[PresenceBits.indexOf(word, bits)])) {
+						count++;
+					}
+				}
+			}
+		}
+		return count;
+	}
+
+	public int presentCount() {
+		return PresenceBits.count(presence);
+	}
+
+	private double presentSum() {
+		double sum = 0.0;
+		for (int word = 0; word < presence.length; word++) {
+			long bits = presence[word];
+			if (PresenceBits.isFull(bits)) {
+				for (int index = PresenceBits.wordStart(word), end = index + Long.SIZE; index < end; index++) {
+					sum += values[index];
+				}
+			} else {
+				for (; bits != 0; bits &= bits - 1) {
+					sum += values[PresenceBits.indexOf(word, bits)];
+				}
+			}
+		}
+		return sum;
+	}
+
+	@Override
+	public int hashCode() {
+		int hashCode = 1;
+		for (int index = 0; index < values.length; index++) {
+			hashCode = 31 * hashCode + (PresenceBits.isSet(presence, index) ? Double.hashCode(values[index]) : 0);
+		}
+		return hashCode;
+	}
+
+	@Override
+	public boolean equals(Object other) {
+		if (other == this) {
+			return true;
+		}
+		if (!(other instanceof MaybeDoubleArray)) {
+			return false;
+		}
+		MaybeDoubleArray otherArray = (MaybeDoubleArray) other;
+		if (otherArray.values.length != values.length || !Arrays.equals(otherArray.presence, presence)) {
+			return false;
+		}
+		for (int index = 0; index < values.length; index++) {
+			if (PresenceBits.isSet(presence, index)
+					&& Double.doubleToLongBits(otherArray.values[index]) != Double.doubleToLongBits(values[index])) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder builder = new StringBuilder("MaybeDoubleArray [");
+		for (int index = 0; index < values.length; index++) {
+			if (index > 0) {
+				builder.append(", ");
+			}
+			if (PresenceBits.isSet(presence, index)) {
+				builder.append(values[index]);
+			} else {
+				builder.append('-');
+			}
+		}
+		return builder.append(']').toString();
+	}
+
+}
@@ -0,0 +1,62 @@
+package net.xeona.maybe;
+
+import static java.util.Objects.requireNonNull;
+
+import net.xeona.function.DoubleConsumer;
+import net.xeona.function.DoubleFunction;
+import net.xeona.function.DoubleToBooleanFunction;
+import net.xeona.function.DoubleToIntFunction;
+import net.xeona.function.DoubleToLongFunction;
+import net.xeona.function.DoubleUnaryOperator;
+
+/**
+ * A {@link MaybePipeline} that produces an optional double, started by {@link MaybeDouble#pipeline()} or by converting
+ * another pipeline.
+ * <p />
+ * The value is held unboxed between stages, and {@link #orElse(Object, double)} returns it without creating a
+ * MaybeDouble.
+ *
+ * @param <I>
+ *            The type of the input Maybe
+ */
+public final class MaybeDoublePipeline<I> {
+
+	private final PipelineStages stages;
+
+	MaybeDoublePipeline(PipelineStages stages) {
+		this.stages = stages;
+	}
+
+	public MaybeDoublePipeline<I> filter(DoubleToBooleanFunction<? extends RuntimeException> predicate) {
+		return new MaybeDoublePipeline<>(stages.filter(predicate));
+	}
+
+	public MaybeIntPipeline<I> mapToInt(DoubleToIntFunction<? extends RuntimeException> function) {
+		return new MaybeIntPipeline<>(stages.map(PipelineStages.INT, function));
+	}
+
+	public MaybeLongPipeline<I> mapToLong(DoubleToLongFunction<? extends RuntimeException> function) {
+		return new MaybeLongPipeline<>(stages.map(PipelineStages.LONG, function));
+	}
+
+	public MaybeDoublePipeline<I> mapToDouble(DoubleUnaryOperator<? extends RuntimeException> function) {
+		return new MaybeDoublePipeline<>(stages.map(PipelineStages.DOUBLE, function));
+	}
+
+	public <T> MaybePipeline<I, T> map(DoubleFunction<? extends T, ? extends RuntimeException> function) {
+		return new MaybePipeline<>(stages.map(PipelineStages.REFERENCE, function));
+	}
+
+	public MaybeDouble toMaybeDouble(I input) {
+		return (MaybeDouble) stages.evaluate(input, PipelineStages.TO_MAYBE, null);
+	}
+
+	public double orElse(I input, double other) {
+		return Double.longBitsToDouble(stages.evaluateBits(input, Double.doubleToRawLongBits(other)));
+	}
+
+	public void ifPresent(I input, DoubleConsumer<? extends RuntimeException> consumer) {
+		stages.evaluate(input, PipelineStages.IF_PRESENT, requireNonNull(consumer, "Consumer must not be null"));
+	}
+
+}
@@ -0,0 +1,70 @@
+package net.xeona.maybe;
+
+import static java.util.Objects.requireNonNull;
+
+import net.xeona.function.DoubleToBooleanFunction;
+import net.xeona.function.DoubleUnaryOperator;
+
+/**
+ * Static operations on a {@link MaybeDouble} packed into a single {@code long}, for code that must not allocate at all.
+ * <p />
+ * A present value is held as its raw IEEE 754 bits. An absent value is one reserved quiet NaN bit pattern,
+ * {@code 0x7FF80000000A7E5D}, which is not the canonical {@link Double#NaN} and is not produced by arithmetic. Every
+ * double, including every NaN, still packs to a present value: the single NaN whose bits coincide with the reserved
+ * pattern is packed as the neighbouring NaN payload, and every other double round-trips bit for bit.
+ * <p />
+ * As the absent value is not {@code 0L}, a {@code long[]} of packed values should be filled with {@link #noDouble()}
+ * before use.
+ */
+public final class MaybeDoubles {
+
+	private static final long NO_DOUBLE_BITS = 0x7FF80000000A7E5DL;
+
+	private MaybeDoubles() {}
+
+	public static long pack(double value) {
+		long bits = Double.doubleToRawLongBits(value);
+		return bits != NO_DOUBLE_BITS ? bits : NO_DOUBLE_BITS + 1;
+	}
+
+	public static long noDouble() {
+		return NO_DOUBLE_BITS;
+	}
+
+	public static boolean isPresent(long packed) {
+		return packed != NO_DOUBLE_BITS;
+	}
+
+	public static double get(long packed) {
+		if (packed == NO_DOUBLE_BITS) {
+			throw AbsentValueExceptions.noSuchElement();
+		}
+		return Double.longBitsToDouble(packed);
+	}
+
+	public static double orElse(long packed, double other) {
+		return packed != NO_DOUBLE_BITS ? Double.longBitsToDouble(packed) : other;
+	}
+
+	public static <X extends Throwable> long map(long packed, DoubleUnaryOperator<? extends X> function) throws X {
+		requireNonNull(function, "Function must not be null");
+		return packed != NO_DOUBLE_BITS ? pack(function.apply(Double.longBitsToDouble(packed))) : NO_DOUBLE_BITS;
+	}
+
+	public static <X extends Throwable> long filter(long packed, DoubleToBooleanFunction<? extends X> predicate)
+			throws X {
+		requireNonNull(predicate, "Predicate must not be null");
+		return packed != NO_DOUBLE_BITS && predicate.apply(Double.longBitsToDouble(packed)) ? packed : NO_DOUBLE_BITS;
+	}
+
+	public static MaybeDouble toMaybeDouble(long packed) {
+		return packed != NO_DOUBLE_BITS ? MaybeDouble.justDouble(Double.longBitsToDouble(packed))
+				: MaybeDouble.nothing();
+	}
+
+	public static long fromMaybeDouble(MaybeDouble maybeDouble) {
+		return requireNonNull(maybeDouble, "MaybeDouble must not be null").isPresent() ? pack(maybeDouble.get())
+				: NO_DOUBLE_BITS;
+	}
+
+}
@@ -1,6 +1,11 @@
 package net.xeona.maybe;
 
-import java.util.NoSuchElementException;
+import static java.util.Objects.requireNonNull;
+
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.Serializable;
+import java.util.OptionalDouble;
 
 import net.xeona.function.FloatConsumer;
 import net.xeona.function.FloatFunction;
@@ -15,10 +20,24 @@ import net.xeona.function.FloatToShortFunction;
 import net.xeona.function.FloatUnaryOperator;
 import net.xeona.function.Provider;
 
-public abstract class MaybeFloat {
+public abstract class MaybeFloat implements Serializable {
+
+	private static final long serialVersionUID = 1L;
 
 	private MaybeFloat() {}
 
+	/**
+	 * Serializes this instance as its compact {@link MaybeSerialForm}.
+	 */
+	Object writeReplace() {
+		return isPresent() ? new MaybeSerialForm(MaybeSerialForm.FLOAT, Float.floatToRawIntBits(get()))
+				: new MaybeSerialForm(MaybeSerialForm.FLOAT);
+	}
+
+	private void readObject(ObjectInputStream in) throws InvalidObjectException {
+		throw new InvalidObjectException("Deserialization requires MaybeSerialForm");
+	}
+
 	public abstract boolean isPresent();
 
 	public abstract float get();
@@ -61,7 +80,45 @@ public abstract class MaybeFloat {
 		return Nothing.instance();
 	}
 
-	private static class Just extends MaybeFloat {
+	/**
+	 * Returns an {@link OptionalDouble} of the value widened to a double, or an empty one if absent.
+	 */
+	public static OptionalDouble toOptionalDouble(MaybeFloat maybe) {
+		return requireNonNull(maybe, "Maybe must not be null").isPresent() ? OptionalDouble.of(maybe.get())
+				: OptionalDouble.empty();
+	}
+
+	/**
+	 * Parses the given sequence as a decimal float.
+	 *
+	 * @return A {@link MaybeFloat} containing the parsed value, or {@link #nothing()} if the sequence is malformed
+	 * @see #parseFloat(CharSequence, int, int)
+	 */
+	public static MaybeFloat parseFloat(CharSequence sequence) {
+		return parseFloat(requireNonNull(sequence, "Sequence must not be null"), 0, sequence.length());
+	}
+
+	/**
+	 * Parses the given region of a sequence as a decimal float, without throwing on malformed input.
+	 * <p />
+	 * Accepts an optional sign followed by {@code NaN}, {@code Infinity}, or digits with an optional fraction and
+	 * exponent. The surrounding whitespace, type suffixes and hexadecimal forms accepted by
+	 * {@link Float#parseFloat(String)} are rejected. Values with up to 7 significant digits and a small exponent are
+	 * computed without building an intermediate {@link String}.
+	 *
+	 * @return A {@link MaybeFloat} containing the parsed value, or {@link #nothing()} if the region is malformed
+	 * @throws IndexOutOfBoundsException
+	 *             If the region does not lie within the sequence
+	 */
+	public static MaybeFloat parseFloat(CharSequence sequence, int offset, int length) {
+		NumberParsing.checkBounds(sequence, offset, length);
+		double value = NumberParsing.parseDecimal(sequence, offset, length, true);
+		return NumberParsing.isValidDecimal(value) ? justFloat((float) value) : nothing();
+	}
+
+	private static final class Just extends MaybeFloat {
+
+		private static final long serialVersionUID = 1L;
 
 		private final float value;
 
@@ -162,7 +219,9 @@ public abstract class MaybeFloat {
 
 	}
 
-	private static class Nothing extends MaybeFloat {
+	private static final class Nothing extends MaybeFloat {
+
+		private static final long serialVersionUID = 1L;
 
 		private static final Nothing INSTANCE = new Nothing();
 
@@ -175,7 +234,7 @@ public abstract class MaybeFloat {
 
 		@Override
 		public float get() {
-			throw new NoSuchElementException();
+			throw AbsentValueExceptions.noSuchElement();
 		}
 
 		@Override
@@ -0,0 +1,68 @@
+package net.xeona.maybe;
+
+import static java.util.Objects.requireNonNull;
+
+import net.xeona.function.FloatToBooleanFunction;
+import net.xeona.function.FloatUnaryOperator;
+
+/**
+ * Static operations on a {@link MaybeFloat} packed into a single {@code long}, for code that must not allocate at all.
+ * <p />
+ * A present value is held as its raw IEEE 754 bits in the low 32 bits with bit 32 set, so every float, including every
+ * NaN, round-trips bit for bit. An absent value is {@code 0L}, so a zero initialised {@code long} field or
+ * {@code long[]} starts out absent.
+ */
+public final class MaybeFloats {
+
+	private static final long PRESENT = 1L << 32;
+
+	private static final long BITS_MASK = 0xFFFFFFFFL;
+
+	private static final long NO_FLOAT = 0L;
+
+	private MaybeFloats() {}
+
+	public static long pack(float value) {
+		return PRESENT | (Float.floatToRawIntBits(value) & BITS_MASK);
+	}
+
+	public static long noFloat() {
+		return NO_FLOAT;
+	}
+
+	public static boolean isPresent(long packed) {
+		return (packed & PRESENT) != 0;
+	}
+
+	public static float get(long packed) {
+		if (!isPresent(packed)) {
+			throw AbsentValueExceptions.noSuchElement();
+		}
+		return Float.intBitsToFloat((int) packed);
+	}
+
+	public static float orElse(long packed, float other) {
+		return isPresent(packed) ? Float.intBitsToFloat((int) packed) : other;
+	}
+
+	public static <X extends Throwable> long map(long packed, FloatUnaryOperator<? extends X> function) throws X {
+		requireNonNull(function, "Function must not be null");
+		return isPresent(packed) ? pack(function.apply(Float.intBitsToFloat((int) packed))) : NO_FLOAT;
+	}
+
+	public static <X extends Throwable> long filter(long packed, FloatToBooleanFunction<? extends X> predicate)
+			throws X {
+		requireNonNull(predicate, "Predicate must not be null");
+		return isPresent(packed) && predicate.apply(Float.intBitsToFloat((int) packed)) ? packed : NO_FLOAT;
+	}
+
+	public static MaybeFloat toMaybeFloat(long packed) {
+		return isPresent(packed) ? MaybeFloat.justFloat(Float.intBitsToFloat((int) packed)) : MaybeFloat.nothing();
+	}
+
+	public static long fromMaybeFloat(MaybeFloat maybeFloat) {
+		return requireNonNull(maybeFloat, "MaybeFloat must not be null").isPresent() ? pack(maybeFloat.get())
+				: NO_FLOAT;
+	}
+
+}
@@ -2,11 +2,21 @@ package net.xeona.maybe;
 
 import static java.util.Objects.requireNonNull;
 
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
 import java.io.Serializable;
+import java.nio.ByteBuffer;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
+import java.util.OptionalInt;
+import java.util.Spliterator;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.IntBinaryOperator;
+import java.util.function.LongBinaryOperator;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
 
 import net.xeona.function.IntConsumer;
 import net.xeona.function.IntFunction;
@@ -28,6 +38,18 @@ public abstract class MaybeInt implements Collection<Integer>, Serializable {
 
 	private MaybeInt() {}
 
+	/**
+	 * Serializes this instance as its compact {@link MaybeSerialForm}.
+	 */
+	Object writeReplace() {
+		return isPresent() ? new MaybeSerialForm(MaybeSerialForm.INT, get())
+				: new MaybeSerialForm(MaybeSerialForm.INT);
+	}
+
+	private void readObject(ObjectInputStream in) throws InvalidObjectException {
+		throw new InvalidObjectException("Deserialization requires MaybeSerialForm");
+	}
+
 	public abstract boolean isPresent();
 
 	public abstract int get();
@@ -67,6 +89,94 @@ public abstract class MaybeInt implements Collection<Integer>, Serializable {
 
 	public abstract <T, X extends Throwable> Maybe<T> map(IntFunction<? extends T, ? extends X> function) throws X;
 
+	/**
+	 * Returns the result of the given function applied to the value, or an absent value of the function's result type
+	 * if this is absent.
+	 * <p />
+	 * Unlike mapping and then flattening, this creates no Maybe wrapping the function's result.
+	 */
+	public abstract <T, X extends Throwable> Maybe<T> flatMap(
+			IntFunction<? extends Maybe<? extends T>, ? extends X> function) throws X;
+
+	public abstract <X extends Throwable> MaybeInt flatMapToInt(
+			IntFunction<? extends MaybeInt, ? extends X> function) throws X;
+
+	public abstract <X extends Throwable> MaybeLong flatMapToLong(
+			IntFunction<? extends MaybeLong, ? extends X> function) throws X;
+
+	public abstract <X extends Throwable> MaybeDouble flatMapToDouble(
+			IntFunction<? extends MaybeDouble, ? extends X> function) throws X;
+
+	/**
+	 * Returns the sum of the value and the given int, or {@link #noInt()} if absent or if the sum overflows.
+	 */
+	public abstract MaybeInt plus(int addend);
+
+	/**
+	 * Returns the sum of the value and the given value, or {@link #noInt()} if either is absent or if the sum
+	 * overflows.
+	 */
+	public abstract MaybeInt plus(MaybeInt addend);
+
+	public abstract MaybeInt minus(int subtrahend);
+
+	public abstract MaybeInt minus(MaybeInt subtrahend);
+
+	public abstract MaybeInt times(int multiplier);
+
+	public abstract MaybeInt times(MaybeInt multiplier);
+
+	/**
+	 * Returns the quotient of the value and the given int, rounded toward zero, or {@link #noInt()} if absent, if
+	 * the divisor is zero or if the quotient overflows.
+	 */
+	public abstract MaybeInt dividedBy(int divisor);
+
+	public abstract MaybeInt dividedBy(MaybeInt divisor);
+
+	/**
+	 * Returns the negation of the value, or {@link #noInt()} if absent or if the value is the minimum int, which has
+	 * no positive counterpart.
+	 */
+	public abstract MaybeInt negate();
+
+	/**
+	 * Returns the given function applied to this value and the other value, or {@link #noInt()} if either is
+	 * absent.
+	 */
+	public final MaybeInt zipWith(MaybeInt other, IntBinaryOperator function) {
+		requireNonNull(other, "Other must not be null");
+		requireNonNull(function, "Function must not be null");
+		return isPresent() && other.isPresent() ? justInt(function.applyAsInt(get(), other.get())) : noInt();
+	}
+
+	/**
+	 * Returns the given function applied to this value, widened to a long, and the other value, or
+	 * {@link MaybeLong#noLong()} if either is absent.
+	 */
+	public final MaybeLong zipWith(MaybeLong other, LongBinaryOperator function) {
+		requireNonNull(other, "Other must not be null");
+		requireNonNull(function, "Function must not be null");
+		return isPresent() && other.isPresent() ? MaybeLong.justLong(function.applyAsLong(get(), other.get()))
+				: MaybeLong.noLong();
+	}
+
+	/**
+	 * Returns the given function applied to this value, widened to a double, and the other value, or
+	 * {@link MaybeDouble#nothing()} if either is absent.
+	 */
+	public final MaybeDouble zipWith(MaybeDouble other, DoubleBinaryOperator function) {
+		requireNonNull(other, "Other must not be null");
+		requireNonNull(function, "Function must not be null");
+		return isPresent() && other.isPresent() ? MaybeDouble.justDouble(function.applyAsDouble(get(), other.get()))
+				: MaybeDouble.nothing();
+	}
+
+	public abstract IntStream intStream();
+
+	@Override
+	public abstract Spliterator.OfInt spliterator();
+
 	@Override
 	public boolean add(Integer elementToAdd) {
 		throw new UnsupportedOperationException();
@@ -85,15 +195,154 @@ public abstract class MaybeInt implements Collection<Integer>, Serializable {
 		return value != null ? justInt(value) : noInt();
 	}
 
+	/**
+	 * Returns a {@link MaybeInt} containing the given value.
+	 * <p />
+	 * Values from -128 up to the bound given by the {@code net.xeona.maybe.MaybeInt.cache.high} system property (1023
+	 * by default, and never less than 127) are served from a table of canonical instances, as with {@link
+	 * Integer#valueOf(int)}. Values outside of that range are freshly allocated.
+	 */
 	public static MaybeInt justInt(int value) {
-		return new JustInt(value);
+		return value >= JustIntCache.LOW && value <= JustIntCache.HIGH ? JustIntCache.CACHE[value - JustIntCache.LOW]
+				: new JustInt(value);
+	}
+
+	/**
+	 * Parses the given sequence as a signed decimal int, as {@link Integer#parseInt(String)} would.
+	 *
+	 * @return A {@link MaybeInt} containing the parsed value, or {@link #noInt()} if the sequence is malformed or out
+	 *         of range
+	 */
+	public static MaybeInt parseInt(CharSequence sequence) {
+		return parseInt(requireNonNull(sequence, "Sequence must not be null"), 0, sequence.length());
+	}
+
+	/**
+	 * Parses the given region of a sequence as a signed decimal int, as {@link Integer#parseInt(String)} would,
+	 * without throwing on malformed input and without building an intermediate {@link String}.
+	 *
+	 * @return A {@link MaybeInt} containing the parsed value, or {@link #noInt()} if the region is malformed or out of
+	 *         range
+	 * @throws IndexOutOfBoundsException
+	 *             If the region does not lie within the sequence
+	 */
+	public static MaybeInt parseInt(CharSequence sequence, int offset, int length) {
+		NumberParsing.checkBounds(sequence, offset, length);
+		boolean negative = NumberParsing.isNegative(sequence, offset, length);
+		long negatedMagnitude = NumberParsing.negatedMagnitude(sequence, offset, length,
+				negative ? Integer.MIN_VALUE : -Integer.MAX_VALUE);
+		return negatedMagnitude != NumberParsing.INVALID_MAGNITUDE
+				? justInt((int) (negative ? negatedMagnitude : -negatedMagnitude)) : noInt();
+	}
+
+	/**
+	 * Parses the given region of a byte array as an ASCII signed decimal int, without throwing on malformed input.
+	 *
+	 * @return A {@link MaybeInt} containing the parsed value, or {@link #noInt()} if the region is malformed or out of
+	 *         range
+	 * @throws IndexOutOfBoundsException
+	 *             If the region does not lie within the array
+	 */
+	public static MaybeInt parseInt(byte[] bytes, int offset, int length) {
+		NumberParsing.checkBounds(bytes, offset, length);
+		boolean negative = NumberParsing.isNegative(bytes, offset, length);
+		long negatedMagnitude = NumberParsing.negatedMagnitude(bytes, offset, length,
+				negative ? Integer.MIN_VALUE : -Integer.MAX_VALUE);
+		return negatedMagnitude != NumberParsing.INVALID_MAGNITUDE
+				? justInt((int) (negative ? negatedMagnitude : -negatedMagnitude)) : noInt();
+	}
+
+	/**
+	 * Parses the given region of a buffer as an ASCII signed decimal int, without throwing on malformed input.
+	 * <p />
+	 * Heap and direct buffers are both read in place with absolute gets, and the position of the buffer is unchanged.
+	 *
+	 * @return A {@link MaybeInt} containing the parsed value, or {@link #noInt()} if the region is malformed or out of
+	 *         range
+	 * @throws IndexOutOfBoundsException
+	 *             If the region does not lie within the limit of the buffer
+	 */
+	public static MaybeInt parseInt(ByteBuffer buffer, int index, int length) {
+		NumberParsing.checkBounds(buffer, index, length);
+		boolean negative = NumberParsing.isNegative(buffer, index, length);
+		long negatedMagnitude = NumberParsing.negatedMagnitude(buffer, index, length,
+				negative ? Integer.MIN_VALUE : -Integer.MAX_VALUE);
+		return negatedMagnitude != NumberParsing.INVALID_MAGNITUDE
+				? justInt((int) (negative ? negatedMagnitude : -negatedMagnitude)) : noInt();
+	}
+
+	/**
+	 * Reads a fixed width ASCII signed decimal int field from the position of the given buffer, as
+	 * {@link #parseInt(ByteBuffer, int, int)} would, and then advances the position past the field.
+	 * <p />
+	 * The position is advanced whether or not the field is well formed, so that a whole record can be decoded field by
+	 * field with the buffer itself as the cursor.
+	 *
+	 * @return A {@link MaybeInt} containing the parsed value, or {@link #noInt()} if the field is malformed or out of
+	 *         range
+	 * @throws IndexOutOfBoundsException
+	 *             If fewer than {@code length} bytes remain in the buffer
+	 */
+	public static MaybeInt readInt(ByteBuffer buffer, int length) {
+		int index = requireNonNull(buffer, "Buffer must not be null").position();
+		MaybeInt value = parseInt(buffer, index, length);
+		buffer.position(index + length);
+		return value;
 	}
 
 	public static MaybeInt noInt() {
 		return NoInt.instance();
 	}
 
-	public static class JustInt extends MaybeInt {
+	public static MaybeInt fromOptionalInt(OptionalInt optionalInt) {
+		return requireNonNull(optionalInt, "Optional must not be null").isPresent()
+				? justInt(optionalInt.getAsInt()) : noInt();
+	}
+
+	public static OptionalInt toOptionalInt(MaybeInt maybe) {
+		return requireNonNull(maybe, "Maybe must not be null").isPresent() ? OptionalInt.of(maybe.get())
+				: OptionalInt.empty();
+	}
+
+	/**
+	 * Returns the sum of the given ints, or {@link #noInt()} if it overflows.
+	 * <p />
+	 * As with the other arithmetic operations, the result is computed exactly as a long and then range checked, so
+	 * overflow costs a branch rather than a thrown {@link ArithmeticException}.
+	 */
+	public static MaybeInt plus(int augend, int addend) {
+		return exact((long) augend + addend);
+	}
+
+	public static MaybeInt minus(int minuend, int subtrahend) {
+		return exact((long) minuend - subtrahend);
+	}
+
+	public static MaybeInt times(int multiplicand, int multiplier) {
+		return exact((long) multiplicand * multiplier);
+	}
+
+	/**
+	 * Returns the quotient of the given ints, rounded toward zero, or {@link #noInt()} if the divisor is zero or if the
+	 * quotient overflows.
+	 */
+	public static MaybeInt dividedBy(int dividend, int divisor) {
+		return divisor != 0 ? exact((long) dividend / divisor) : noInt();
+	}
+
+	private static MaybeInt exact(long result) {
+		return (int) result == result ? justInt((int) result) : noInt();
+	}
+
+	/**
+	 * Returns an empty pipeline over MaybeInt inputs, to which map and filter stages can be added and later run in one
+	 * pass on each input.
+	 */
+	public static MaybeIntPipeline<MaybeInt> pipeline() {
+		return new MaybeIntPipeline<>(PipelineStages.source(PipelineStages.INT));
+	}
+
+	public static final class JustInt extends MaybeInt {
 
 		private static final long serialVersionUID = 1L;
 
@@ -193,6 +442,84 @@ public abstract class MaybeInt implements Collection<Integer>, Serializable {
 			return Maybe.maybe(requireNonNull(function, "Function must not be null").apply(value));
 		}
 
+		@Override
+		@SuppressWarnings("unchecked")
+		public <T, X extends Throwable> Maybe<T> flatMap(
+				IntFunction<? extends Maybe<? extends T>, ? extends X> function) throws X {
+			return (Maybe<T>) requireNonNull(requireNonNull(function, "Function must not be null").apply(value),
+					"Result of function must not be null");
+		}
+
+		@Override
+		public <X extends Throwable> MaybeInt flatMapToInt(
+				IntFunction<? extends MaybeInt, ? extends X> function) throws X {
+			return requireNonNull(requireNonNull(function, "Function must not be null").apply(value),
+					"Result of function must not be null");
+		}
+
+		@Override
+		public <X extends Throwable> MaybeLong flatMapToLong(
+				IntFunction<? extends MaybeLong, ? extends X> function) throws X {
+			return requireNonNull(requireNonNull(function, "Function must not be null").apply(value),
+					"Result of function must not be null");
+		}
+
+		@Override
+		public <X extends Throwable> MaybeDouble flatMapToDouble(
+				IntFunction<? extends MaybeDouble, ? extends X> function) throws X {
+			return requireNonNull(requireNonNull(function, "Function must not be null").apply(value),
+					"Result of function must not be null");
+		}
+
+		@Override
+		public MaybeInt plus(int addend) {
+			return MaybeInt.plus(value, addend);
+		}
+
+		@Override
+		public MaybeInt plus(MaybeInt addend) {
+			return requireNonNull(addend, "Addend must not be null").isPresent()
+					? MaybeInt.plus(value, addend.get()) : noInt();
+		}
+
+		@Override
+		public MaybeInt minus(int subtrahend) {
+			return MaybeInt.minus(value, subtrahend);
+		}
+
+		@Override
+		public MaybeInt minus(MaybeInt subtrahend) {
+			return requireNonNull(subtrahend, "Subtrahend must not be null").isPresent()
+					? MaybeInt.minus(value, subtrahend.get()) : noInt();
+		}
+
+		@Override
+		public MaybeInt times(int multiplier) {
+			return MaybeInt.times(value, multiplier);
+		}
+
+		@Override
+		public MaybeInt times(MaybeInt multiplier) {
+			return requireNonNull(multiplier, "Multiplier must not be null").isPresent()
+					? MaybeInt.times(value, multiplier.get()) : noInt();
+		}
+
+		@Override
+		public MaybeInt dividedBy(int divisor) {
+			return MaybeInt.dividedBy(value, divisor);
+		}
+
+		@Override
+		public MaybeInt dividedBy(MaybeInt divisor) {
+			return requireNonNull(divisor, "Divisor must not be null").isPresent()
+					? MaybeInt.dividedBy(value, divisor.get()) : noInt();
+		}
+
+		@Override
+		public MaybeInt negate() {
+			return value != Integer.MIN_VALUE ? justInt(-value) : noInt();
+		}
+
 		@Override
 		public int size() {
 			return 1;
@@ -297,6 +624,16 @@ public abstract class MaybeInt implements Collection<Integer>, Serializable {
 			};
 		}
 
+		@Override
+		public Spliterator.OfInt spliterator() {
+			return MaybeSpliterators.justInt(value);
+		}
+
+		@Override
+		public IntStream intStream() {
+			return StreamSupport.intStream(MaybeSpliterators.justInt(value), false);
+		}
+
 		@Override
 		public int hashCode() {
 			return Integer.hashCode(value);
@@ -314,7 +651,27 @@ public abstract class MaybeInt implements Collection<Integer>, Serializable {
 
 	}
 
-	private static class NoInt extends MaybeInt {
+	private static final class JustIntCache {
+
+		private static final String HIGH_PROPERTY = "net.xeona.maybe.MaybeInt.cache.high";
+
+		private static final int LOW = -128;
+		private static final int HIGH = Math.min(Math.max(Integer.getInteger(HIGH_PROPERTY, 1023), 127),
+				Integer.MAX_VALUE + LOW - 1);
+
+		private static final JustInt[] CACHE = new JustInt[HIGH - LOW + 1];
+
+		static {
+			for (int index = 0; index < CACHE.length; index++) {
+				CACHE[index] = new JustInt(LOW + index);
+			}
+		}
+
+		private JustIntCache() {}
+
+	}
+
+	private static final class NoInt extends MaybeInt {
 
 		private static final long serialVersionUID = 1L;
 
@@ -343,7 +700,7 @@ public abstract class MaybeInt implements Collection<Integer>, Serializable {
 
 		@Override
 		public int get() {
-			throw new NoSuchElementException();
+			throw AbsentValueExceptions.noSuchElement();
 		}
 
 		@Override
@@ -426,6 +783,79 @@ public abstract class MaybeInt implements Collection<Integer>, Serializable {
 			return Maybe.nothing();
 		}
 
+		@Override
+		public <T, X extends Throwable> Maybe<T> flatMap(
+				IntFunction<? extends Maybe<? extends T>, ? extends X> function) throws X {
+			return Maybe.nothing();
+		}
+
+		@Override
+		public <X extends Throwable> MaybeInt flatMapToInt(
+				IntFunction<? extends MaybeInt, ? extends X> function) throws X {
+			return MaybeInt.noInt();
+		}
+
+		@Override
+		public <X extends Throwable> MaybeLong flatMapToLong(
+				IntFunction<? extends MaybeLong, ? extends X> function) throws X {
+			return MaybeLong.noLong();
+		}
+
+		@Override
+		public <X extends Throwable> MaybeDouble flatMapToDouble(
+				IntFunction<? extends MaybeDouble, ? extends X> function) throws X {
+			return MaybeDouble.nothing();
+		}
+
+		@Override
+		public MaybeInt plus(int addend) {
+			return this;
+		}
+
+		@Override
+		public MaybeInt plus(MaybeInt addend) {
+			requireNonNull(addend, "Addend must not be null");
+			return this;
+		}
+
+		@Override
+		public MaybeInt minus(int subtrahend) {
+			return this;
+		}
+
+		@Override
+		public MaybeInt minus(MaybeInt subtrahend) {
+			requireNonNull(subtrahend, "Subtrahend must not be null");
+			return this;
+		}
+
+		@Override
+		public MaybeInt times(int multiplier) {
+			return this;
+		}
+
+		@Override
+		public MaybeInt times(MaybeInt multiplier) {
+			requireNonNull(multiplier, "Multiplier must not be null");
+			return this;
+		}
+
+		@Override
+		public MaybeInt dividedBy(int divisor) {
+			return this;
+		}
+
+		@Override
+		public MaybeInt dividedBy(MaybeInt divisor) {
+			requireNonNull(divisor, "Divisor must not be null");
+			return this;
+		}
+
+		@Override
+		public MaybeInt negate() {
+			return this;
+		}
+
 		@Override
 		public int size() {
 			return 0;
@@ -469,6 +899,11 @@ public abstract class MaybeInt implements Collection<Integer>, Serializable {
 			return ITERATOR;
 		}
 
+		@Override
+		public Spliterator.OfInt spliterator() {
+			return MaybeSpliterators.noInt();
+		}
+
 		@Override
 		public Object[] toArray() {
 			return new Object[0];
@@ -483,6 +918,11 @@ public abstract class MaybeInt implements Collection<Integer>, Serializable {
 			return targetArray;
 		}
 
+		@Override
+		public IntStream intStream() {
+			return IntStream.empty();
+		}
+
 		@Override
 		public int hashCode() {
 			return 0;
@@ -0,0 +1,147 @@
+package net.xeona.maybe;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+
+import net.xeona.function.IntConsumer;
+
+/**
+ * A fixed length array of optional ints, held as an {@code int[]} of values and a bitmap of which elements are present,
+ * rather than as a {@code MaybeInt[]} with an object per element.
+ * <p />
+ * Every element starts out absent. The value of an absent element is not observable, so clearing an element does not
+ * touch the value array.
+ */
+public final class MaybeIntArray {
+
+	private final int[] values;
+
+	private final long[] presence;
+
+	public MaybeIntArray(int length) {
+		if (length < 0) {
+			throw new IllegalArgumentException("Length must not be negative: " + length);
+		}
+		values = new int[length];
+		presence = PresenceBits.forLength(length);
+	}
+
+	public int length() {
+		return values.length;
+	}
+
+	public boolean isPresent(int index) {
+		PresenceBits.checkIndex(index, values.length);
+		return PresenceBits.isSet(presence, index);
+	}
+
+	public MaybeInt get(int index) {
+		return isPresent(index) ? MaybeInt.justInt(values[index]) : MaybeInt.noInt();
+	}
+
+	public int getOrElse(int index, int other) {
+		return isPresent(index) ? values[index] : other;
+	}
+
+	public void set(int index, int value) {
+		PresenceBits.checkIndex(index, values.length);
+		values[index] = value;
+		PresenceBits.set(presence, index);
+	}
+
+	public void set(int index, MaybeInt value) {
+		if (requireNonNull(value, "Value must not be null").isPresent()) {
+			set(index, value.get());
+		} else {
+			clear(index);
+		}
+	}
+
+	public void clear(int index) {
+		PresenceBits.checkIndex(index, values.length);
+		PresenceBits.clear(presence, index);
+	}
+
+	public void clear() {
+		Arrays.fill(presence, 0);
+	}
+
+	public void fill(int value) {
+		fill(0, values.length, value);
+	}
+
+	public void fill(int fromIndex, int toIndex, int value) {
+		PresenceBits.checkRange(fromIndex, toIndex, values.length);
+		Arrays.fill(values, fromIndex, toIndex, value);
+		PresenceBits.set(presence, fromIndex, toIndex);
+	}
+
+	public void clear(int fromIndex, int toIndex) {
+		PresenceBits.checkRange(fromIndex, toIndex, values.length);
+		PresenceBits.clear(presence, fromIndex, toIndex);
+	}
+
+	/**
+	 * Passes each present value to the given consumer in index order, skipping absent elements a whole word of 64 at a
+	 * time.
+	 */
+	public <X extends Throwable> void forEachPresent(IntConsumer<? extends X> consumer) throws X {
+		requireNonNull(consumer, "Consumer must not be null");
+		for (int word = 0; word < presence.length; word++) {
+			for (long bits = presence[word]; bits != 0; bits &= bits - 1) {
+				consumer.consume(values[PresenceBits.indexOf(word, bits)]);
+			}
+		}
+	}
+
+	public int presentCount() {
+		return PresenceBits.count(presence);
+	}
+
+	@Override
+	public int hashCode() {
+		int hashCode = 1;
+		for (int index = 0; index < values.length; index++) {
+			hashCode = 31 * hashCode + (PresenceBits.isSet(presence, index) ? Integer.hashCode(values[index]) : 0);
+		}
+		return hashCode;
+	}
+
+	@Override
+	public boolean equals(Object other) {
+		if (other == this) {
+			return true;
+		}
+		if (!(other instanceof MaybeIntArray)) {
+			return false;
+		}
+		MaybeIntArray otherArray = (MaybeIntArray) other;
+		if (otherArray.values.length != values.length || !Arrays.equals(otherArray.presence, presence)) {
+			return false;
+		}
+		for (int index = 0; index < values.length; index++) {
+			if (PresenceBits.isSet(presence, index) && otherArray.values[index] != values[index]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder builder = new StringBuilder("MaybeIntArray [");
+		for (int index = 0; index < values.length; index++) {
+			if (index > 0) {
+				builder.append(", ");
+			}
+			if (PresenceBits.isSet(presence, index)) {
+				builder.append(values[index]);
+			} else {
+				builder.append('-');
+			}
+		}
+		return builder.append(']').toString();
+	}
+
+}
@@ -0,0 +1,61 @@
+package net.xeona.maybe;
+
+import static java.util.Objects.requireNonNull;
+
+import net.xeona.function.IntConsumer;
+import net.xeona.function.IntFunction;
+import net.xeona.function.IntToBooleanFunction;
+import net.xeona.function.IntToDoubleFunction;
+import net.xeona.function.IntToLongFunction;
+import net.xeona.function.IntUnaryOperator;
+
+/**
+ * A {@link MaybePipeline} that produces an optional int, started by {@link MaybeInt#pipeline()} or by converting
+ * another pipeline.
+ * <p />
+ * The value is held unboxed between stages, and {@link #orElse(Object, int)} returns it without creating a MaybeInt.
+ *
+ * @param <I>
+ *            The type of the input Maybe
+ */
+public final class MaybeIntPipeline<I> {
+
+	private final PipelineStages stages;
+
+	MaybeIntPipeline(PipelineStages stages) {
+		this.stages = stages;
+	}
+
+	public MaybeIntPipeline<I> filter(IntToBooleanFunction<? extends RuntimeException> predicate) {
+		return new MaybeIntPipeline<>(stages.filter(predicate));
+	}
+
+	public MaybeIntPipeline<I> mapToInt(IntUnaryOperator<? extends RuntimeException> function) {
+		return new MaybeIntPipeline<>(stages.map(PipelineStages.INT, function));
+	}
+
+	public MaybeLongPipeline<I> mapToLong(IntToLongFunction<? extends RuntimeException> function) {
+		return new MaybeLongPipeline<>(stages.map(PipelineStages.LONG, function));
+	}
+
+	public MaybeDoublePipeline<I> mapToDouble(IntToDoubleFunction<? extends RuntimeException> function) {
+		return new MaybeDoublePipeline<>(stages.map(PipelineStages.DOUBLE, function));
+	}
+
+	public <T> MaybePipeline<I, T> map(IntFunction<? extends T, ? extends RuntimeException> function) {
+		return new MaybePipeline<>(stages.map(PipelineStages.REFERENCE, function));
+	}
+
+	public MaybeInt toMaybeInt(I input) {
+		return (MaybeInt) stages.evaluate(input, PipelineStages.TO_MAYBE, null);
+	}
+
+	public int orElse(I input, int other) {
+		return (int) stages.evaluateBits(input, other);
+	}
+
+	public void ifPresent(I input, IntConsumer<? extends RuntimeException> consumer) {
+		stages.evaluate(input, PipelineStages.IF_PRESENT, requireNonNull(consumer, "Consumer must not be null"));
+	}
+
+}
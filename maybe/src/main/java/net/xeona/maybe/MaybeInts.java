@@ -0,0 +1,103 @@
+package net.xeona.maybe;
+
+import static java.util.Objects.requireNonNull;
+
+import net.xeona.function.IntToBooleanFunction;
+import net.xeona.function.IntUnaryOperator;
+
+/**
+ * Static operations on a {@link MaybeInt} packed into a single {@code long}, for code that must not allocate at all.
+ * <p />
+ * A present value is held in the low 32 bits with bit 32 set; an absent value is {@code 0L}, so a zero initialised
+ * {@code long} field, {@code long[]} or {@link java.util.concurrent.atomic.AtomicLong AtomicLong} starts out absent.
+ * Any {@code long} other than those produced by {@link #pack(int)} and {@link #noInt()} is not a valid encoding.
+ */
+public final class MaybeInts {
+
+	private static final long PRESENT = 1L << 32;
+
+	private static final long VALUE_MASK = 0xFFFFFFFFL;
+
+	private static final long NO_INT = 0L;
+
+	private MaybeInts() {}
+
+	public static long pack(int value) {
+		return PRESENT | (value & VALUE_MASK);
+	}
+
+	public static long noInt() {
+		return NO_INT;
+	}
+
+	public static boolean isPresent(long packed) {
+		return (packed & PRESENT) != 0;
+	}
+
+	public static int get(long packed) {
+		if (!isPresent(packed)) {
+			throw AbsentValueExceptions.noSuchElement();
+		}
+		return (int) packed;
+	}
+
+	public static int orElse(long packed, int other) {
+		return isPresent(packed) ? (int) packed : other;
+	}
+
+	public static <X extends Throwable> long map(long packed, IntUnaryOperator<? extends X> function) throws X {
+		requireNonNull(function, "Function must not be null");
+		return isPresent(packed) ? pack(function.apply((int) packed)) : NO_INT;
+	}
+
+	public static <X extends Throwable> long filter(long packed, IntToBooleanFunction<? extends X> predicate) throws X {
+		requireNonNull(predicate, "Predicate must not be null");
+		return isPresent(packed) && predicate.apply((int) packed) ? packed : NO_INT;
+	}
+
+	/**
+	 * Returns the packed sum of the given packed values, or {@link #noInt()} if either is absent or if the sum
+	 * overflows an int.
+	 * <p />
+	 * As with the other arithmetic operations, the result is computed exactly as a long and then range checked, so
+	 * neither absence nor overflow allocates or throws.
+	 */
+	public static long plus(long augend, long addend) {
+		return isPresent(augend) && isPresent(addend) ? exact((long) (int) augend + (int) addend) : NO_INT;
+	}
+
+	public static long minus(long minuend, long subtrahend) {
+		return isPresent(minuend) && isPresent(subtrahend) ? exact((long) (int) minuend - (int) subtrahend) : NO_INT;
+	}
+
+	public static long times(long multiplicand, long multiplier) {
+		return isPresent(multiplicand) && isPresent(multiplier) ? exact((long) (int) multiplicand * (int) multiplier)
+				: NO_INT;
+	}
+
+	/**
+	 * Returns the packed quotient of the given packed values, rounded toward zero, or {@link #noInt()} if either is
+	 * absent, if the divisor is zero or if the quotient overflows an int.
+	 */
+	public static long dividedBy(long dividend, long divisor) {
+		return isPresent(dividend) && isPresent(divisor) && (int) divisor != 0
+				? exact((long) (int) dividend / (int) divisor) : NO_INT;
+	}
+
+	public static long negate(long packed) {
+		return isPresent(packed) ? exact(-(long) (int) packed) : NO_INT;
+	}
+
+	public static MaybeInt toMaybeInt(long packed) {
+		return isPresent(packed) ? MaybeInt.justInt((int) packed) : MaybeInt.noInt();
+	}
+
+	public static long fromMaybeInt(MaybeInt maybeInt) {
+		return requireNonNull(maybeInt, "MaybeInt must not be null").isPresent() ? pack(maybeInt.get()) : NO_INT;
+	}
+
+	private static long exact(long result) {
+		return (int) result == result ? pack((int) result) : NO_INT;
+	}
+
+}
@@ -2,9 +2,18 @@ package net.xeona.maybe;
 
 import static java.util.Objects.requireNonNull;
 
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.Serializable;
+import java.nio.ByteBuffer;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
+import java.util.OptionalLong;
+import java.util.Spliterator;
+import java.util.function.LongBinaryOperator;
+import java.util.stream.LongStream;
+import java.util.stream.StreamSupport;
 
 import net.xeona.function.LongConsumer;
 import net.xeona.function.LongFunction;
@@ -20,7 +29,23 @@ import net.xeona.function.LongUnaryOperator;
 import net.xeona.function.Provider;
 import net.xeona.function.VoidFunction;
 
-public abstract class MaybeLong implements Collection<Long> {
+public abstract class MaybeLong implements Collection<Long>, Serializable {
+
+	private static final long serialVersionUID = 1L;
+
+	private MaybeLong() {}
+
+	/**
+	 * Serializes this instance as its compact {@link MaybeSerialForm}.
+	 */
+	Object writeReplace() {
+		return isPresent() ? new MaybeSerialForm(MaybeSerialForm.LONG, get())
+				: new MaybeSerialForm(MaybeSerialForm.LONG);
+	}
+
+	private void readObject(ObjectInputStream in) throws InvalidObjectException {
+		throw new InvalidObjectException("Deserialization requires MaybeSerialForm");
+	}
 
 	public abstract boolean isPresent();
 
@@ -61,6 +86,82 @@ public abstract class MaybeLong implements Collection<Long> {
 
 	public abstract <T, X extends Throwable> Maybe<T> map(LongFunction<? extends T, ? extends X> function) throws X;
 
+	/**
+	 * Returns the result of the given function applied to the value, or an absent value of the function's result type
+	 * if this is absent.
+	 * <p />
+	 * Unlike mapping and then flattening, this creates no Maybe wrapping the function's result.
+	 */
+	public abstract <T, X extends Throwable> Maybe<T> flatMap(
+			LongFunction<? extends Maybe<? extends T>, ? extends X> function) throws X;
+
+	public abstract <X extends Throwable> MaybeInt flatMapToInt(
+			LongFunction<? extends MaybeInt, ? extends X> function) throws X;
+
+	public abstract <X extends Throwable> MaybeLong flatMapToLong(
+			LongFunction<? extends MaybeLong, ? extends X> function) throws X;
+
+	public abstract <X extends Throwable> MaybeDouble flatMapToDouble(
+			LongFunction<? extends MaybeDouble, ? extends X> function) throws X;
+
+	/**
+	 * Returns the sum of the value and the given long, or {@link #noLong()} if absent or if the sum overflows.
+	 */
+	public abstract MaybeLong plus(long addend);
+
+	/**
+	 * Returns the sum of the value and the given value, or {@link #noLong()} if either is absent or if the sum
+	 * overflows.
+	 */
+	public abstract MaybeLong plus(MaybeLong addend);
+
+	public abstract MaybeLong minus(long subtrahend);
+
+	public abstract MaybeLong minus(MaybeLong subtrahend);
+
+	public abstract MaybeLong times(long multiplier);
+
+	public abstract MaybeLong times(MaybeLong multiplier);
+
+	/**
+	 * Returns the quotient of the value and the given long, rounded toward zero, or {@link #noLong()} if absent, if
+	 * the divisor is zero or if the quotient overflows.
+	 */
+	public abstract MaybeLong dividedBy(long divisor);
+
+	public abstract MaybeLong dividedBy(MaybeLong divisor);
+
+	/**
+	 * Returns the negation of the value, or {@link #noLong()} if absent or if the value is the minimum long, which has
+	 * no positive counterpart.
+	 */
+	public abstract MaybeLong negate();
+
+	/**
+	 * Returns the given function applied to this value and the other value, or {@link #noLong()} if either is
+	 * absent.
+	 */
+	public final MaybeLong zipWith(MaybeLong other, LongBinaryOperator function) {
+		requireNonNull(other, "Other must not be null");
+		requireNonNull(function, "Function must not be null");
+		return isPresent() && other.isPresent() ? justLong(function.applyAsLong(get(), other.get())) : noLong();
+	}
+
+	/**
+	 * Returns the given function applied to this value and the other value, widened to a long, or
+	 * {@link #noLong()} if either is absent.
+	 */
+	public final MaybeLong zipWith(MaybeInt other, LongBinaryOperator function) {
+		requireNonNull(other, "Other must not be null");
+		requireNonNull(function, "Function must not be null");
+		return isPresent() && other.isPresent() ? justLong(function.applyAsLong(get(), other.get())) : noLong();
+	}
+
+	public abstract LongStream longStream();
+
+	@Override
+	public abstract Spliterator.OfLong spliterator();
+
 	@Override
 	public boolean add(Long elementToAdd) {
 		throw new UnsupportedOperationException();
@@ -75,15 +176,159 @@ public abstract class MaybeLong implements Collection<Long> {
 		}
 	}
 
+	/**
+	 * Returns a {@link MaybeLong} containing the given value.
+	 * <p />
+	 * Values from -128 up to the bound given by the {@code net.xeona.maybe.MaybeLong.cache.high} system property (1023
+	 * by default, and never less than 127) are served from a table of canonical instances, as with {@link
+	 * Long#valueOf(long)}. Values outside of that range are freshly allocated.
+	 */
 	public static MaybeLong justLong(long value) {
-		return new Just(value);
+		return value >= JustCache.LOW && value <= JustCache.HIGH ? JustCache.CACHE[(int) value - JustCache.LOW]
+				: new Just(value);
+	}
+
+	/**
+	 * Parses the given sequence as a signed decimal long, as {@link Long#parseLong(String)} would.
+	 *
+	 * @return A {@link MaybeLong} containing the parsed value, or {@link #noLong()} if the sequence is malformed or out
+	 *         of range
+	 */
+	public static MaybeLong parseLong(CharSequence sequence) {
+		return parseLong(requireNonNull(sequence, "Sequence must not be null"), 0, sequence.length());
+	}
+
+	/**
+	 * Parses the given region of a sequence as a signed decimal long, as {@link Long#parseLong(String)} would,
+	 * without throwing on malformed input and without building an intermediate {@link String}.
+	 *
+	 * @return A {@link MaybeLong} containing the parsed value, or {@link #noLong()} if the region is malformed or out
+	 *         of range
+	 * @throws IndexOutOfBoundsException
+	 *             If the region does not lie within the sequence
+	 */
+	public static MaybeLong parseLong(CharSequence sequence, int offset, int length) {
+		NumberParsing.checkBounds(sequence, offset, length);
+		boolean negative = NumberParsing.isNegative(sequence, offset, length);
+		long negatedMagnitude = NumberParsing.negatedMagnitude(sequence, offset, length,
+				negative ? Long.MIN_VALUE : -Long.MAX_VALUE);
+		return negatedMagnitude != NumberParsing.INVALID_MAGNITUDE
+				? justLong(negative ? negatedMagnitude : -negatedMagnitude) : noLong();
+	}
+
+	/**
+	 * Parses the given region of a byte array as an ASCII signed decimal long, without throwing on malformed input.
+	 *
+	 * @return A {@link MaybeLong} containing the parsed value, or {@link #noLong()} if the region is malformed or out
+	 *         of range
+	 * @throws IndexOutOfBoundsException
+	 *             If the region does not lie within the array
+	 */
+	public static MaybeLong parseLong(byte[] bytes, int offset, int length) {
+		NumberParsing.checkBounds(bytes, offset, length);
+		boolean negative = NumberParsing.isNegative(bytes, offset, length);
+		long negatedMagnitude = NumberParsing.negatedMagnitude(bytes, offset, length,
+				negative ? Long.MIN_VALUE : -Long.MAX_VALUE);
+		return negatedMagnitude != NumberParsing.INVALID_MAGNITUDE
+				? justLong(negative ? negatedMagnitude : -negatedMagnitude) : noLong();
+	}
+
+	/**
+	 * Parses the given region of a buffer as an ASCII signed decimal long, without throwing on malformed input.
+	 * <p />
+	 * Heap and direct buffers are both read in place with absolute gets, and the position of the buffer is unchanged.
+	 *
+	 * @return A {@link MaybeLong} containing the parsed value, or {@link #noLong()} if the region is malformed or out
+	 *         of range
+	 * @throws IndexOutOfBoundsException
+	 *             If the region does not lie within the limit of the buffer
+	 */
+	public static MaybeLong parseLong(ByteBuffer buffer, int index, int length) {
+		NumberParsing.checkBounds(buffer, index, length);
+		boolean negative = NumberParsing.isNegative(buffer, index, length);
+		long negatedMagnitude = NumberParsing.negatedMagnitude(buffer, index, length,
+				negative ? Long.MIN_VALUE : -Long.MAX_VALUE);
+		return negatedMagnitude != NumberParsing.INVALID_MAGNITUDE
+				? justLong(negative ? negatedMagnitude : -negatedMagnitude) : noLong();
+	}
+
+	/**
+	 * Reads a fixed width ASCII signed decimal long field from the position of the given buffer, as
+	 * {@link #parseLong(ByteBuffer, int, int)} would, and then advances the position past the field.
+	 * <p />
+	 * The position is advanced whether or not the field is well formed, so that a whole record can be decoded field by
+	 * field with the buffer itself as the cursor.
+	 *
+	 * @return A {@link MaybeLong} containing the parsed value, or {@link #noLong()} if the field is malformed or out of
+	 *         range
+	 * @throws IndexOutOfBoundsException
+	 *             If fewer than {@code length} bytes remain in the buffer
+	 */
+	public static MaybeLong readLong(ByteBuffer buffer, int length) {
+		int index = requireNonNull(buffer, "Buffer must not be null").position();
+		MaybeLong value = parseLong(buffer, index, length);
+		buffer.position(index + length);
+		return value;
 	}
 
 	public static MaybeLong noLong() {
 		return NoLong.instance();
 	}
 
-	private static class Just extends MaybeLong {
+	public static MaybeLong fromOptionalLong(OptionalLong optionalLong) {
+		return requireNonNull(optionalLong, "Optional must not be null").isPresent()
+				? justLong(optionalLong.getAsLong()) : noLong();
+	}
+
+	public static OptionalLong toOptionalLong(MaybeLong maybe) {
+		return requireNonNull(maybe, "Maybe must not be null").isPresent() ? OptionalLong.of(maybe.get())
+				: OptionalLong.empty();
+	}
+
+	/**
+	 * Returns the sum of the given longs, or {@link #noLong()} if it overflows.
+	 * <p />
+	 * As with the other arithmetic operations, overflow is detected with the same tests as {@link Math#addExact(long,
+	 * long)} and its siblings, so it costs a branch rather than a thrown {@link ArithmeticException}.
+	 */
+	public static MaybeLong plus(long augend, long addend) {
+		long sum = augend + addend;
+		return ((augend ^ sum) & (addend ^ sum)) >= 0 ? justLong(sum) : noLong();
+	}
+
+	public static MaybeLong minus(long minuend, long subtrahend) {
+		long difference = minuend - subtrahend;
+		return ((minuend ^ subtrahend) & (minuend ^ difference)) >= 0 ? justLong(difference) : noLong();
+	}
+
+	public static MaybeLong times(long multiplicand, long multiplier) {
+		long product = multiplicand * multiplier;
+		if ((Math.abs(multiplicand) | Math.abs(multiplier)) >>> 31 != 0 && (multiplier != 0
+				&& product / multiplier != multiplicand || multiplicand == Long.MIN_VALUE && multiplier == -1)) {
+			return noLong();
+		}
+		return justLong(product);
+	}
+
+	/**
+	 * Returns the quotient of the given longs, rounded toward zero, or {@link #noLong()} if the divisor is zero or if
+	 * the quotient overflows.
+	 */
+	public static MaybeLong dividedBy(long dividend, long divisor) {
+		return divisor != 0 && (dividend != Long.MIN_VALUE || divisor != -1) ? justLong(dividend / divisor) : noLong();
+	}
+
+	/**
+	 * Returns an empty pipeline over MaybeLong inputs, to which map and filter stages can be added and later run in one
+	 * pass on each input.
+	 */
+	public static MaybeLongPipeline<MaybeLong> pipeline() {
+		return new MaybeLongPipeline<>(PipelineStages.source(PipelineStages.LONG));
+	}
+
+	private static final class Just extends MaybeLong {
+
+		private static final long serialVersionUID = 1L;
 
 		private final long value;
 
@@ -181,6 +426,84 @@ public abstract class MaybeLong implements Collection<Long> {
 			return Maybe.maybe(function.apply(value));
 		}
 
+		@Override
+		@SuppressWarnings("unchecked")
+		public <T, X extends Throwable> Maybe<T> flatMap(
+				LongFunction<? extends Maybe<? extends T>, ? extends X> function) throws X {
+			return (Maybe<T>) requireNonNull(requireNonNull(function, "Function must not be null").apply(value),
+					"Result of function must not be null");
+		}
+
+		@Override
+		public <X extends Throwable> MaybeInt flatMapToInt(
+				LongFunction<? extends MaybeInt, ? extends X> function) throws X {
+			return requireNonNull(requireNonNull(function, "Function must not be null").apply(value),
+					"Result of function must not be null");
+		}
+
+		@Override
+		public <X extends Throwable> MaybeLong flatMapToLong(
+				LongFunction<? extends MaybeLong, ? extends X> function) throws X {
+			return requireNonNull(requireNonNull(function, "Function must not be null").apply(value),
+					"Result of function must not be null");
+		}
+
+		@Override
+		public <X extends Throwable> MaybeDouble flatMapToDouble(
+				LongFunction<? extends MaybeDouble, ? extends X> function) throws X {
+			return requireNonNull(requireNonNull(function, "Function must not be null").apply(value),
+					"Result of function must not be null");
+		}
+
+		@Override
+		public MaybeLong plus(long addend) {
+			return MaybeLong.plus(value, addend);
+		}
+
+		@Override
+		public MaybeLong plus(MaybeLong addend) {
+			return requireNonNull(addend, "Addend must not be null").isPresent()
+					? MaybeLong.plus(value, addend.get()) : noLong();
+		}
+
+		@Override
+		public MaybeLong minus(long subtrahend) {
+			return MaybeLong.minus(value, subtrahend);
+		}
+
+		@Override
+		public MaybeLong minus(MaybeLong subtrahend) {
+			return requireNonNull(subtrahend, "Subtrahend must not be null").isPresent()
+					? MaybeLong.minus(value, subtrahend.get()) : noLong();
+		}
+
+		@Override
+		public MaybeLong times(long multiplier) {
+			return MaybeLong.times(value, multiplier);
+		}
+
+		@Override
+		public MaybeLong times(MaybeLong multiplier) {
+			return requireNonNull(multiplier, "Multiplier must not be null").isPresent()
+					? MaybeLong.times(value, multiplier.get()) : noLong();
+		}
+
+		@Override
+		public MaybeLong dividedBy(long divisor) {
+			return MaybeLong.dividedBy(value, divisor);
+		}
+
+		@Override
+		public MaybeLong dividedBy(MaybeLong divisor) {
+			return requireNonNull(divisor, "Divisor must not be null").isPresent()
+					? MaybeLong.dividedBy(value, divisor.get()) : noLong();
+		}
+
+		@Override
+		public MaybeLong negate() {
+			return value != Long.MIN_VALUE ? justLong(-value) : noLong();
+		}
+
 		@Override
 		public boolean isEmpty() {
 			return false;
@@ -219,6 +542,11 @@ public abstract class MaybeLong implements Collection<Long> {
 			};
 		}
 
+		@Override
+		public Spliterator.OfLong spliterator() {
+			return MaybeSpliterators.justLong(value);
+		}
+
 		@Override
 		public Object[] toArray() {
 			return new Object[] { value };
@@ -263,6 +591,11 @@ public abstract class MaybeLong implements Collection<Long> {
 
 		}
 
+		@Override
+		public LongStream longStream() {
+			return StreamSupport.longStream(MaybeSpliterators.justLong(value), false);
+		}
+
 		@Override
 		public int hashCode() {
 			return Long.hashCode(value);
@@ -280,7 +613,29 @@ public abstract class MaybeLong implements Collection<Long> {
 
 	}
 
-	private static class NoLong extends MaybeLong {
+	private static final class JustCache {
+
+		private static final String HIGH_PROPERTY = "net.xeona.maybe.MaybeLong.cache.high";
+
+		private static final int LOW = -128;
+		private static final int HIGH = Math.min(Math.max(Integer.getInteger(HIGH_PROPERTY, 1023), 127),
+				Integer.MAX_VALUE + LOW - 1);
+
+		private static final Just[] CACHE = new Just[HIGH - LOW + 1];
+
+		static {
+			for (int index = 0; index < CACHE.length; index++) {
+				CACHE[index] = new Just(LOW + index);
+			}
+		}
+
+		private JustCache() {}
+
+	}
+
+	private static final class NoLong extends MaybeLong {
+
+		private static final long serialVersionUID = 1L;
 
 		private static final NoLong INSTANCE = new NoLong();
 
@@ -293,7 +648,7 @@ public abstract class MaybeLong implements Collection<Long> {
 
 		@Override
 		public long get() {
-			throw new NoSuchElementException();
+			throw AbsentValueExceptions.noSuchElement();
 		}
 
 		@Override
@@ -376,6 +731,79 @@ public abstract class MaybeLong implements Collection<Long> {
 			return Maybe.nothing();
 		}
 
+		@Override
+		public <T, X extends Throwable> Maybe<T> flatMap(
+				LongFunction<? extends Maybe<? extends T>, ? extends X> function) throws X {
+			return Maybe.nothing();
+		}
+
+		@Override
+		public <X extends Throwable> MaybeInt flatMapToInt(
+				LongFunction<? extends MaybeInt, ? extends X> function) throws X {
+			return MaybeInt.noInt();
+		}
+
+		@Override
+		public <X extends Throwable> MaybeLong flatMapToLong(
+				LongFunction<? extends MaybeLong, ? extends X> function) throws X {
+			return MaybeLong.noLong();
+		}
+
+		@Override
+		public <X extends Throwable> MaybeDouble flatMapToDouble(
+				LongFunction<? extends MaybeDouble, ? extends X> function) throws X {
+			return MaybeDouble.nothing();
+		}
+
+		@Override
+		public MaybeLong plus(long addend) {
+			return this;
+		}
+
+		@Override
+		public MaybeLong plus(MaybeLong addend) {
+			requireNonNull(addend, "Addend must not be null");
+			return this;
+		}
+
+		@Override
+		public MaybeLong minus(long subtrahend) {
+			return this;
+		}
+
+		@Override
+		public MaybeLong minus(MaybeLong subtrahend) {
+			requireNonNull(subtrahend, "Subtrahend must not be null");
+			return this;
+		}
+
+		@Override
+		public MaybeLong times(long multiplier) {
+			return this;
+		}
+
+		@Override
+		public MaybeLong times(MaybeLong multiplier) {
+			requireNonNull(multiplier, "Multiplier must not be null");
+			return this;
+		}
+
+		@Override
+		public MaybeLong dividedBy(long divisor) {
+			return this;
+		}
+
+		@Override
+		public MaybeLong dividedBy(MaybeLong divisor) {
+			requireNonNull(divisor, "Divisor must not be null");
+			return this;
+		}
+
+		@Override
+		public MaybeLong negate() {
+			return this;
+		}
+
 		@Override
 		public int size() {
 			// TODO Auto-generated method stub
@@ -400,6 +828,11 @@ public abstract class MaybeLong implements Collection<Long> {
 			return null;
 		}
 
+		@Override
+		public Spliterator.OfLong spliterator() {
+			return MaybeSpliterators.noLong();
+		}
+
 		@Override
 		public Object[] toArray() {
 			// TODO Auto-generated method stub
@@ -442,6 +875,11 @@ public abstract class MaybeLong implements Collection<Long> {
 
 		}
 
+		@Override
+		public LongStream longStream() {
+			return LongStream.empty();
+		}
+
 		@Override
 		public int hashCode() {
 			return 0;
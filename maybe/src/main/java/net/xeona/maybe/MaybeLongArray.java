@@ -0,0 +1,286 @@
+package net.xeona.maybe;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+
+import net.xeona.function.LongConsumer;
+import net.xeona.function.LongToBooleanFunction;
+
+/**
+ * A fixed length array of optional longs, held as a {@code long[]} of values and a bitmap of which elements are
+ * present, rather than as a {@code MaybeLong[]} with an object per element.
+ * <p />
+ * Every element starts out absent. The value of an absent element is not observable, so clearing an element does not
+ * touch the value array.
+ */
+public final class MaybeLongArray {
+
+	private final long[] values;
+
+	private final long[] presence;
+
+	public MaybeLongArray(int length) {
+		if (length < 0) {
+			throw new IllegalArgumentException("Length must not be negative: " + length);
+		}
+		values = new long[length];
+		presence = PresenceBits.forLength(length);
+	}
+
+	public int length() {
+		return values.length;
+	}
+
+	public boolean isPresent(int index) {
+		PresenceBits.checkIndex(index, values.length);
+		return PresenceBits.isSet(presence, index);
+	}
+
+	public MaybeLong get(int index) {
+		return isPresent(index) ? MaybeLong.justLong(values[index]) : MaybeLong.noLong();
+	}
+
+	public long getOrElse(int index, long other) {
+		return isPresent(index) ? values[index] : other;
+	}
+
+	public void set(int index, long value) {
+		PresenceBits.checkIndex(index, values.length);
+		values[index] = value;
+		PresenceBits.set(presence, index);
+	}
+
+	public void set(int index, MaybeLong value) {
+		if (requireNonNull(value, "Value must not be null").isPresent()) {
+			set(index, value.get());
+		} else {
+			clear(index);
+		}
+	}
+
+	public void clear(int index) {
+		PresenceBits.checkIndex(index, values.length);
+		PresenceBits.clear(presence, index);
+	}
+
+	public void clear() {
+		Arrays.fill(presence, 0);
+	}
+
+	public void fill(long value) {
+		fill(0, values.length, value);
+	}
+
+	public void fill(int fromIndex, int toIndex, long value) {
+		PresenceBits.checkRange(fromIndex, toIndex, values.length);
+		Arrays.fill(values, fromIndex, toIndex, value);
+		PresenceBits.set(presence, fromIndex, toIndex);
+	}
+
+	public void clear(int fromIndex, int toIndex) {
+		PresenceBits.checkRange(fromIndex, toIndex, values.length);
+		PresenceBits.clear(presence, fromIndex, toIndex);
+	}
+
+	/**
+	 * Passes each present value to the given consumer in index order, skipping absent elements a whole word of 64 at a
+	 * time.
+	 */
+	public <X extends Throwable> void forEachPresent(LongConsumer<? extends X> consumer) throws X {
+		requireNonNull(consumer, "Consumer must not be null");
+		for (int word = 0; word < presence.length; word++) {
+			for (long bits = presence[word]; bits != 0; bits &= bits - 1) {
+				consumer.consume(values[PresenceBits.indexOf(word, bits)]);
+			}
+		}
+	}
+
+	/**
+	 * Returns the sum of the present values, wrapping on overflow as {@link java.util.stream.LongStream#sum()} does, or
+	 * {@link MaybeLong#noLong()} if no element is present.
+	 */
+	public MaybeLong sum() {
+		return presentCount() > 0 ? MaybeLong.justLong(presentSum()) : MaybeLong.noLong();
+	}
+
+	/**
+	 * Returns the least present value, or {@link MaybeLong#noLong()} if no element is present.
+	 */
+	public MaybeLong min() {
+		if (presentCount() == 0) {
+			return MaybeLong.noLong();
+		}
+		long min = Long.MAX_VALUE;
+		for (int word = 0; word < presence.length; word++) {
+			long bits = presence[word];
+			if (PresenceBits.isFull(bits)) {
+				for (int index = PresenceBits.wordStart(word), end = index + Long.SIZE; index < end; index++) {
+					min = Math.min(min, values[index]);
+				}
+			} else {
+				for (; bits != 0; bits &= bits - 1) {
+					min = Math.min(min, values[PresenceBits.indexOf(word, bits)]);
+				}
+			}
+		}
+		return MaybeLong.justLong(min);
+	}
+
+	/**
+	 * Returns the greatest present value, or {@link MaybeLong#noLong()} if no element is present.
+	 */
+	public MaybeLong max() {
+		if (presentCount() == 0) {
+			return MaybeLong.noLong();
+		}
+		long max = Long.MIN_VALUE;
+		for (int word = 0; word < presence.length; word++) {
+			long bits = presence[word];
+			if (PresenceBits.isFull(bits)) {
+				for (int index = PresenceBits.wordStart(word), end = index + Long.SIZE; index < end; index++) {
+					max = Math.max(max, values[index]);
+				}
+			} else {
+				for (; bits != 0; bits &= bits - 1) {
+					max = Math.max(max, values[PresenceBits.indexOf(word, bits)]);
+				}
+			}
+		}
+		return MaybeLong.justLong(max);
+	}
+
+	/**
+	 * Returns the arithmetic mean of the present values, or {@link MaybeDouble#nothing()} if no element is present.
+	 * <p />
+	 * Unlike {@link #sum()} the mean does not wrap: the present values are summed exactly in 128 bits before being
+	 * divided, so columns of large values such as timestamps average correctly.
+	 */
+	public MaybeDouble average() {
+		int presentCount = presentCount();
+		if (presentCount == 0) {
+			return MaybeDouble.nothing();
+		}
+		long low = 0;
+		long high = 0;
+		for (int word = 0; word < presence.length; word++) {
+			long bits = presence[word];
+			if (PresenceBits.isFull(bits)) {
+				for (int index = PresenceBits.wordStart(word), end = index + Long.SIZE; index < end; index++) {
+					long value = values[index];
+					long sum = low + value;
+					high += (value >> 63) + (Long.compareUnsigned(sum, low) < 0 ? 1 : 0);
+					low = sum;
+				}
+			} else {
+				for (; bits != 0; bits &= bits - 1) {
+					long value = values[PresenceBits.indexOf(word, bits)];
+					long sum = low + value;
+					high += (value >> 63) + (Long.compareUnsigned(sum, low) < 0 ? 1 : 0);
+					low = sum;
+				}
+			}
+		}
+		return MaybeDouble.justDouble(toDouble(high, low) / presentCount);
+	}
+
+	/**
+	 * Returns the number of present values that match the given predicate.
+	 */
+	public <X extends Throwable> int count(LongToBooleanFunction<? extends X> predicate) throws X {
+		requireNonNull(predicate, "Predicate must not be null");
+		int count = 0;
+		for (int word = 0; word < presence.length; word++) {
+			long bits = presence[word];
+			if (PresenceBits.isFull(bits)) {
+				for (int index = PresenceBits.wordStart(word), end = index + Long.SIZE; index < end; index++) {
+					if (predicate.apply(values[index])) {
+						count++;
+					}
+				}
+			} else {
+				for (; bits != 0; bits &= bits - 1) {
+					if (predicate.apply(values[PresenceBits.indexOf(word, bits)])) {
+						count++;
+					}
+				}
+			}
+		}
+		return count;
+	}
+
+	public int presentCount() {
+		return PresenceBits.count(presence);
+	}
+
+	private static double toDouble(long high, long low) {
+		if (high == low >> 63) {
+			return low;
+		}
+		double unsignedLow = (double) (low >>> 1) * 2.0 + (low & 1);
+		return high * 0x1p64 + unsignedLow;
+	}
+
+	private long presentSum() {
+		long sum = 0;
+		for (int word = 0; word < presence.length; word++) {
+			long bits = presence[word];
+			if (PresenceBits.isFull(bits)) {
+				for (int index = PresenceBits.wordStart(word), end = index + Long.SIZE; index < end; index++) {
+					sum += values[index];
+				}
+			} else {
+				for (; bits != 0; bits &= bits - 1) {
+					sum += values[PresenceBits.indexOf(word, bits)];
+				}
+			}
+		}
+		return sum;
+	}
+
+	@Override
+	public int hashCode() {
+		int hashCode = 1;
+		for (int index = 0; index < values.length; index++) {
+			hashCode = 31 * hashCode + (PresenceBits.isSet(presence, index) ? Long.hashCode(values[index]) : 0);
+		}
+		return hashCode;
+	}
+
+	@Override
+	public boolean equals(Object other) {
+		if (other == this) {
+			return true;
+		}
+		if (!(other instanceof MaybeLongArray)) {
+			return false;
+		}
+		MaybeLongArray otherArray = (MaybeLongArray) other;
+		if (otherArray.values.length != values.length || !Arrays.equals(otherArray.presence, presence)) {
+			return false;
+		}
+		for (int index = 0; index < values.length; index++) {
+			if (PresenceBits.isSet(presence, index) && otherArray.values[index] != values[index]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder builder = new StringBuilder("MaybeLongArray [");
+		for (int index = 0; index < values.length; index++) {
+			if (index > 0) {
+				builder.append(", ");
+			}
+			if (PresenceBits.isSet(presence, index)) {
+				builder.append(values[index]);
+			} else {
+				builder.append('-');
+			}
+		}
+		return builder.append(']').toString();
+	}
+
+}
@@ -0,0 +1,61 @@
+package net.xeona.maybe;
+
+import static java.util.Objects.requireNonNull;
+
+import net.xeona.function.LongConsumer;
+import net.xeona.function.LongFunction;
+import net.xeona.function.LongToBooleanFunction;
+import net.xeona.function.LongToDoubleFunction;
+import net.xeona.function.LongToIntFunction;
+import net.xeona.function.LongUnaryOperator;
+
+/**
+ * A {@link MaybePipeline} that produces an optional long, started by {@link MaybeLong#pipeline()} or by converting
+ * another pipeline.
+ * <p />
+ * The value is held unboxed between stages, and {@link #orElse(Object, long)} returns it without creating a MaybeLong.
+ *
+ * @param <I>
+ *            The type of the input Maybe
+ */
+public final class MaybeLongPipeline<I> {
+
+	private final PipelineStages stages;
+
+	MaybeLongPipeline(PipelineStages stages) {
+		this.stages = stages;
+	}
+
+	public MaybeLongPipeline<I> filter(LongToBooleanFunction<? extends RuntimeException> predicate) {
+		return new MaybeLongPipeline<>(stages.filter(predicate));
+	}
+
+	public MaybeIntPipeline<I> mapToInt(LongToIntFunction<? extends RuntimeException> function) {
+		return new MaybeIntPipeline<>(stages.map(PipelineStages.INT, function));
+	}
+
+	public MaybeLongPipeline<I> mapToLong(LongUnaryOperator<? extends RuntimeException> function) {
+		return new MaybeLongPipeline<>(stages.map(PipelineStages.LONG, function));
+	}
+
+	public MaybeDoublePipeline<I> mapToDouble(LongToDoubleFunction<? extends RuntimeException> function) {
+		return new MaybeDoublePipeline<>(stages.map(PipelineStages.DOUBLE, function));
+	}
+
+	public <T> MaybePipeline<I, T> map(LongFunction<? extends T, ? extends RuntimeException> function) {
+		return new MaybePipeline<>(stages.map(PipelineStages.REFERENCE, function));
+	}
+
+	public MaybeLong toMaybeLong(I input) {
+		return (MaybeLong) stages.evaluate(input, PipelineStages.TO_MAYBE, null);
+	}
+
+	public long orElse(I input, long other) {
+		return stages.evaluateBits(input, other);
+	}
+
+	public void ifPresent(I input, LongConsumer<? extends RuntimeException> consumer) {
+		stages.evaluate(input, PipelineStages.IF_PRESENT, requireNonNull(consumer, "Consumer must not be null"));
+	}
+
+}
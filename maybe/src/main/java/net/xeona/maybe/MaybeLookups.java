@@ -0,0 +1,140 @@
+package net.xeona.maybe;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+
+/**
+ * Lookups on JDK collections and primitive arrays that return a Maybe directly, rather than {@code null}, an
+ * {@link java.util.Optional Optional} or an {@link IndexOutOfBoundsException}.
+ * <p />
+ * Collections cannot tell a missing element from a {@code null} one through these lookups, so a {@code null} element
+ * or value is returned as absent. Lookups on primitive arrays never allocate for an index out of range, and otherwise
+ * allocate only as the type's own {@code just} factory does.
+ */
+public final class MaybeLookups {
+
+	private MaybeLookups() {}
+
+	/**
+	 * Returns the element at the given index, or {@link Maybe#nothing()} if the index is out of range or the element is
+	 * {@code null}.
+	 */
+	public static <T> Maybe<T> get(List<? extends T> list, int index) {
+		int size = requireNonNull(list, "List must not be null").size();
+		return index >= 0 && index < size ? Maybe.maybe(list.get(index)) : Maybe.nothing();
+	}
+
+	public static <T> Maybe<T> first(List<? extends T> list) {
+		return requireNonNull(list, "List must not be null").isEmpty() ? Maybe.nothing() : Maybe.maybe(list.get(0));
+	}
+
+	public static <T> Maybe<T> last(List<? extends T> list) {
+		int size = requireNonNull(list, "List must not be null").size();
+		return size == 0 ? Maybe.nothing() : Maybe.maybe(list.get(size - 1));
+	}
+
+	/**
+	 * Returns the value mapped to the given key, or {@link Maybe#nothing()} if there is none or it is {@code null}.
+	 */
+	public static <V> Maybe<V> get(Map<?, ? extends V> map, Object key) {
+		return Maybe.maybe(requireNonNull(map, "Map must not be null").get(key));
+	}
+
+	public static <T> Maybe<T> peekFirst(Deque<? extends T> deque) {
+		return Maybe.maybe(requireNonNull(deque, "Deque must not be null").peekFirst());
+	}
+
+	public static <T> Maybe<T> peekLast(Deque<? extends T> deque) {
+		return Maybe.maybe(requireNonNull(deque, "Deque must not be null").peekLast());
+	}
+
+	public static <T> Maybe<T> pollFirst(Deque<? extends T> deque) {
+		return Maybe.maybe(requireNonNull(deque, "Deque must not be null").pollFirst());
+	}
+
+	public static <T> Maybe<T> pollLast(Deque<? extends T> deque) {
+		return Maybe.maybe(requireNonNull(deque, "Deque must not be null").pollLast());
+	}
+
+	/**
+	 * Returns the greatest key less than or equal to the given key, or {@link Maybe#nothing()} if there is none.
+	 */
+	public static <K> Maybe<K> floorKey(NavigableMap<K, ?> map, K key) {
+		return Maybe.maybe(requireNonNull(map, "Map must not be null").floorKey(key));
+	}
+
+	/**
+	 * Returns the least key greater than or equal to the given key, or {@link Maybe#nothing()} if there is none.
+	 */
+	public static <K> Maybe<K> ceilingKey(NavigableMap<K, ?> map, K key) {
+		return Maybe.maybe(requireNonNull(map, "Map must not be null").ceilingKey(key));
+	}
+
+	/**
+	 * Returns the value of the greatest key less than or equal to the given key, or {@link Maybe#nothing()} if there is
+	 * none or its value is {@code null}.
+	 */
+	public static <K, V> Maybe<V> floorValue(NavigableMap<K, ? extends V> map, K key) {
+		Map.Entry<K, ? extends V> entry = requireNonNull(map, "Map must not be null").floorEntry(key);
+		return entry != null ? Maybe.maybe(entry.getValue()) : Maybe.nothing();
+	}
+
+	/**
+	 * Returns the value of the least key greater than or equal to the given key, or {@link Maybe#nothing()} if there is
+	 * none or its value is {@code null}.
+	 */
+	public static <K, V> Maybe<V> ceilingValue(NavigableMap<K, ? extends V> map, K key) {
+		Map.Entry<K, ? extends V> entry = requireNonNull(map, "Map must not be null").ceilingEntry(key);
+		return entry != null ? Maybe.maybe(entry.getValue()) : Maybe.nothing();
+	}
+
+	public static MaybeInt get(int[] array, int index) {
+		int length = requireNonNull(array, "Array must not be null").length;
+		return index >= 0 && index < length ? MaybeInt.justInt(array[index]) : MaybeInt.noInt();
+	}
+
+	public static MaybeInt first(int[] array) {
+		return requireNonNull(array, "Array must not be null").length > 0
+				? MaybeInt.justInt(array[0]) : MaybeInt.noInt();
+	}
+
+	public static MaybeInt last(int[] array) {
+		return requireNonNull(array, "Array must not be null").length > 0
+				? MaybeInt.justInt(array[array.length - 1]) : MaybeInt.noInt();
+	}
+
+	public static MaybeLong get(long[] array, int index) {
+		int length = requireNonNull(array, "Array must not be null").length;
+		return index >= 0 && index < length ? MaybeLong.justLong(array[index]) : MaybeLong.noLong();
+	}
+
+	public static MaybeLong first(long[] array) {
+		return requireNonNull(array, "Array must not be null").length > 0
+				? MaybeLong.justLong(array[0]) : MaybeLong.noLong();
+	}
+
+	public static MaybeLong last(long[] array) {
+		return requireNonNull(array, "Array must not be null").length > 0
+				? MaybeLong.justLong(array[array.length - 1]) : MaybeLong.noLong();
+	}
+
+	public static MaybeDouble get(double[] array, int index) {
+		int length = requireNonNull(array, "Array must not be null").length;
+		return index >= 0 && index < length ? MaybeDouble.justDouble(array[index]) : MaybeDouble.nothing();
+	}
+
+	public static MaybeDouble first(double[] array) {
+		return requireNonNull(array, "Array must not be null").length > 0
+				? MaybeDouble.justDouble(array[0]) : MaybeDouble.nothing();
+	}
+
+	public static MaybeDouble last(double[] array) {
+		return requireNonNull(array, "Array must not be null").length > 0
+				? MaybeDouble.justDouble(array[array.length - 1]) : MaybeDouble.nothing();
+	}
+
+}
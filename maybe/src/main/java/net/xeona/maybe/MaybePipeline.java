@@ -0,0 +1,68 @@
+package net.xeona.maybe;
+
+import static java.util.Objects.requireNonNull;
+
+import net.xeona.function.Consumer;
+import net.xeona.function.Function;
+import net.xeona.function.ToBooleanFunction;
+import net.xeona.function.ToDoubleFunction;
+import net.xeona.function.ToIntFunction;
+import net.xeona.function.ToLongFunction;
+
+/**
+ * A reusable chain of map and filter stages from an input Maybe to an optional value, started by
+ * {@link Maybe#pipeline()} or by converting a primitive pipeline.
+ * <p />
+ * Adding a stage only records it, and returns a new pipeline. The stages run when a terminal operation is applied to
+ * an input, all in one pass, without creating a Maybe for any intermediate result, and stop at the first absent result.
+ * As with {@link Maybe#map(Function)}, a map stage that returns {@code null} makes the result absent. A pipeline is
+ * immutable, so it may be built once and applied to any number of inputs from any number of threads.
+ *
+ * @param <I>
+ *            The type of the input Maybe
+ * @param <T>
+ *            The type of the value produced by this pipeline
+ */
+public final class MaybePipeline<I, T> {
+
+	private final PipelineStages stages;
+
+	MaybePipeline(PipelineStages stages) {
+		this.stages = stages;
+	}
+
+	public MaybePipeline<I, T> filter(ToBooleanFunction<? super T, ? extends RuntimeException> predicate) {
+		return new MaybePipeline<>(stages.filter(predicate));
+	}
+
+	public <R> MaybePipeline<I, R> map(Function<? super T, ? extends R, ? extends RuntimeException> function) {
+		return new MaybePipeline<>(stages.map(PipelineStages.REFERENCE, function));
+	}
+
+	public MaybeIntPipeline<I> mapToInt(ToIntFunction<? super T, ? extends RuntimeException> function) {
+		return new MaybeIntPipeline<>(stages.map(PipelineStages.INT, function));
+	}
+
+	public MaybeLongPipeline<I> mapToLong(ToLongFunction<? super T, ? extends RuntimeException> function) {
+		return new MaybeLongPipeline<>(stages.map(PipelineStages.LONG, function));
+	}
+
+	public MaybeDoublePipeline<I> mapToDouble(ToDoubleFunction<? super T, ? extends RuntimeException> function) {
+		return new MaybeDoublePipeline<>(stages.map(PipelineStages.DOUBLE, function));
+	}
+
+	@SuppressWarnings("unchecked")
+	public Maybe<T> toMaybe(I input) {
+		return (Maybe<T>) stages.evaluate(input, PipelineStages.TO_MAYBE, null);
+	}
+
+	@SuppressWarnings("unchecked")
+	public T orElse(I input, T other) {
+		return (T) stages.evaluate(input, PipelineStages.OR_ELSE, other);
+	}
+
+	public void ifPresent(I input, Consumer<? super T, ? extends RuntimeException> consumer) {
+		stages.evaluate(input, PipelineStages.IF_PRESENT, requireNonNull(consumer, "Consumer must not be null"));
+	}
+
+}
@@ -0,0 +1,150 @@
+package net.xeona.maybe;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+
+/**
+ * The serialized form of every Maybe type.
+ * <p />
+ * Each type replaces itself with an instance of this class when written, so the stream holds one header byte, giving
+ * the type and whether a value is present, followed by the raw value if there is one. On reading, the header and value
+ * resolve back to the canonical instance returned by the type's own factory methods, so absent values and cached
+ * present values deserialize to the same instances that are already in use.
+ */
+final class MaybeSerialForm implements Externalizable {
+
+	private static final long serialVersionUID = 1L;
+
+	static final byte REFERENCE = 0;
+	static final byte BOOLEAN = 1;
+	static final byte BYTE = 2;
+	static final byte SHORT = 3;
+	static final byte CHAR = 4;
+	static final byte INT = 5;
+	static final byte LONG = 6;
+	static final byte FLOAT = 7;
+	static final byte DOUBLE = 8;
+
+	private static final int PRESENT = 1;
+
+	private byte header;
+
+	private long bits;
+
+	private Object value;
+
+	private Object resolved;
+
+	/**
+	 * Used only by deserialization.
+	 */
+	public MaybeSerialForm() {}
+
+	MaybeSerialForm(byte type) {
+		this.header = (byte) (type << 1);
+	}
+
+	MaybeSerialForm(byte type, long bits) {
+		this.header = (byte) (type << 1 | PRESENT);
+		this.bits = bits;
+	}
+
+	MaybeSerialForm(Object value) {
+		this.header = (byte) (REFERENCE << 1 | PRESENT);
+		this.value = value;
+	}
+
+	@Override
+	public void writeExternal(ObjectOutput out) throws IOException {
+		out.writeByte(header);
+		if ((header & PRESENT) != 0) {
+			switch (header >>> 1) {
+				case REFERENCE:
+					out.writeObject(value);
+					break;
+				case BOOLEAN:
+				case BYTE:
+					out.writeByte((int) bits);
+					break;
+				case SHORT:
+				case CHAR:
+					out.writeShort((int) bits);
+					break;
+				case INT:
+				case FLOAT:
+					out.writeInt((int) bits);
+					break;
+				default:
+					out.writeLong(bits);
+			}
+		}
+	}
+
+	@Override
+	public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException {
+		int header = in.readByte();
+		int type = header >>> 1;
+		if ((header & ~(0xF << 1 | PRESENT)) != 0 || type > DOUBLE) {
+			throw new InvalidObjectException("Unknown serialized Maybe header: " + header);
+		}
+		resolved = (header & PRESENT) != 0 ? readPresent(in, type) : absent(type);
+	}
+
+	private Object readResolve() {
+		return resolved;
+	}
+
+	private static Object readPresent(ObjectInput in, int type) throws IOException, ClassNotFoundException {
+		switch (type) {
+			case REFERENCE:
+				Object value = in.readObject();
+				if (value == null) {
+					throw new InvalidObjectException("Present value must not be null");
+				}
+				return Maybe.just(value);
+			case BOOLEAN:
+				return MaybeBoolean.justBoolean(in.readByte() != 0);
+			case BYTE:
+				return MaybeByte.justByte(in.readByte());
+			case SHORT:
+				return MaybeShort.justShort(in.readShort());
+			case CHAR:
+				return MaybeChar.justChar(in.readChar());
+			case INT:
+				return MaybeInt.justInt(in.readInt());
+			case LONG:
+				return MaybeLong.justLong(in.readLong());
+			case FLOAT:
+				return MaybeFloat.justFloat(Float.intBitsToFloat(in.readInt()));
+			default:
+				return MaybeDouble.justDouble(Double.longBitsToDouble(in.readLong()));
+		}
+	}
+
+	private static Object absent(int type) {
+		switch (type) {
+			case REFERENCE:
+				return Maybe.nothing();
+			case BOOLEAN:
+				return MaybeBoolean.noBoolean();
+			case BYTE:
+				return MaybeByte.noByte();
+			case SHORT:
+				return MaybeShort.noShort();
+			case CHAR:
+				return MaybeChar.nothing();
+			case INT:
+				return MaybeInt.noInt();
+			case LONG:
+				return MaybeLong.noLong();
+			case FLOAT:
+				return MaybeFloat.nothing();
+			default:
+				return MaybeDouble.nothing();
+		}
+	}
+
+}
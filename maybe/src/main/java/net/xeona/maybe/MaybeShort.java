@@ -3,6 +3,11 @@ package net.xeona.maybe;
 import static java.util.Objects.requireNonNull;
 import static net.xeona.maybe.MaybeBoolean.justBoolean;
 
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.Serializable;
+import java.util.OptionalInt;
+
 import net.xeona.function.Provider;
 import net.xeona.function.ShortConsumer;
 import net.xeona.function.ShortFunction;
@@ -13,7 +18,23 @@ import net.xeona.function.ShortToCharFunction;
 import net.xeona.function.ShortToIntFunction;
 import net.xeona.function.ShortUnaryOperator;
 
-public abstract class MaybeShort {
+public abstract class MaybeShort implements Serializable {
+
+	private static final long serialVersionUID = 1L;
+
+	private MaybeShort() {}
+
+	/**
+	 * Serializes this instance as its compact {@link MaybeSerialForm}.
+	 */
+	Object writeReplace() {
+		return isPresent() ? new MaybeSerialForm(MaybeSerialForm.SHORT, get())
+				: new MaybeSerialForm(MaybeSerialForm.SHORT);
+	}
+
+	private void readObject(ObjectInputStream in) throws InvalidObjectException {
+		throw new InvalidObjectException("Deserialization requires MaybeSerialForm");
+	}
 
 	public abstract boolean isPresent();
 
@@ -28,7 +49,7 @@ public abstract class MaybeShort {
 
 	public abstract <X extends Throwable> void ifPresent(ShortConsumer<? extends X> consumer) throws X;
 
-	public abstract <X extends Throwable> MaybeShort filter(ShortToBooleanFunction<? extends X> predicate);
+	public abstract <X extends Throwable> MaybeShort filter(ShortToBooleanFunction<? extends X> predicate) throws X;
 
 	public abstract <X extends Throwable> MaybeBoolean mapToBoolean(ShortToBooleanFunction<? extends X> function)
 			throws X;
@@ -43,19 +64,65 @@ public abstract class MaybeShort {
 
 	public abstract <T, X extends Throwable> Maybe<T> map(ShortFunction<? extends T, ? extends X> function) throws X;
 
+	/**
+	 * Returns a {@link MaybeShort} containing the given value.
+	 * <p />
+	 * Values from -128 up to the bound given by the {@code net.xeona.maybe.MaybeShort.cache.high} system property (1023
+	 * by default, never less than 127 and never more than {@link Short#MAX_VALUE}) are served from a table of canonical
+	 * instances, as with {@link Short#valueOf(short)}. Values outside of that range are freshly allocated.
+	 */
 	public static MaybeShort justShort(short value) {
-		return new JustShort(value);
+		return value >= JustShortCache.LOW && value <= JustShortCache.HIGH
+				? JustShortCache.CACHE[value - JustShortCache.LOW] : new JustShort(value);
+	}
+
+	/**
+	 * Parses the given sequence as a signed decimal short, as {@link Short#parseShort(String)} would.
+	 *
+	 * @return A {@link MaybeShort} containing the parsed value, or {@link #noShort()} if the sequence is malformed or
+	 *         out of range
+	 */
+	public static MaybeShort parseShort(CharSequence sequence) {
+		return parseShort(requireNonNull(sequence, "Sequence must not be null"), 0, sequence.length());
+	}
+
+	/**
+	 * Parses the given region of a sequence as a signed decimal short, as {@link Short#parseShort(String)} would,
+	 * without throwing on malformed input and without building an intermediate {@link String}.
+	 *
+	 * @return A {@link MaybeShort} containing the parsed value, or {@link #noShort()} if the region is malformed or out
+	 *         of range
+	 * @throws IndexOutOfBoundsException
+	 *             If the region does not lie within the sequence
+	 */
+	public static MaybeShort parseShort(CharSequence sequence, int offset, int length) {
+		NumberParsing.checkBounds(sequence, offset, length);
+		boolean negative = NumberParsing.isNegative(sequence, offset, length);
+		long negatedMagnitude = NumberParsing.negatedMagnitude(sequence, offset, length,
+				negative ? Short.MIN_VALUE : -Short.MAX_VALUE);
+		return negatedMagnitude != NumberParsing.INVALID_MAGNITUDE
+				? justShort((short) (negative ? negatedMagnitude : -negatedMagnitude)) : noShort();
 	}
 
 	public static MaybeShort noShort() {
 		return NoShort.instance();
 	}
 
-	public static class JustShort extends MaybeShort {
+	/**
+	 * Returns an {@link OptionalInt} of the value widened to an int, or an empty one if absent.
+	 */
+	public static OptionalInt toOptionalInt(MaybeShort maybe) {
+		return requireNonNull(maybe, "Maybe must not be null").isPresent() ? OptionalInt.of(maybe.get())
+				: OptionalInt.empty();
+	}
+
+	public static final class JustShort extends MaybeShort {
+
+		private static final long serialVersionUID = 1L;
 
 		private final short value;
 
-		public JustShort(short value) {
+		private JustShort(short value) {
 			this.value = value;
 		}
 
@@ -87,14 +154,12 @@ public abstract class MaybeShort {
 
 		@Override
 		public <X extends Throwable> void ifPresent(ShortConsumer<? extends X> consumer) throws X {
-			// TODO Auto-generated method stub
-
+			requireNonNull(consumer, "Consumer must not be null").consume(value);
 		}
 
 		@Override
-		public <X extends Throwable> MaybeShort filter(ShortToBooleanFunction<? extends X> predicate) {
-			// TODO Auto-generated method stub
-			return null;
+		public <X extends Throwable> MaybeShort filter(ShortToBooleanFunction<? extends X> predicate) throws X {
+			return requireNonNull(predicate, "Predicate must not be null").apply(value) ? this : noShort();
 		}
 
 		@Override
@@ -104,32 +169,27 @@ public abstract class MaybeShort {
 
 		@Override
 		public <X extends Throwable> MaybeChar mapToChar(ShortToCharFunction<? extends X> function) throws X {
-			// TODO Auto-generated method stub
-			return null;
+			return MaybeChar.justChar(requireNonNull(function, "Function must not be null").apply(value));
 		}
 
 		@Override
 		public <X extends Throwable> MaybeByte mapToByte(ShortToByteFunction<? extends X> function) throws X {
-			// TODO Auto-generated method stub
-			return null;
+			return MaybeByte.justByte(requireNonNull(function, "Function must not be null").apply(value));
 		}
 
 		@Override
 		public <X extends Throwable> MaybeShort mapToShort(ShortUnaryOperator<? extends X> function) throws X {
-			// TODO Auto-generated method stub
-			return null;
+			return justShort(requireNonNull(function, "Function must not be null").apply(value));
 		}
 
 		@Override
 		public <X extends Throwable> MaybeInt mapToInt(ShortToIntFunction<? extends X> function) throws X {
-			// TODO Auto-generated method stub
-			return null;
+			return MaybeInt.justInt(requireNonNull(function, "Function must not be null").apply(value));
 		}
 
 		@Override
 		public <T, X extends Throwable> Maybe<T> map(ShortFunction<? extends T, ? extends X> function) throws X {
-			// TODO Auto-generated method stub
-			return null;
+			return Maybe.maybe(requireNonNull(function, "Function must not be null").apply(value));
 		}
 
 		@Override
@@ -144,87 +204,96 @@ public abstract class MaybeShort {
 
 	}
 
-	public static class NoShort extends MaybeShort {
+	private static final class JustShortCache {
+
+		private static final String HIGH_PROPERTY = "net.xeona.maybe.MaybeShort.cache.high";
+
+		private static final int LOW = -128;
+		private static final int HIGH = Math.min(Math.max(Integer.getInteger(HIGH_PROPERTY, 1023), 127),
+				Short.MAX_VALUE);
+
+		private static final JustShort[] CACHE = new JustShort[HIGH - LOW + 1];
+
+		static {
+			for (int index = 0; index < CACHE.length; index++) {
+				CACHE[index] = new JustShort((short) (LOW + index));
+			}
+		}
+
+		private JustShortCache() {}
+
+	}
+
+	public static final class NoShort extends MaybeShort {
+
+		private static final long serialVersionUID = 1L;
 
 		private static final NoShort INSTANCE = new NoShort();
 
+		private NoShort() {}
+
 		@Override
 		public boolean isPresent() {
-			// TODO Auto-generated method stub
 			return false;
 		}
 
 		@Override
 		public short get() {
-			// TODO Auto-generated method stub
-			return 0;
+			throw AbsentValueExceptions.noSuchElement();
 		}
 
 		@Override
 		public short orElse(short other) {
-			// TODO Auto-generated method stub
-			return 0;
+			return other;
 		}
 
 		@Override
 		public <X extends Throwable> short orElseGet(ShortProvider<? extends X> provider) throws X {
-			// TODO Auto-generated method stub
-			return 0;
+			return requireNonNull(provider, "Provider must not be null").get();
 		}
 
 		@Override
 		public <X extends Throwable, Y extends Throwable> short orElseThrow(Provider<? extends X, ? extends Y> provider)
 				throws X, Y {
-			// TODO Auto-generated method stub
-			return 0;
+			throw requireNonNull(provider, "Provider must not be null").get();
 		}
 
 		@Override
-		public <X extends Throwable> void ifPresent(ShortConsumer<? extends X> consumer) throws X {
-			// TODO Auto-generated method stub
-
-		}
+		public <X extends Throwable> void ifPresent(ShortConsumer<? extends X> consumer) throws X {}
 
 		@Override
-		public <X extends Throwable> MaybeShort filter(ShortToBooleanFunction<? extends X> predicate) {
-			// TODO Auto-generated method stub
-			return null;
+		public <X extends Throwable> MaybeShort filter(ShortToBooleanFunction<? extends X> predicate) throws X {
+			return this;
 		}
 
 		@Override
 		public <X extends Throwable> MaybeBoolean mapToBoolean(ShortToBooleanFunction<? extends X> function) throws X {
-			// TODO Auto-generated method stub
-			return null;
+			return MaybeBoolean.noBoolean();
 		}
 
 		@Override
 		public <X extends Throwable> MaybeChar mapToChar(ShortToCharFunction<? extends X> function) throws X {
-			// TODO Auto-generated method stub
-			return null;
+			return MaybeChar.nothing();
 		}
 
 		@Override
 		public <X extends Throwable> MaybeByte mapToByte(ShortToByteFunction<? extends X> function) throws X {
-			// TODO Auto-generated method stub
-			return null;
+			return MaybeByte.noByte();
 		}
 
 		@Override
 		public <X extends Throwable> MaybeShort mapToShort(ShortUnaryOperator<? extends X> function) throws X {
-			// TODO Auto-generated method stub
-			return null;
+			return noShort();
 		}
 
 		@Override
 		public <X extends Throwable> MaybeInt mapToInt(ShortToIntFunction<? extends X> function) throws X {
-			// TODO Auto-generated method stub
-			return null;
+			return MaybeInt.noInt();
 		}
 
 		@Override
 		public <T, X extends Throwable> Maybe<T> map(ShortFunction<? extends T, ? extends X> function) throws X {
-			// TODO Auto-generated method stub
-			return null;
+			return Maybe.nothing();
 		}
 
 		@Override
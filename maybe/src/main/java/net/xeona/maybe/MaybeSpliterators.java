@@ -0,0 +1,290 @@
+package net.xeona.maybe;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.DoubleConsumer;
+import java.util.function.IntConsumer;
+import java.util.function.LongConsumer;
+
+/**
+ * Spliterators over the zero or one elements of a Maybe, used both for its {@link java.util.Collection#spliterator()}
+ * view and for its primitive streams.
+ * <p />
+ * Every spliterator reports an exact size and is {@code IMMUTABLE | NONNULL | ORDERED | DISTINCT}, so stream pipelines
+ * can presize their buffers. The present spliterators hold their value directly rather than wrapping an iterator, and
+ * the absent spliterators are stateless shared instances.
+ */
+final class MaybeSpliterators {
+
+	static final int CHARACTERISTICS = Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.IMMUTABLE
+			| Spliterator.NONNULL | Spliterator.ORDERED | Spliterator.DISTINCT;
+
+	private MaybeSpliterators() {}
+
+	static <E> Spliterator<E> just(E value) {
+		return new Just<>(value);
+	}
+
+	static Spliterator.OfInt justInt(int value) {
+		return new JustInt(value);
+	}
+
+	static Spliterator.OfLong justLong(long value) {
+		return new JustLong(value);
+	}
+
+	static Spliterator.OfDouble justDouble(double value) {
+		return new JustDouble(value);
+	}
+
+	@SuppressWarnings("unchecked")
+	static <E> Spliterator<E> nothing() {
+		return (Spliterator<E>) Nothing.INSTANCE;
+	}
+
+	static Spliterator.OfInt noInt() {
+		return NoInt.INSTANCE;
+	}
+
+	static Spliterator.OfLong noLong() {
+		return NoLong.INSTANCE;
+	}
+
+	private abstract static class JustBase {
+
+		private boolean consumed;
+
+		final boolean consume(Object action) {
+			requireNonNull(action, "Action must not be null");
+			if (consumed) {
+				return false;
+			}
+			consumed = true;
+			return true;
+		}
+
+		public final long estimateSize() {
+			return consumed ? 0 : 1;
+		}
+
+		public final int characteristics() {
+			return CHARACTERISTICS;
+		}
+
+	}
+
+	private static final class Just<E> extends JustBase implements Spliterator<E> {
+
+		private final E value;
+
+		private Just(E value) {
+			this.value = value;
+		}
+
+		@Override
+		public boolean tryAdvance(Consumer<? super E> action) {
+			if (!consume(action)) {
+				return false;
+			}
+			action.accept(value);
+			return true;
+		}
+
+		@Override
+		public void forEachRemaining(Consumer<? super E> action) {
+			tryAdvance(action);
+		}
+
+		@Override
+		public Spliterator<E> trySplit() {
+			return null;
+		}
+
+	}
+
+	private static final class JustInt extends JustBase implements Spliterator.OfInt {
+
+		private final int value;
+
+		private JustInt(int value) {
+			this.value = value;
+		}
+
+		@Override
+		public boolean tryAdvance(IntConsumer action) {
+			if (!consume(action)) {
+				return false;
+			}
+			action.accept(value);
+			return true;
+		}
+
+		@Override
+		public void forEachRemaining(IntConsumer action) {
+			tryAdvance(action);
+		}
+
+		@Override
+		public Spliterator.OfInt trySplit() {
+			return null;
+		}
+
+	}
+
+	private static final class JustLong extends JustBase implements Spliterator.OfLong {
+
+		private final long value;
+
+		private JustLong(long value) {
+			this.value = value;
+		}
+
+		@Override
+		public boolean tryAdvance(LongConsumer action) {
+			if (!consume(action)) {
+				return false;
+			}
+			action.accept(value);
+			return true;
+		}
+
+		@Override
+		public void forEachRemaining(LongConsumer action) {
+			tryAdvance(action);
+		}
+
+		@Override
+		public Spliterator.OfLong trySplit() {
+			return null;
+		}
+
+	}
+
+	private static final class JustDouble extends JustBase implements Spliterator.OfDouble {
+
+		private final double value;
+
+		private JustDouble(double value) {
+			this.value = value;
+		}
+
+		@Override
+		public boolean tryAdvance(DoubleConsumer action) {
+			if (!consume(action)) {
+				return false;
+			}
+			action.accept(value);
+			return true;
+		}
+
+		@Override
+		public void forEachRemaining(DoubleConsumer action) {
+			tryAdvance(action);
+		}
+
+		@Override
+		public Spliterator.OfDouble trySplit() {
+			return null;
+		}
+
+	}
+
+	private static final class Nothing implements Spliterator<Object> {
+
+		private static final Nothing INSTANCE = new Nothing();
+
+		@Override
+		public boolean tryAdvance(Consumer<? super Object> action) {
+			requireNonNull(action, "Action must not be null");
+			return false;
+		}
+
+		@Override
+		public void forEachRemaining(Consumer<? super Object> action) {
+			requireNonNull(action, "Action must not be null");
+		}
+
+		@Override
+		public Spliterator<Object> trySplit() {
+			return null;
+		}
+
+		@Override
+		public long estimateSize() {
+			return 0;
+		}
+
+		@Override
+		public int characteristics() {
+			return CHARACTERISTICS;
+		}
+
+	}
+
+	private static final class NoInt implements Spliterator.OfInt {
+
+		private static final NoInt INSTANCE = new NoInt();
+
+		@Override
+		public boolean tryAdvance(IntConsumer action) {
+			requireNonNull(action, "Action must not be null");
+			return false;
+		}
+
+		@Override
+		public void forEachRemaining(IntConsumer action) {
+			requireNonNull(action, "Action must not be null");
+		}
+
+		@Override
+		public Spliterator.OfInt trySplit() {
+			return null;
+		}
+
+		@Override
+		public long estimateSize() {
+			return 0;
+		}
+
+		@Override
+		public int characteristics() {
+			return CHARACTERISTICS;
+		}
+
+	}
+
+	private static final class NoLong implements Spliterator.OfLong {
+
+		private static final NoLong INSTANCE = new NoLong();
+
+		@Override
+		public boolean tryAdvance(LongConsumer action) {
+			requireNonNull(action, "Action must not be null");
+			return false;
+		}
+
+		@Override
+		public void forEachRemaining(LongConsumer action) {
+			requireNonNull(action, "Action must not be null");
+		}
+
+		@Override
+		public Spliterator.OfLong trySplit() {
+			return null;
+		}
+
+		@Override
+		public long estimateSize() {
+			return 0;
+		}
+
+		@Override
+		public int characteristics() {
+			return CHARACTERISTICS;
+		}
+
+	}
+
+}
@@ -0,0 +1,349 @@
+package net.xeona.maybe;
+
+import static java.util.Objects.requireNonNull;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Parsing routines shared by the {@code parse} factories of the primitive Maybe types.
+ * <p />
+ * Malformed input is reported through sentinel return values rather than exceptions, so that rejecting bad input is
+ * no more expensive than accepting good input, and no intermediate {@link String} is built for the common cases.
+ * <p />
+ * Each routine has a variant for character sequences, for byte arrays and for byte buffers. Bytes are read as ASCII,
+ * and buffers are read with absolute gets so that heap and direct buffers are read in place without disturbing their
+ * position. The variants share a single implementation over an index range, which reads each character through a
+ * static type test on the source rather than through an accessor object, so nothing is allocated per call and the
+ * overflow handling exists in one place only.
+ */
+final class NumberParsing {
+
+	/**
+	 * Returned by the {@code negatedMagnitude} routines when the input is malformed or out of range. Valid results are
+	 * never positive.
+	 */
+	static final long INVALID_MAGNITUDE = 1L;
+
+	/**
+	 * A quiet NaN with a payload that {@link Double#parseDouble(String)} never produces, returned by the
+	 * {@code parseDecimal} routines when the input is malformed.
+	 */
+	private static final long INVALID_DECIMAL_BITS = 0x7FF8000000000BADL;
+
+	/**
+	 * Significands are accumulated in a long, and 18 decimal digits always fit.
+	 */
+	private static final int MAX_SIGNIFICAND_DIGITS = 18;
+
+	/**
+	 * Exponents beyond this magnitude overflow or underflow every floating point type, so further digits are ignored.
+	 */
+	private static final int MAX_EXPONENT_MAGNITUDE = 100_000;
+
+	private static final long MAX_EXACT_DOUBLE_SIGNIFICAND = 1L << 53;
+	private static final long MAX_EXACT_FLOAT_SIGNIFICAND = 1L << 24;
+
+	private static final double[] DOUBLE_POWERS_OF_TEN = new double[23];
+	private static final float[] FLOAT_POWERS_OF_TEN = new float[11];
+
+	static {
+		DOUBLE_POWERS_OF_TEN[0] = 1.0;
+		for (int power = 1; power < DOUBLE_POWERS_OF_TEN.length; power++) {
+			DOUBLE_POWERS_OF_TEN[power] = DOUBLE_POWERS_OF_TEN[power - 1] * 10.0;
+		}
+		FLOAT_POWERS_OF_TEN[0] = 1.0f;
+		for (int power = 1; power < FLOAT_POWERS_OF_TEN.length; power++) {
+			FLOAT_POWERS_OF_TEN[power] = FLOAT_POWERS_OF_TEN[power - 1] * 10.0f;
+		}
+	}
+
+	private NumberParsing() {}
+
+	static void checkBounds(CharSequence sequence, int offset, int length) {
+		checkBounds(requireNonNull(sequence, "Sequence must not be null").length(), offset, length);
+	}
+
+	static void checkBounds(int capacity, int offset, int length) {
+		if (offset < 0 || length < 0 || offset > capacity - length) {
+			throw new IndexOutOfBoundsException(
+					"Range [" + offset + ", " + offset + " + " + length + ") out of bounds for length " + capacity);
+		}
+	}
+
+	static void checkBounds(byte[] bytes, int offset, int length) {
+		checkBounds(requireNonNull(bytes, "Bytes must not be null").length, offset, length);
+	}
+
+	static void checkBounds(ByteBuffer buffer, int index, int length) {
+		checkBounds(requireNonNull(buffer, "Buffer must not be null").limit(), index, length);
+	}
+
+	static boolean isNegative(CharSequence sequence, int offset, int length) {
+		return length > 0 && sequence.charAt(offset) == '-';
+	}
+
+	static boolean isNegative(byte[] bytes, int offset, int length) {
+		return length > 0 && bytes[offset] == '-';
+	}
+
+	static boolean isNegative(ByteBuffer buffer, int index, int length) {
+		return length > 0 && buffer.get(index) == '-';
+	}
+
+	/**
+	 * Parses an optionally signed decimal integer, as accepted by {@link Long#parseLong(String)}, and returns its
+	 * magnitude negated.
+	 * <p />
+	 * Accumulating negatively allows the full range of a long to be represented, leaving every positive value free to
+	 * signal failure. The caller applies the sign, which it can determine with
+	 * {@link #isNegative(CharSequence, int, int)}.
+	 *
+	 * @param limit
+	 *            The most negative acceptable result: the minimum value of the target type if the input is negative,
+	 *            otherwise the negated maximum value
+	 * @return The negated magnitude, or {@link #INVALID_MAGNITUDE} if the input is malformed or beyond the limit
+	 */
+	static long negatedMagnitude(CharSequence sequence, int offset, int length, long limit) {
+		return negatedMagnitude((Object) sequence, offset, offset + length, limit);
+	}
+
+	static long negatedMagnitude(byte[] bytes, int offset, int length, long limit) {
+		return negatedMagnitude((Object) bytes, offset, offset + length, limit);
+	}
+
+	static long negatedMagnitude(ByteBuffer buffer, int index, int length, long limit) {
+		return negatedMagnitude((Object) buffer, index, index + length, limit);
+	}
+
+	private static long negatedMagnitude(Object source, int start, int end, long limit) {
+		int index = start;
+		if (index < end) {
+			int first = charAt(source, index);
+			if (first == '-' || first == '+') {
+				index++;
+			}
+		}
+		if (index == end) {
+			return INVALID_MAGNITUDE;
+		}
+		long multiplicationLimit = limit / 10;
+		long result = 0;
+		while (index < end) {
+			int digit = Character.digit(charAt(source, index++), 10);
+			if (digit < 0 || result < multiplicationLimit) {
+				return INVALID_MAGNITUDE;
+			}
+			result *= 10;
+			if (result < limit + digit) {
+				return INVALID_MAGNITUDE;
+			}
+			result -= digit;
+		}
+		return result;
+	}
+
+	static boolean isValidDecimal(double value) {
+		return Double.doubleToRawLongBits(value) != INVALID_DECIMAL_BITS;
+	}
+
+	/**
+	 * Parses an optionally signed decimal floating point number.
+	 * <p />
+	 * The accepted forms are {@code NaN}, {@code Infinity}, and digits with an optional fraction and an optional
+	 * exponent, such as {@code 12}, {@code 1.5}, {@code .5}, {@code 3.} or {@code 6.02e23}. Unlike
+	 * {@link Double#parseDouble(String)}, surrounding whitespace, type suffixes and hexadecimal forms are rejected.
+	 * <p />
+	 * Values that are exactly representable as a significand and a small power of ten are computed directly with a
+	 * single correctly rounded operation. Anything else, such as values with very many digits or large exponents, is
+	 * already known to be well formed and is delegated to {@link Double#parseDouble(String)} or
+	 * {@link Float#parseFloat(String)}.
+	 *
+	 * @param singlePrecision
+	 *            Whether to round the result to the nearest float rather than the nearest double
+	 * @return The parsed value, which is exactly representable as a float if single precision was requested, or a
+	 *         value for which {@link #isValidDecimal(double)} is false if the input is malformed
+	 */
+	static double parseDecimal(CharSequence sequence, int offset, int length, boolean singlePrecision) {
+		return parseDecimal((Object) sequence, offset, offset + length, singlePrecision);
+	}
+
+	static double parseDecimal(byte[] bytes, int offset, int length, boolean singlePrecision) {
+		return parseDecimal((Object) bytes, offset, offset + length, singlePrecision);
+	}
+
+	static double parseDecimal(ByteBuffer buffer, int index, int length, boolean singlePrecision) {
+		return parseDecimal((Object) buffer, index, index + length, singlePrecision);
+	}
+
+	private static double parseDecimal(Object source, int start, int end, boolean singlePrecision) {
+		int index = start;
+		boolean negative = false;
+		if (index < end) {
+			int first = charAt(source, index);
+			if (first == '-' || first == '+') {
+				negative = first == '-';
+				index++;
+			}
+		}
+
+		if (regionMatches(source, index, end, "NaN")) {
+			return Double.NaN;
+		} else if (regionMatches(source, index, end, "Infinity")) {
+			return negative ? Double.NEGATIVE_INFINITY : Double.POSITIVE_INFINITY;
+		}
+
+		long significand = 0;
+		int significandDigits = 0;
+		int exponent = 0;
+		boolean truncated = false;
+		boolean sawDigit = false;
+		int current;
+
+		while (index < end && isDigit(current = charAt(source, index))) {
+			sawDigit = true;
+			if (significandDigits < MAX_SIGNIFICAND_DIGITS) {
+				significand = significand * 10 + (current - '0');
+				if (significand != 0) {
+					significandDigits++;
+				}
+			} else {
+				exponent++;
+				truncated |= current != '0';
+			}
+			index++;
+		}
+
+		if (index < end && charAt(source, index) == '.') {
+			index++;
+			while (index < end && isDigit(current = charAt(source, index))) {
+				sawDigit = true;
+				if (significandDigits < MAX_SIGNIFICAND_DIGITS) {
+					significand = significand * 10 + (current - '0');
+					if (significand != 0) {
+						significandDigits++;
+					}
+					exponent--;
+				} else {
+					truncated |= current != '0';
+				}
+				index++;
+			}
+		}
+
+		if (!sawDigit) {
+			return Double.longBitsToDouble(INVALID_DECIMAL_BITS);
+		}
+
+		if (index < end && ((current = charAt(source, index)) == 'e' || current == 'E')) {
+			index++;
+			boolean negativeExponent = false;
+			if (index < end && ((current = charAt(source, index)) == '-' || current == '+')) {
+				negativeExponent = current == '-';
+				index++;
+			}
+			int exponentStart = index;
+			int exponentMagnitude = 0;
+			while (index < end && isDigit(current = charAt(source, index))) {
+				if (exponentMagnitude < MAX_EXPONENT_MAGNITUDE) {
+					exponentMagnitude = exponentMagnitude * 10 + (current - '0');
+				}
+				index++;
+			}
+			if (index == exponentStart) {
+				return Double.longBitsToDouble(INVALID_DECIMAL_BITS);
+			}
+			exponent += negativeExponent ? -exponentMagnitude : exponentMagnitude;
+		}
+
+		if (index != end) {
+			return Double.longBitsToDouble(INVALID_DECIMAL_BITS);
+		}
+
+		double magnitude = exactDecimal(significand, exponent, truncated, singlePrecision);
+		if (isValidDecimal(magnitude)) {
+			return negative ? -magnitude : magnitude;
+		} else {
+			return inexactDecimal(text(source, start, end), singlePrecision);
+		}
+	}
+
+	/**
+	 * Computes the value of a significand and a power of ten when both are exactly representable, so that a single
+	 * correctly rounded multiplication or division gives the correctly rounded result.
+	 *
+	 * @return The value, or a value for which {@link #isValidDecimal(double)} is false if it cannot be computed exactly
+	 */
+	private static double exactDecimal(long significand, int exponent, boolean truncated, boolean singlePrecision) {
+		if (significand == 0) {
+			return 0.0;
+		} else if (truncated) {
+			return Double.longBitsToDouble(INVALID_DECIMAL_BITS);
+		} else if (singlePrecision) {
+			if (significand <= MAX_EXACT_FLOAT_SIGNIFICAND && Math.abs(exponent) < FLOAT_POWERS_OF_TEN.length) {
+				return exponent < 0 ? (float) significand / FLOAT_POWERS_OF_TEN[-exponent]
+						: (float) significand * FLOAT_POWERS_OF_TEN[exponent];
+			} else {
+				return Double.longBitsToDouble(INVALID_DECIMAL_BITS);
+			}
+		} else {
+			if (significand <= MAX_EXACT_DOUBLE_SIGNIFICAND && Math.abs(exponent) < DOUBLE_POWERS_OF_TEN.length) {
+				return exponent < 0 ? (double) significand / DOUBLE_POWERS_OF_TEN[-exponent]
+						: (double) significand * DOUBLE_POWERS_OF_TEN[exponent];
+			} else {
+				return Double.longBitsToDouble(INVALID_DECIMAL_BITS);
+			}
+		}
+	}
+
+	/**
+	 * Parses well formed input that cannot be computed exactly, such as values with very many digits or large
+	 * exponents, with the JDK parsers.
+	 */
+	private static double inexactDecimal(String decimal, boolean singlePrecision) {
+		return singlePrecision ? Float.parseFloat(decimal) : Double.parseDouble(decimal);
+	}
+
+	/**
+	 * Reads the character at the given index of a {@link CharSequence}, a {@code byte[]} or a {@link ByteBuffer}, with
+	 * bytes read as ASCII and buffers read with an absolute get. Non-ASCII bytes come back negative, and so are never
+	 * taken for a digit or a sign.
+	 */
+	private static int charAt(Object source, int index) {
+		if (source instanceof byte[]) {
+			return ((byte[]) source)[index];
+		} else if (source instanceof ByteBuffer) {
+			return ((ByteBuffer) source).get(index);
+		} else {
+			return ((CharSequence) source).charAt(index);
+		}
+	}
+
+	private static String text(Object source, int start, int end) {
+		if (source instanceof CharSequence) {
+			return ((CharSequence) source).subSequence(start, end).toString();
+		}
+		byte[] bytes = new byte[end - start];
+		for (int index = start; index < end; index++) {
+			bytes[index - start] = (byte) charAt(source, index);
+		}
+		return new String(bytes, StandardCharsets.US_ASCII);
+	}
+
+	private static boolean isDigit(int character) {
+		return character >= '0' && character <= '9';
+	}
+
+	private static boolean regionMatches(Object source, int index, int end, String expected) {
+		if (end - index != expected.length()) {
+			return false;
+		}
+		for (int offset = 0; offset < expected.length(); offset++) {
+			if (charAt(source, index + offset) != expected.charAt(offset)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+}
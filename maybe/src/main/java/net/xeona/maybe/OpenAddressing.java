@@ -0,0 +1,68 @@
+package net.xeona.maybe;
+
+/**
+ * Sizing and hashing shared by the open addressing maps with primitive keys.
+ * <p />
+ * Each map holds its keys in a power of two sized array probed linearly from the mixed hash of the key, and keeps that
+ * array at most half full. Key {@code 0} marks a free slot, so each map holds the entry for key {@code 0}, if any,
+ * outside of its arrays. Removal shifts later entries of the same probe sequence back into the freed slot instead of
+ * leaving a marker, so lookups never have to skip removed entries.
+ */
+final class OpenAddressing {
+
+	static final int DEFAULT_EXPECTED_SIZE = 8;
+
+	private static final int MINIMUM_CAPACITY = 8;
+
+	private static final int MAXIMUM_CAPACITY = 1 << 30;
+
+	private static final int GOLDEN_RATIO = 0x9E3779B9;
+
+	private OpenAddressing() {}
+
+	/**
+	 * Returns the table capacity at which the given number of entries leaves the table at most half full.
+	 */
+	static int capacityFor(int expectedSize) {
+		if (expectedSize < 0) {
+			throw new IllegalArgumentException("Expected size must not be negative: " + expectedSize);
+		}
+		if (expectedSize >= MAXIMUM_CAPACITY >>> 1) {
+			return MAXIMUM_CAPACITY;
+		}
+		return Math.max(MINIMUM_CAPACITY, Integer.highestOneBit(Math.max(1, expectedSize * 2 - 1)) << 1);
+	}
+
+	/**
+	 * Returns the number of entries at which a table of the given capacity must be doubled before another is added,
+	 * which always leaves at least one slot free so that every probe sequence ends.
+	 */
+	static int resizeThreshold(int capacity) {
+		return capacity == MAXIMUM_CAPACITY ? capacity - 1 : capacity >>> 1;
+	}
+
+	static int doubledCapacity(int capacity) {
+		if (capacity == MAXIMUM_CAPACITY) {
+			throw new IllegalStateException("Map is full");
+		}
+		return capacity << 1;
+	}
+
+	static int mix(int key) {
+		int hash = key * GOLDEN_RATIO;
+		return hash ^ hash >>> 16;
+	}
+
+	static int mix(long key) {
+		return mix((int) (key ^ key >>> 32));
+	}
+
+	/**
+	 * Returns whether the entry at the given index, whose probe sequence starts at the given home slot, may be moved
+	 * back into the given free slot, which is the case if the free slot lies between its home slot and its index.
+	 */
+	static boolean canShiftBack(int home, int free, int index, int mask) {
+		return (index - home & mask) >= (index - free & mask);
+	}
+
+}
@@ -0,0 +1,314 @@
+package net.xeona.maybe;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+
+import net.xeona.function.Consumer;
+import net.xeona.function.DoubleConsumer;
+import net.xeona.function.DoubleFunction;
+import net.xeona.function.DoubleToBooleanFunction;
+import net.xeona.function.DoubleToIntFunction;
+import net.xeona.function.DoubleToLongFunction;
+import net.xeona.function.DoubleUnaryOperator;
+import net.xeona.function.Function;
+import net.xeona.function.IntConsumer;
+import net.xeona.function.IntFunction;
+import net.xeona.function.IntToBooleanFunction;
+import net.xeona.function.IntToDoubleFunction;
+import net.xeona.function.IntToLongFunction;
+import net.xeona.function.IntUnaryOperator;
+import net.xeona.function.LongConsumer;
+import net.xeona.function.LongFunction;
+import net.xeona.function.LongToBooleanFunction;
+import net.xeona.function.LongToDoubleFunction;
+import net.xeona.function.LongToIntFunction;
+import net.xeona.function.LongUnaryOperator;
+import net.xeona.function.ToBooleanFunction;
+import net.xeona.function.ToDoubleFunction;
+import net.xeona.function.ToIntFunction;
+import net.xeona.function.ToLongFunction;
+
+/**
+ * The recorded stages of a pipeline, shared by {@link MaybePipeline} and its primitive variants.
+ * <p />
+ * Each stage is an operation code and its function. A terminal operation runs every stage in a single loop, holding the
+ * current value in a reference local or a primitive {@code long} local, so no intermediate Maybe or boxed value is
+ * created and an absent result stops the loop. Stages are immutable, so one pipeline may be evaluated concurrently on
+ * any number of inputs.
+ * <p />
+ * Every pipeline runs its functions from the same few call sites, one per kind of stage, so once a program uses more
+ * than two distinct functions for a kind of stage those sites are megamorphic and the functions are not inlined into
+ * the loop. A chain of {@code map} and {@code filter} calls on the Maybe types shares its call sites in the same way;
+ * what the pipeline saves is the intermediate Maybe per stage, which {@code PipelineBenchmark} measures with several
+ * distinct functions in use.
+ */
+final class PipelineStages {
+
+	static final int REFERENCE = 0;
+	static final int INT = 1;
+	static final int LONG = 2;
+	static final int DOUBLE = 3;
+
+	static final int TO_MAYBE = 0;
+	static final int OR_ELSE = 1;
+	static final int IF_PRESENT = 2;
+
+	private static final int FILTER = 4;
+
+	private static final int KIND_MASK = 7;
+
+	private static final int REFERENCE_TO_REFERENCE = REFERENCE << 3 | REFERENCE;
+	private static final int REFERENCE_TO_INT = REFERENCE << 3 | INT;
+	private static final int REFERENCE_TO_LONG = REFERENCE << 3 | LONG;
+	private static final int REFERENCE_TO_DOUBLE = REFERENCE << 3 | DOUBLE;
+	private static final int REFERENCE_FILTER = REFERENCE << 3 | FILTER;
+	private static final int INT_TO_REFERENCE = INT << 3 | REFERENCE;
+	private static final int INT_TO_INT = INT << 3 | INT;
+	private static final int INT_TO_LONG = INT << 3 | LONG;
+	private static final int INT_TO_DOUBLE = INT << 3 | DOUBLE;
+	private static final int INT_FILTER = INT << 3 | FILTER;
+	private static final int LONG_TO_REFERENCE = LONG << 3 | REFERENCE;
+	private static final int LONG_TO_INT = LONG << 3 | INT;
+	private static final int LONG_TO_LONG = LONG << 3 | LONG;
+	private static final int LONG_TO_DOUBLE = LONG << 3 | DOUBLE;
+	private static final int LONG_FILTER = LONG << 3 | FILTER;
+	private static final int DOUBLE_TO_REFERENCE = DOUBLE << 3 | REFERENCE;
+	private static final int DOUBLE_TO_INT = DOUBLE << 3 | INT;
+	private static final int DOUBLE_TO_LONG = DOUBLE << 3 | LONG;
+	private static final int DOUBLE_TO_DOUBLE = DOUBLE << 3 | DOUBLE;
+	private static final int DOUBLE_FILTER = DOUBLE << 3 | FILTER;
+
+	private final int sourceKind;
+	private final int outputKind;
+	private final int[] operations;
+	private final Object[] functions;
+
+	private PipelineStages(int sourceKind, int outputKind, int[] operations, Object[] functions) {
+		this.sourceKind = sourceKind;
+		this.outputKind = outputKind;
+		this.operations = operations;
+		this.functions = functions;
+	}
+
+	static PipelineStages source(int kind) {
+		return new PipelineStages(kind, kind, new int[0], new Object[0]);
+	}
+
+	PipelineStages filter(Object predicate) {
+		return append(outputKind << 3 | FILTER, requireNonNull(predicate, "Predicate must not be null"), outputKind);
+	}
+
+	PipelineStages map(int kind, Object function) {
+		return append(outputKind << 3 | kind, requireNonNull(function, "Function must not be null"), kind);
+	}
+
+	private PipelineStages append(int operation, Object function, int kind) {
+		int[] appendedOperations = Arrays.copyOf(operations, operations.length + 1);
+		appendedOperations[operations.length] = operation;
+		Object[] appendedFunctions = Arrays.copyOf(functions, functions.length + 1);
+		appendedFunctions[functions.length] = function;
+		return new PipelineStages(sourceKind, kind, appendedOperations, appendedFunctions);
+	}
+
+	/**
+	 * Runs the stages on the given input and completes the given terminal operation: {@link #TO_MAYBE} returns the
+	 * Maybe of the output kind, {@link #OR_ELSE} returns a reference output or the argument if absent, and
+	 * {@link #IF_PRESENT} passes the output to the argument consumer.
+	 * <p />
+	 * Between stages a reference value is held in one local and a primitive value in another, as a {@code long} with
+	 * an int sign extended and a double as its raw bits.
+	 */
+	@SuppressWarnings("unchecked")
+	Object evaluate(Object input, int terminal, Object argument) {
+		if (!isPresent(sourceKind, input)) {
+			return absent(terminal, argument);
+		}
+		Object reference = sourceKind == REFERENCE ? ((Maybe<?>) input).get() : null;
+		long bits = sourceKind == REFERENCE ? 0 : primitiveBits(sourceKind, input);
+		for (int stage = 0; stage < operations.length; stage++) {
+			int operation = operations[stage];
+			if ((operation & KIND_MASK) == FILTER) {
+				if (!test(operation, functions[stage], reference, bits)) {
+					return absent(terminal, argument);
+				}
+			} else if ((operation & KIND_MASK) == REFERENCE) {
+				if ((reference = toReference(operation, functions[stage], reference, bits)) == null) {
+					return absent(terminal, argument);
+				}
+			} else {
+				bits = toBits(operation, functions[stage], reference, bits);
+			}
+		}
+		switch (outputKind) {
+		case REFERENCE:
+			if (terminal == IF_PRESENT) {
+				((Consumer<Object, RuntimeException>) argument).consume(reference);
+				return null;
+			}
+			return terminal == TO_MAYBE ? Maybe.just(reference) : reference;
+		case INT:
+			if (terminal == IF_PRESENT) {
+				((IntConsumer<RuntimeException>) argument).consume((int) bits);
+				return null;
+			}
+			return MaybeInt.justInt((int) bits);
+		case LONG:
+			if (terminal == IF_PRESENT) {
+				((LongConsumer<RuntimeException>) argument).consume(bits);
+				return null;
+			}
+			return MaybeLong.justLong(bits);
+		default:
+			if (terminal == IF_PRESENT) {
+				((DoubleConsumer<RuntimeException>) argument).consume(Double.longBitsToDouble(bits));
+				return null;
+			}
+			return MaybeDouble.justDouble(Double.longBitsToDouble(bits));
+		}
+	}
+
+	/**
+	 * Runs the stages of a primitive pipeline on the given input and returns the output in the form in which
+	 * {@link #evaluate(Object, int, Object)} holds it between stages, or the given bits if the output is absent.
+	 * <p />
+	 * This is {@code evaluate} specialised to {@code orElse}, so that the primitive {@code orElse} operations return
+	 * without boxing either the output or the default. Only the terminal differs; the stages are run by the same
+	 * {@link #test}, {@link #toReference} and {@link #toBits} steps.
+	 */
+	long evaluateBits(Object input, long otherBits) {
+		if (!isPresent(sourceKind, input)) {
+			return otherBits;
+		}
+		Object reference = sourceKind == REFERENCE ? ((Maybe<?>) input).get() : null;
+		long bits = sourceKind == REFERENCE ? 0 : primitiveBits(sourceKind, input);
+		for (int stage = 0; stage < operations.length; stage++) {
+			int operation = operations[stage];
+			if ((operation & KIND_MASK) == FILTER) {
+				if (!test(operation, functions[stage], reference, bits)) {
+					return otherBits;
+				}
+			} else if ((operation & KIND_MASK) == REFERENCE) {
+				if ((reference = toReference(operation, functions[stage], reference, bits)) == null) {
+					return otherBits;
+				}
+			} else {
+				bits = toBits(operation, functions[stage], reference, bits);
+			}
+		}
+		return bits;
+	}
+
+	private static boolean isPresent(int kind, Object input) {
+		requireNonNull(input, "Input must not be null");
+		switch (kind) {
+		case REFERENCE:
+			return ((Maybe<?>) input).isPresent();
+		case INT:
+			return ((MaybeInt) input).isPresent();
+		case LONG:
+			return ((MaybeLong) input).isPresent();
+		default:
+			return ((MaybeDouble) input).isPresent();
+		}
+	}
+
+	private static long primitiveBits(int kind, Object input) {
+		switch (kind) {
+		case INT:
+			return ((MaybeInt) input).get();
+		case LONG:
+			return ((MaybeLong) input).get();
+		default:
+			return Double.doubleToRawLongBits(((MaybeDouble) input).get());
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private static boolean test(int operation, Object predicate, Object reference, long bits) {
+		switch (operation) {
+		case REFERENCE_FILTER:
+			return ((ToBooleanFunction<Object, RuntimeException>) predicate).apply(reference);
+		case INT_FILTER:
+			return ((IntToBooleanFunction<RuntimeException>) predicate).apply((int) bits);
+		case LONG_FILTER:
+			return ((LongToBooleanFunction<RuntimeException>) predicate).apply(bits);
+		default:
+			return ((DoubleToBooleanFunction<RuntimeException>) predicate).apply(Double.longBitsToDouble(bits));
+		}
+	}
+
+	/**
+	 * Runs a map stage with a reference output.
+	 *
+	 * @return The output, or {@code null} if it is absent
+	 */
+	@SuppressWarnings("unchecked")
+	private static Object toReference(int operation, Object function, Object reference, long bits) {
+		switch (operation) {
+		case REFERENCE_TO_REFERENCE:
+			return ((Function<Object, ?, RuntimeException>) function).apply(reference);
+		case INT_TO_REFERENCE:
+			return ((IntFunction<?, RuntimeException>) function).apply((int) bits);
+		case LONG_TO_REFERENCE:
+			return ((LongFunction<?, RuntimeException>) function).apply(bits);
+		default:
+			return ((DoubleFunction<?, RuntimeException>) function).apply(Double.longBitsToDouble(bits));
+		}
+	}
+
+	/**
+	 * Runs a map stage with a primitive output, which is returned as a {@code long} with an int sign extended and a
+	 * double as its raw bits.
+	 */
+	@SuppressWarnings("unchecked")
+	private static long toBits(int operation, Object function, Object reference, long bits) {
+		switch (operation) {
+		case REFERENCE_TO_INT:
+			return ((ToIntFunction<Object, RuntimeException>) function).apply(reference);
+		case REFERENCE_TO_LONG:
+			return ((ToLongFunction<Object, RuntimeException>) function).apply(reference);
+		case REFERENCE_TO_DOUBLE:
+			return Double.doubleToRawLongBits(((ToDoubleFunction<Object, RuntimeException>) function).apply(reference));
+		case INT_TO_INT:
+			return ((IntUnaryOperator<RuntimeException>) function).apply((int) bits);
+		case INT_TO_LONG:
+			return ((IntToLongFunction<RuntimeException>) function).apply((int) bits);
+		case INT_TO_DOUBLE:
+			return Double.doubleToRawLongBits(((IntToDoubleFunction<RuntimeException>) function).apply((int) bits));
+		case LONG_TO_INT:
+			return ((LongToIntFunction<RuntimeException>) function).apply(bits);
+		case LONG_TO_LONG:
+			return ((LongUnaryOperator<RuntimeException>) function).apply(bits);
+		case LONG_TO_DOUBLE:
+			return Double.doubleToRawLongBits(((LongToDoubleFunction<RuntimeException>) function).apply(bits));
+		case DOUBLE_TO_INT:
+			return ((DoubleToIntFunction<RuntimeException>) function).apply(Double.longBitsToDouble(bits));
+		case DOUBLE_TO_LONG:
+			return ((DoubleToLongFunction<RuntimeException>) function).apply(Double.longBitsToDouble(bits));
+		default:
+			return Double.doubleToRawLongBits(
+					((DoubleUnaryOperator<RuntimeException>) function).apply(Double.longBitsToDouble(bits)));
+		}
+	}
+
+	private Object absent(int terminal, Object argument) {
+		if (terminal == OR_ELSE) {
+			return argument;
+		}
+		if (terminal == IF_PRESENT) {
+			return null;
+		}
+		switch (outputKind) {
+		case REFERENCE:
+			return Maybe.nothing();
+		case INT:
+			return MaybeInt.noInt();
+		case LONG:
+			return MaybeLong.noLong();
+		default:
+			return MaybeDouble.nothing();
+		}
+	}
+
+}
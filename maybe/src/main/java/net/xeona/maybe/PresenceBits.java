@@ -0,0 +1,108 @@
+package net.xeona.maybe;
+
+/**
+ * Operations on the {@code long[]} presence bitmaps that back the primitive optional arrays, one bit per element with
+ * element {@code i} held in bit {@code i % 64} of word {@code i / 64}.
+ * <p />
+ * Callers check their own indices against the array length; these methods only ever see indices in range, so the
+ * unused high bits of the last word are never set.
+ */
+final class PresenceBits {
+
+	private static final int ADDRESS_BITS_PER_WORD = 6;
+
+	private static final long ALL_BITS = -1L;
+
+	private PresenceBits() {}
+
+	static long[] forLength(int length) {
+		return new long[(length + Long.SIZE - 1) >>> ADDRESS_BITS_PER_WORD];
+	}
+
+	static boolean isSet(long[] words, int index) {
+		return (words[index >>> ADDRESS_BITS_PER_WORD] & (1L << index)) != 0;
+	}
+
+	static void set(long[] words, int index) {
+		words[index >>> ADDRESS_BITS_PER_WORD] |= 1L << index;
+	}
+
+	static void clear(long[] words, int index) {
+		words[index >>> ADDRESS_BITS_PER_WORD] &= ~(1L << index);
+	}
+
+	static void set(long[] words, int fromIndex, int toIndex) {
+		if (fromIndex == toIndex) {
+			return;
+		}
+		int fromWord = fromIndex >>> ADDRESS_BITS_PER_WORD;
+		int toWord = (toIndex - 1) >>> ADDRESS_BITS_PER_WORD;
+		long fromMask = ALL_BITS << fromIndex;
+		long toMask = ALL_BITS >>> -toIndex;
+		if (fromWord == toWord) {
+			words[fromWord] |= fromMask & toMask;
+		} else {
+			words[fromWord] |= fromMask;
+			for (int word = fromWord + 1; word < toWord; word++) {
+				words[word] = ALL_BITS;
+			}
+			words[toWord] |= toMask;
+		}
+	}
+
+	static void clear(long[] words, int fromIndex, int toIndex) {
+		if (fromIndex == toIndex) {
+			return;
+		}
+		int fromWord = fromIndex >>> ADDRESS_BITS_PER_WORD;
+		int toWord = (toIndex - 1) >>> ADDRESS_BITS_PER_WORD;
+		long fromMask = ALL_BITS << fromIndex;
+		long toMask = ALL_BITS >>> -toIndex;
+		if (fromWord == toWord) {
+			words[fromWord] &= ~(fromMask & toMask);
+		} else {
+			words[fromWord] &= ~fromMask;
+			for (int word = fromWord + 1; word < toWord; word++) {
+				words[word] = 0;
+			}
+			words[toWord] &= ~toMask;
+		}
+	}
+
+	static int count(long[] words) {
+		int count = 0;
+		for (long word : words) {
+			count += Long.bitCount(word);
+		}
+		return count;
+	}
+
+	static boolean isFull(long bits) {
+		return bits == ALL_BITS;
+	}
+
+	static int wordStart(int word) {
+		return word << ADDRESS_BITS_PER_WORD;
+	}
+
+	static int indexOf(int word, long bits) {
+		return wordStart(word) + Long.numberOfTrailingZeros(bits);
+	}
+
+	static void checkIndex(int index, int length) {
+		if (index < 0 || index >= length) {
+			throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + length);
+		}
+	}
+
+	static void checkRange(int fromIndex, int toIndex, int length) {
+		if (fromIndex > toIndex) {
+			throw new IllegalArgumentException("From index " + fromIndex + " is greater than to index " + toIndex);
+		}
+		if (fromIndex < 0 || toIndex > length) {
+			throw new IndexOutOfBoundsException(
+					"Range [" + fromIndex + ", " + toIndex + ") out of bounds for length " + length);
+		}
+	}
+
+}